@@ -0,0 +1,35 @@
+package org.erp_microservices.peopleandorganizations.api.application.dto;
+
+import org.erp_microservices.peopleandorganizations.api.infrastructure.outbox.PartyChangeMessage;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record PartyChange(
+    String sequence,
+    String changeType,
+    String aggregateType,
+    UUID aggregateId,
+    String partyType,
+    String fromPartyId,
+    String toPartyId,
+    String occurredAt
+) {
+
+    public static PartyChange from(PartyChangeMessage message) {
+        Map<String, Object> payload = message.payload();
+        return new PartyChange(
+                Long.toString(message.sequence()),
+                message.changeType(),
+                message.aggregateType(),
+                message.aggregateId(),
+                text(payload.get("partyType")),
+                text(payload.get("fromPartyId")),
+                text(payload.get("toPartyId")),
+                message.occurredAt().toString());
+    }
+
+    private static String text(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
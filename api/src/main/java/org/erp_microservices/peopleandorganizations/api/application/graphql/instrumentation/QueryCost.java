@@ -0,0 +1,9 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.instrumentation;
+
+/**
+ * Estimated cost of an operation before it runs, and the depth of its deepest field.
+ */
+public record QueryCost(
+    long cost,
+    int depth
+) {}
@@ -0,0 +1,111 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.instrumentation;
+
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.CoercedVariables;
+import graphql.language.Document;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLTypeUtil;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Estimates what an operation will fetch from its shape alone. Every field costs 1 plus its children's
+ * cost multiplied by the number of items the field returns: the {@code size} or {@code first} argument
+ * for paged fields (defaults included), one for the page's own content/edges lists, and
+ * {@code defaultListSize} for lists the client cannot bound. Introspection is free.
+ */
+public class QueryCostCalculator {
+
+    private static final String[] PAGE_SIZE_ARGUMENTS = {"size", "first"};
+
+    private final int defaultListSize;
+
+    public QueryCostCalculator(int defaultListSize) {
+        this.defaultListSize = defaultListSize;
+    }
+
+    public QueryCost calculate(GraphQLSchema schema, Document document, String operationName,
+                               CoercedVariables variables) {
+        QueryTraverser traverser = QueryTraverser.newQueryTraverser()
+                .schema(schema)
+                .document(document)
+                .operationName(operationName)
+                .coercedVariables(variables)
+                .build();
+
+        Map<QueryVisitorFieldEnvironment, Long> childCosts = new HashMap<>();
+        long[] total = {0};
+        int[] maxDepth = {0};
+
+        traverser.visitPostOrder(new QueryVisitorStub() {
+            @Override
+            public void visitField(QueryVisitorFieldEnvironment environment) {
+                if (isIntrospection(environment)) {
+                    return;
+                }
+                maxDepth[0] = Math.max(maxDepth[0], depth(environment));
+
+                long children = childCosts.getOrDefault(environment, 0L);
+                long cost = saturatedAdd(1, saturatedMultiply(multiplier(environment), children));
+
+                QueryVisitorFieldEnvironment parent = environment.getParentEnvironment();
+                if (parent == null) {
+                    total[0] = saturatedAdd(total[0], cost);
+                } else {
+                    childCosts.merge(parent, cost, QueryCostCalculator::saturatedAdd);
+                }
+            }
+        });
+        return new QueryCost(total[0], maxDepth[0]);
+    }
+
+    private static boolean isIntrospection(QueryVisitorFieldEnvironment environment) {
+        return environment.getField().getName().startsWith("__")
+                || GraphQLTypeUtil.unwrapAll(environment.getParentType()).getName().startsWith("__");
+    }
+
+    private long multiplier(QueryVisitorFieldEnvironment environment) {
+        Integer pageSize = pageSize(environment.getArguments());
+        if (pageSize != null) {
+            return Math.max(pageSize, 1);
+        }
+        if (!GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType()))) {
+            return 1;
+        }
+        QueryVisitorFieldEnvironment parent = environment.getParentEnvironment();
+        boolean boundedByParent = parent != null && pageSize(parent.getArguments()) != null;
+        return boundedByParent ? 1 : defaultListSize;
+    }
+
+    private static Integer pageSize(Map<String, Object> arguments) {
+        for (String name : PAGE_SIZE_ARGUMENTS) {
+            if (arguments.get(name) instanceof Integer size) {
+                return size;
+            }
+        }
+        return null;
+    }
+
+    private static int depth(QueryVisitorFieldEnvironment environment) {
+        int depth = 0;
+        for (QueryVisitorFieldEnvironment current = environment; current != null;
+                current = current.getParentEnvironment()) {
+            depth++;
+        }
+        return depth;
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long product = a * b;
+        return high != 0 || product < 0 ? Long.MAX_VALUE : product;
+    }
+}
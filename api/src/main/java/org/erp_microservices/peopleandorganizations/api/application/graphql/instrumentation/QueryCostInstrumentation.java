@@ -0,0 +1,128 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.instrumentation;
+
+import graphql.ExecutionResult;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost-based admission for GraphQL operations. Each validated operation is costed before it executes
+ * (see {@link QueryCostCalculator}) and then:
+ * <ul>
+ *   <li>rejected when it is deeper than {@code max-depth} or costs more than {@code max-cost};</li>
+ *   <li>otherwise admitted against a shared budget of {@code concurrent-cost} units, waiting up to
+ *       {@code admission-timeout} for expensive operations in flight to finish, and rejected if the
+ *       budget does not free up in time.</li>
+ * </ul>
+ * Cheap operations hold few units, and the budget is not handed out in arrival order: an operation
+ * whose units are free is admitted straight away, even while a more expensive one waits for its
+ * share, so a burst of large queries queues behind itself instead of holding up everything else. An
+ * expensive operation that keeps losing the race is throttled after {@code admission-timeout}. Costs
+ * are recorded in the {@code graphql.query.cost} histogram, tagged with the admission outcome.
+ */
+@Component
+@Slf4j
+public class QueryCostInstrumentation implements Instrumentation {
+
+    static final String METER_NAME = "graphql.query.cost";
+
+    private final QueryCostCalculator calculator;
+    private final MeterRegistry meterRegistry;
+    private final int maxDepth;
+    private final long maxCost;
+    private final int concurrentCost;
+    private final Duration admissionTimeout;
+    private final Semaphore budget;
+
+    public QueryCostInstrumentation(MeterRegistry meterRegistry,
+                                    @Value("${query-limits.max-depth:15}") int maxDepth,
+                                    @Value("${query-limits.max-cost:10000}") long maxCost,
+                                    @Value("${query-limits.concurrent-cost:50000}") int concurrentCost,
+                                    @Value("${query-limits.admission-timeout:PT2S}") Duration admissionTimeout,
+                                    @Value("${query-limits.default-list-size:10}") int defaultListSize) {
+        if (maxCost > concurrentCost) {
+            throw new IllegalArgumentException("query-limits.max-cost must not exceed query-limits.concurrent-cost");
+        }
+        this.calculator = new QueryCostCalculator(defaultListSize);
+        this.meterRegistry = meterRegistry;
+        this.maxDepth = maxDepth;
+        this.maxCost = maxCost;
+        this.concurrentCost = concurrentCost;
+        this.admissionTimeout = admissionTimeout;
+        this.budget = new Semaphore(concurrentCost);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+        ExecutionContext context = parameters.getExecutionContext();
+        QueryCost queryCost = calculator.calculate(context.getGraphQLSchema(), context.getDocument(),
+                context.getOperationDefinition().getName(), context.getCoercedVariables());
+
+        if (queryCost.depth() > maxDepth) {
+            throw reject(queryCost, "rejected", "Query depth " + queryCost.depth() + " exceeds the maximum of " + maxDepth);
+        }
+        if (queryCost.cost() > maxCost) {
+            throw reject(queryCost, "rejected", "Query cost " + queryCost.cost() + " exceeds the maximum of " + maxCost);
+        }
+
+        int permits = (int) Math.max(queryCost.cost(), 1);
+        if (!acquire(permits)) {
+            throw reject(queryCost, "throttled", "Server is busy, retry the query later");
+        }
+        record(queryCost, "admitted");
+        return SimpleInstrumentationContext.whenCompleted((result, failure) -> budget.release(permits));
+    }
+
+    /**
+     * Units currently available to new operations; for tests and diagnostics.
+     */
+    int availableBudget() {
+        return budget.availablePermits();
+    }
+
+    int concurrentCost() {
+        return concurrentCost;
+    }
+
+    int waitingOperations() {
+        return budget.getQueueLength();
+    }
+
+    private boolean acquire(int permits) {
+        try {
+            return budget.tryAcquire(permits, admissionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private AbortExecutionException reject(QueryCost queryCost, String outcome, String message) {
+        log.debug("{} operation with cost {} and depth {}: {}", outcome, queryCost.cost(), queryCost.depth(), message);
+        record(queryCost, outcome);
+        return new AbortExecutionException(message);
+    }
+
+    private void record(QueryCost queryCost, String outcome) {
+        DistributionSummary.builder(METER_NAME)
+                .description("Estimated cost of GraphQL operations")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(queryCost.cost());
+    }
+}
@@ -0,0 +1,217 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.instrumentation;
+
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.metrics.SqlActivity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the Hibernate work each GraphQL request causes, tagged with the operation name, and the work
+ * done inside each field's data fetcher, tagged with its schema coordinate ({@code ParentType.fieldName}).
+ *
+ * <p>Tags are kept bounded, since every distinct value is a new set of meters. Field coordinates come from
+ * the schema. Operation names are chosen by clients, so only the first {@code sql-metrics.max-operation-names}
+ * distinct names are used as tags; operations named after that are recorded under their operation type
+ * ({@code query}, {@code mutation}, {@code subscription}) and unnamed ones as {@value #ANONYMOUS}.
+ *
+ * <p>The request activity is bound to the calling thread while the operation is dispatched and unbound
+ * once it has been, which always happens on that thread. Each non-trivial fetcher gets its own child
+ * {@link SqlActivity}, handed over through a copy of the GraphQL context so it follows the fetcher onto
+ * whichever thread runs it; fields resolved concurrently are therefore still counted apart. The field is
+ * recorded when its result completes.
+ *
+ * <p>Field meters are only recorded for fetches that touched the database. Batch loaders run when the
+ * data loaders are dispatched rather than inside a field fetch, so their statements show up in the
+ * operation totals only; a field whose per-row statement count grows with the result size is the N+1
+ * signature these meters exist to catch.
+ */
+@Component
+public class SqlMetricsInstrumentation implements Instrumentation {
+
+    static final String ANONYMOUS = "anonymous";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxOperationNames;
+    private final Set<String> operationNames = ConcurrentHashMap.newKeySet();
+
+    public SqlMetricsInstrumentation(MeterRegistry meterRegistry,
+                                     @Value("${sql-metrics.max-operation-names:200}") int maxOperationNames) {
+        if (maxOperationNames < 0) {
+            throw new IllegalArgumentException("sql-metrics.max-operation-names must not be negative");
+        }
+        this.meterRegistry = meterRegistry;
+        this.maxOperationNames = maxOperationNames;
+    }
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return new RequestState();
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecution(InstrumentationExecutionParameters parameters,
+                                                                  InstrumentationState state) {
+        RequestState request = (RequestState) state;
+        parameters.getExecutionInput().getGraphQLContext().put(SqlActivity.CONTEXT_KEY, request.activity);
+        SqlActivity.Snapshot start = request.activity.snapshot();
+        Binding binding = new Binding(request.activity);
+
+        return new InstrumentationContext<>() {
+            @Override
+            public void onDispatched() {
+                binding.release();
+            }
+
+            @Override
+            public void onCompleted(ExecutionResult result, Throwable failure) {
+                // Only reached without a dispatch when the request failed before execution started
+                binding.release();
+                record("graphql.operation", request.activity.snapshot().since(start),
+                        "operation", request.operation);
+            }
+        };
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            InstrumentationExecuteOperationParameters parameters, InstrumentationState state) {
+        OperationDefinition operation = parameters.getExecutionContext().getOperationDefinition();
+        ((RequestState) state).operation = operationTag(operation.getName(), operation.getOperation());
+        return SimpleInstrumentationContext.noOp();
+    }
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher,
+                                                InstrumentationFieldFetchParameters parameters,
+                                                InstrumentationState state) {
+        if (parameters.isTrivialDataFetcher()) {
+            return dataFetcher;
+        }
+        RequestState request = (RequestState) state;
+        return environment -> {
+            SqlActivity field = request.activity.child();
+            DataFetchingEnvironment fieldEnvironment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment(environment)
+                    .graphQLContext(GraphQLContext.newContext()
+                            .of(environment.getGraphQlContext())
+                            .put(SqlActivity.CONTEXT_KEY, field)
+                            .build())
+                    .build();
+
+            Object result;
+            SqlActivity previous = SqlActivity.bind(field);
+            try {
+                result = dataFetcher.get(fieldEnvironment);
+            } finally {
+                SqlActivity.restore(previous);
+            }
+
+            if (result instanceof CompletionStage<?> pending) {
+                return pending.whenComplete((value, failure) -> recordField(request, environment, field));
+            }
+            recordField(request, environment, field);
+            return result;
+        };
+    }
+
+    /**
+     * The operation name while fewer than the configured number of distinct names have been seen, the
+     * operation type after that.
+     */
+    String operationTag(String name, OperationDefinition.Operation type) {
+        if (name == null) {
+            return ANONYMOUS;
+        }
+        if (operationNames.contains(name)) {
+            return name;
+        }
+        synchronized (operationNames) {
+            if (operationNames.size() < maxOperationNames) {
+                operationNames.add(name);
+                return name;
+            }
+        }
+        return type.name().toLowerCase(Locale.ROOT);
+    }
+
+    static String fieldCoordinate(DataFetchingEnvironment environment) {
+        return environment.getExecutionStepInfo().getObjectType().getName()
+                + "." + environment.getFieldDefinition().getName();
+    }
+
+    private void recordField(RequestState request, DataFetchingEnvironment environment, SqlActivity field) {
+        SqlActivity.Snapshot fetched = field.snapshot();
+        if (!fetched.isEmpty()) {
+            record("graphql.field", fetched, "operation", request.operation, "field", fieldCoordinate(environment));
+        }
+    }
+
+    private void record(String prefix, SqlActivity.Snapshot work, String... tags) {
+        DistributionSummary.builder(prefix + ".sql.statements")
+                .description("SQL statements prepared by Hibernate")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(work.statements());
+        Timer.builder(prefix + ".sql.time")
+                .description("Time spent executing JDBC statements and batches")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(work.jdbcNanos()));
+        DistributionSummary.builder(prefix + ".entity.loads")
+                .description("Entities loaded from JDBC results")
+                .baseUnit("entities")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(work.entityLoads());
+    }
+
+    private static final class RequestState implements InstrumentationState {
+
+        private final SqlActivity activity = new SqlActivity();
+        private volatile String operation = ANONYMOUS;
+    }
+
+    /**
+     * The request activity bound to the thread that started the execution, restored to what was bound
+     * before on the first release from that thread; a release from any other thread leaves it alone.
+     */
+    private static final class Binding {
+
+        private final Thread thread = Thread.currentThread();
+        private final SqlActivity previous;
+        private boolean released;
+
+        private Binding(SqlActivity activity) {
+            this.previous = SqlActivity.bind(activity);
+        }
+
+        private void release() {
+            if (Thread.currentThread() == thread && !released) {
+                released = true;
+                SqlActivity.restore(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.pagination;
+
+import graphql.relay.ConnectionCursor;
+import graphql.relay.DefaultConnectionCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque Relay cursor for keyset pagination. The cursor carries the id of the last row a client has seen,
+ * so the next page starts with {@code id > cursor} instead of skipping rows with an OFFSET.
+ */
+public final class KeysetCursor {
+
+    private static final String PREFIX = "party:";
+
+    private KeysetCursor() {
+    }
+
+    public static ConnectionCursor encode(UUID id) {
+        String value = PREFIX + id;
+        return new DefaultConnectionCursor(
+                Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static UUID decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        if (!value.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        try {
+            return UUID.fromString(value.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
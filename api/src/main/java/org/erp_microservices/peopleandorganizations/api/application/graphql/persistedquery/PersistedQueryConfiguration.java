@@ -0,0 +1,32 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.persistedquery;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PersistedQueryConfiguration {
+
+    @Bean
+    public PersistedQueryDocumentProvider persistedQueryDocumentProvider(
+            MeterRegistry meterRegistry,
+            @Value("${persisted-queries.max-documents:1000}") long maxDocuments) {
+        Cache<String, PreparsedDocumentEntry> documents = Caffeine.newBuilder()
+                .maximumSize(maxDocuments)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, documents, "graphql.documents");
+        return new PersistedQueryDocumentProvider(documents);
+    }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedQueryCustomizer(PersistedQueryDocumentProvider documentProvider) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documentProvider));
+    }
+}
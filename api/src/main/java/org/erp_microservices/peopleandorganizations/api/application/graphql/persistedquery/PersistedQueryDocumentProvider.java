@@ -0,0 +1,88 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.persistedquery;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Automatic persisted queries (the Apollo APQ protocol) on top of a bounded cache of parsed and
+ * validated documents keyed by the SHA-256 of the query text.
+ *
+ * <ul>
+ *   <li>A request carrying only {@code extensions.persistedQuery.sha256Hash} is served from the cache,
+ *       or answered with {@code PersistedQueryNotFound} so the client resends it with the query.</li>
+ *   <li>A request carrying both registers the query after checking that the hash matches it.</li>
+ *   <li>A plain request is cached under the hash of its text, so clients that do not speak APQ still
+ *       skip parsing and validation for repeated operations.</li>
+ * </ul>
+ * Validation results are cached with the document, as they depend only on the document and the schema.
+ * Over HTTP, Spring GraphQL passes a request without {@code query} through with
+ * {@link PersistedQuerySupport#PERSISTED_QUERY_MARKER} as its text, which counts as no query here.
+ */
+public class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA256_HASH = "sha256Hash";
+
+    private final Cache<String, PreparsedDocumentEntry> documents;
+
+    public PersistedQueryDocumentProvider(Cache<String, PreparsedDocumentEntry> documents) {
+        this.documents = documents;
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        String query = executionInput.getQuery();
+        boolean hasQuery = query != null && !query.isBlank()
+                && !PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query);
+        String hash = persistedQueryHash(executionInput.getExtensions());
+
+        if (hash == null) {
+            return CompletableFuture.completedFuture(hasQuery
+                    ? documents.get(sha256(query), key -> parseAndValidate.apply(executionInput))
+                    : parseAndValidate.apply(executionInput));
+        }
+        if (!hasQuery) {
+            PreparsedDocumentEntry cached = documents.getIfPresent(hash);
+            return CompletableFuture.completedFuture(cached != null
+                    ? cached
+                    : new PreparsedDocumentEntry(new PersistedQueryNotFound(hash)));
+        }
+        if (!hash.equals(sha256(query))) {
+            return CompletableFuture.completedFuture(new PreparsedDocumentEntry(new PersistedQueryIdInvalid(hash)));
+        }
+        return CompletableFuture.completedFuture(
+                documents.get(hash, key -> parseAndValidate.apply(executionInput)));
+    }
+
+    private static String persistedQueryHash(Map<String, Object> extensions) {
+        if (extensions != null && extensions.get(PERSISTED_QUERY) instanceof Map<?, ?> persistedQuery
+                && persistedQuery.get(SHA256_HASH) instanceof String hash && !hash.isBlank()) {
+            return hash.toLowerCase(Locale.ROOT);
+        }
+        return null;
+    }
+
+    static String sha256(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
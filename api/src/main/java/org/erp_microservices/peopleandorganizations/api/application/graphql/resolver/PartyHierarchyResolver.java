@@ -0,0 +1,118 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.resolver;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Organization;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.OrganizationHierarchyNode;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipClosure;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRepository;
+import org.erp_microservices.peopleandorganizations.api.domain.service.OrganizationHierarchyService;
+import org.erp_microservices.peopleandorganizations.api.domain.service.PartyHierarchyService;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.ReferenceDataRegistry;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class PartyHierarchyResolver {
+
+    private final PartyHierarchyService partyHierarchyService;
+    private final OrganizationHierarchyService organizationHierarchyService;
+    private final PartyRepository partyRepository;
+    private final ReferenceDataRegistry referenceData;
+
+    @QueryMapping
+    public List<PartyRelationshipClosure> descendants(@Argument String partyId,
+                                                      @Argument String relationshipTypeId) {
+        log.debug("Fetching descendants of party: {} - relationship type: {}", partyId, relationshipTypeId);
+        return partyHierarchyService.descendants(UUID.fromString(partyId), optionalId(relationshipTypeId));
+    }
+
+    @QueryMapping
+    public List<PartyRelationshipClosure> ancestors(@Argument String partyId,
+                                                    @Argument String relationshipTypeId) {
+        log.debug("Fetching ancestors of party: {} - relationship type: {}", partyId, relationshipTypeId);
+        return partyHierarchyService.ancestors(UUID.fromString(partyId), optionalId(relationshipTypeId));
+    }
+
+    @QueryMapping
+    public List<OrganizationHierarchyNode> organizationSubtree(@Argument String organizationId,
+                                                               @Argument Integer maxDepth) {
+        log.debug("Fetching organization subtree of: {} - maxDepth: {}", organizationId, maxDepth);
+        return organizationHierarchyService.subtree(UUID.fromString(organizationId), maxDepth);
+    }
+
+    @BatchMapping(typeName = "OrganizationHierarchyNode")
+    @Transactional(readOnly = true)
+    public Map<OrganizationHierarchyNode, Organization> organization(List<OrganizationHierarchyNode> nodes) {
+        List<UUID> organizationIds = nodes.stream().map(OrganizationHierarchyNode::organizationId).toList();
+        Map<UUID, Organization> organizationsById = partyRepository.findAllById(organizationIds).stream()
+                .filter(Organization.class::isInstance)
+                .map(Organization.class::cast)
+                .collect(Collectors.toMap(Party::getId, Function.identity()));
+
+        Map<OrganizationHierarchyNode, Organization> result = new LinkedHashMap<>();
+        for (OrganizationHierarchyNode node : nodes) {
+            Organization organization = organizationsById.get(node.organizationId());
+            if (organization != null) {
+                result.put(node, organization);
+            }
+        }
+        return result;
+    }
+
+    @BatchMapping(typeName = "PartyRelationshipClosure")
+    @Transactional(readOnly = true)
+    public Map<PartyRelationshipClosure, Party> ancestor(List<PartyRelationshipClosure> rows) {
+        return resolveParties(rows, PartyRelationshipClosure::getAncestorPartyId);
+    }
+
+    @BatchMapping(typeName = "PartyRelationshipClosure")
+    @Transactional(readOnly = true)
+    public Map<PartyRelationshipClosure, Party> descendant(List<PartyRelationshipClosure> rows) {
+        return resolveParties(rows, PartyRelationshipClosure::getDescendantPartyId);
+    }
+
+    @BatchMapping(typeName = "PartyRelationshipClosure")
+    public Map<PartyRelationshipClosure, PartyRelationshipType> relationshipType(List<PartyRelationshipClosure> rows) {
+        Map<PartyRelationshipClosure, PartyRelationshipType> result = new LinkedHashMap<>();
+        for (PartyRelationshipClosure row : rows) {
+            referenceData.partyRelationshipTypes().find(row.getRelationshipTypeId())
+                    .ifPresent(type -> result.put(row, type));
+        }
+        return result;
+    }
+
+    private Map<PartyRelationshipClosure, Party> resolveParties(List<PartyRelationshipClosure> rows,
+                                                                Function<PartyRelationshipClosure, UUID> partyId) {
+        List<UUID> partyIds = rows.stream().map(partyId).distinct().toList();
+        Map<UUID, Party> partiesById = partyRepository.findAllById(partyIds).stream()
+                .collect(Collectors.toMap(Party::getId, Function.identity()));
+
+        Map<PartyRelationshipClosure, Party> result = new LinkedHashMap<>();
+        for (PartyRelationshipClosure row : rows) {
+            Party party = partiesById.get(partyId.apply(row));
+            if (party != null) {
+                result.put(row, party);
+            }
+        }
+        return result;
+    }
+
+    private static UUID optionalId(String id) {
+        return id == null ? null : UUID.fromString(id);
+    }
+}
@@ -0,0 +1,133 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.resolver;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyClassification;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyIdentification;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyName;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRole;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyHistoryRepository;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the effective-dated details of a party as of a date. Every party in a response asking for the
+ * same date is answered by one query per field, which only reads the rows in effect on that date.
+ * {@code @BatchMapping} cannot see field arguments, so the loaders are keyed by party and date instead.
+ */
+@Controller
+@Slf4j
+public class PartyHistoryResolver {
+
+    public PartyHistoryResolver(PartyHistoryRepository partyHistoryRepository, BatchLoaderRegistry registry) {
+        register(registry, "partyRoles", partyHistoryRepository::findRolesAsOf, PartyRole::getParty);
+        register(registry, "partyNames", partyHistoryRepository::findNamesAsOf, PartyName::getParty);
+        register(registry, "partyIdentifications", partyHistoryRepository::findIdentificationsAsOf,
+                PartyIdentification::getParty);
+        register(registry, "partyClassifications", partyHistoryRepository::findClassificationsAsOf,
+                PartyClassification::getParty);
+    }
+
+    @SchemaMapping(typeName = "Party")
+    public CompletableFuture<List<PartyRole>> roles(Party party, @Argument LocalDate asOf,
+                                                    DataLoader<PartyAsOf, List<PartyRole>> partyRoles) {
+        return partyRoles.load(PartyAsOf.of(party, asOf));
+    }
+
+    @SchemaMapping(typeName = "Party")
+    public CompletableFuture<List<PartyName>> names(Party party, @Argument LocalDate asOf,
+                                                    DataLoader<PartyAsOf, List<PartyName>> partyNames) {
+        return partyNames.load(PartyAsOf.of(party, asOf));
+    }
+
+    @SchemaMapping(typeName = "Party")
+    public CompletableFuture<List<PartyIdentification>> identifications(
+            Party party, @Argument LocalDate asOf,
+            DataLoader<PartyAsOf, List<PartyIdentification>> partyIdentifications) {
+        return partyIdentifications.load(PartyAsOf.of(party, asOf));
+    }
+
+    @SchemaMapping(typeName = "Party")
+    public CompletableFuture<List<PartyClassification>> classifications(
+            Party party, @Argument LocalDate asOf,
+            DataLoader<PartyAsOf, List<PartyClassification>> partyClassifications) {
+        return partyClassifications.load(PartyAsOf.of(party, asOf));
+    }
+
+    @SchemaMapping(typeName = "PartyRole")
+    public String roleType(PartyRole role) {
+        return role.getRoleType().getDescription();
+    }
+
+    @SchemaMapping(typeName = "PartyName")
+    public String nameType(PartyName name) {
+        return name.getNameType().getDescription();
+    }
+
+    @SchemaMapping(typeName = "PartyIdentification")
+    public String identificationType(PartyIdentification identification) {
+        return identification.getIdentificationType().getDescription();
+    }
+
+    @SchemaMapping(typeName = "PartyClassification")
+    public String classificationType(PartyClassification classification) {
+        return classification.getClassificationType().getDescription();
+    }
+
+    private static <T> void register(BatchLoaderRegistry registry, String name,
+                                     BiFunction<Collection<UUID>, LocalDate, List<T>> finder,
+                                     Function<T, Party> partyOf) {
+        registry.<PartyAsOf, List<T>>forName(name)
+                .registerMappedBatchLoader((keys, environment) ->
+                        Mono.fromCallable(() -> load(keys, finder, partyOf)));
+    }
+
+    /**
+     * Runs one query per distinct date among the keys and hands each key its party's rows, or an empty list.
+     */
+    static <T> Map<PartyAsOf, List<T>> load(Set<PartyAsOf> keys,
+                                            BiFunction<Collection<UUID>, LocalDate, List<T>> finder,
+                                            Function<T, Party> partyOf) {
+        Map<LocalDate, Set<UUID>> partyIdsByDate = keys.stream()
+                .collect(Collectors.groupingBy(PartyAsOf::asOf,
+                        Collectors.mapping(PartyAsOf::partyId, Collectors.toSet())));
+
+        Map<PartyAsOf, List<T>> result = new HashMap<>();
+        partyIdsByDate.forEach((asOf, partyIds) -> {
+            log.debug("Loading effective-dated rows of {} parties as of {}", partyIds.size(), asOf);
+            for (T row : finder.apply(partyIds, asOf)) {
+                result.computeIfAbsent(new PartyAsOf(partyOf.apply(row).getId(), asOf), key -> new ArrayList<>())
+                        .add(row);
+            }
+        });
+        keys.forEach(key -> result.putIfAbsent(key, List.of()));
+        return result;
+    }
+
+    /**
+     * Data loader key: a party and the date its details are read as of.
+     */
+    public record PartyAsOf(UUID partyId, LocalDate asOf) {
+
+        static PartyAsOf of(Party party, LocalDate asOf) {
+            return new PartyAsOf(party.getId(), asOf != null ? asOf : LocalDate.now());
+        }
+    }
+}
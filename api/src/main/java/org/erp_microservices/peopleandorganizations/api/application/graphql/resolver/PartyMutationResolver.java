@@ -10,6 +10,7 @@ import org.erp_microservices.peopleandorganizations.api.domain.model.party.Organ
 import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
 import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
 import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRepository;
+import org.erp_microservices.peopleandorganizations.api.domain.service.PartyChangeRecorder;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.stereotype.Controller;
@@ -24,6 +25,7 @@ import java.util.UUID;
 public class PartyMutationResolver {
 
     private final PartyRepository partyRepository;
+    private final PartyChangeRecorder changeRecorder;
 
     @MutationMapping
     public Person createPerson(@Argument CreatePersonInput input) {
@@ -40,6 +42,7 @@ public class PartyMutationResolver {
         person.setComment(input.getComment());
 
         Party savedParty = partyRepository.save(person);
+        changeRecorder.partyCreated(savedParty);
         log.info("Created person with id: {}", savedParty.getId());
 
         return (Person) savedParty;
@@ -80,6 +83,7 @@ public class PartyMutationResolver {
         }
 
         Party updatedParty = partyRepository.save(person);
+        changeRecorder.partyUpdated(updatedParty);
         log.info("Updated person with id: {}", updatedParty.getId());
 
         return (Person) updatedParty;
@@ -95,6 +99,7 @@ public class PartyMutationResolver {
         }
 
         partyRepository.deleteById(partyId);
+        changeRecorder.partyDeleted(partyId, "PERSON");
         log.info("Deleted person with id: {}", id);
 
         return true;
@@ -112,6 +117,7 @@ public class PartyMutationResolver {
         organization.setComment(input.getComment());
 
         Party savedParty = partyRepository.save(organization);
+        changeRecorder.partyCreated(savedParty);
         log.info("Created organization with id: {}", savedParty.getId());
 
         return (Organization) savedParty;
@@ -143,6 +149,7 @@ public class PartyMutationResolver {
         }
 
         Party updatedParty = partyRepository.save(organization);
+        changeRecorder.partyUpdated(updatedParty);
         log.info("Updated organization with id: {}", updatedParty.getId());
 
         return (Organization) updatedParty;
@@ -158,6 +165,7 @@ public class PartyMutationResolver {
         }
 
         partyRepository.deleteById(partyId);
+        changeRecorder.partyDeleted(partyId, "ORGANIZATION");
         log.info("Deleted organization with id: {}", id);
 
         return true;
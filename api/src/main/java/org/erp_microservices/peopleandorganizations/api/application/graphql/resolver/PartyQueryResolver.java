@@ -1,8 +1,16 @@
 package org.erp_microservices.peopleandorganizations.api.application.graphql.resolver;
 
+import graphql.relay.Connection;
+import graphql.relay.ConnectionCursor;
+import graphql.relay.DefaultConnection;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.application.graphql.pagination.KeysetCursor;
 import org.erp_microservices.peopleandorganizations.api.domain.model.party.Organization;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
 import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
 import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRepository;
 import org.springframework.data.domain.Page;
@@ -10,8 +18,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,6 +30,8 @@ import java.util.UUID;
 @Slf4j
 public class PartyQueryResolver {
 
+    static final int MAX_CONNECTION_SIZE = 100;
+
     private final PartyRepository partyRepository;
 
     @QueryMapping
@@ -55,4 +67,54 @@ public class PartyQueryResolver {
         return partyRepository.findByPartyType("ORGANIZATION", pageable)
                 .map(party -> (Organization) party);
     }
+
+    @QueryMapping
+    public Connection<Person> peopleConnection(@Argument int first,
+                                               @Argument String after) {
+        log.debug("Fetching people connection - first: {}, after: {}", first, after);
+        return partyConnection("PERSON", first, after, Person.class);
+    }
+
+    @QueryMapping
+    public Connection<Organization> organizationsConnection(@Argument int first,
+                                                            @Argument String after) {
+        log.debug("Fetching organizations connection - first: {}, after: {}", first, after);
+        return partyConnection("ORGANIZATION", first, after, Organization.class);
+    }
+
+    /**
+     * Only runs when a client selects {@code totalCount}, so plain page walks never pay for a COUNT(*).
+     */
+    @SchemaMapping(typeName = "PersonConnection", field = "totalCount")
+    public long personTotalCount() {
+        return partyRepository.countByPartyType("PERSON");
+    }
+
+    @SchemaMapping(typeName = "OrganizationConnection", field = "totalCount")
+    public long organizationTotalCount() {
+        return partyRepository.countByPartyType("ORGANIZATION");
+    }
+
+    /**
+     * Reads one row past the requested page to learn whether there is a next page without counting.
+     * Pages are capped at {@value #MAX_CONNECTION_SIZE} edges; a client asking for more gets a full page
+     * and {@code hasNextPage}.
+     */
+    private <T extends Party> Connection<T> partyConnection(String partyType, int first, String after, Class<T> type) {
+        if (first < 1) {
+            throw new IllegalArgumentException("first must be greater than zero");
+        }
+        int size = Math.min(first, MAX_CONNECTION_SIZE);
+        List<Party> rows = partyRepository.findByPartyTypeAfter(partyType, KeysetCursor.decode(after), size + 1);
+
+        List<Edge<T>> edges = rows.stream()
+                .limit(size)
+                .map(party -> (Edge<T>) new DefaultEdge<>(type.cast(party), KeysetCursor.encode(party.getId())))
+                .toList();
+
+        ConnectionCursor startCursor = edges.isEmpty() ? null : edges.get(0).getCursor();
+        ConnectionCursor endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+        return new DefaultConnection<>(edges,
+                new DefaultPageInfo(startCursor, endCursor, after != null, rows.size() > size));
+    }
 }
@@ -8,18 +8,31 @@ import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party
 import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
 import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
 import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRelationshipRepository;
-import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRelationshipTypeRepository;
 import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRepository;
+import org.erp_microservices.peopleandorganizations.api.domain.service.OrganizationHierarchyService;
+import org.erp_microservices.peopleandorganizations.api.domain.service.PartyChangeRecorder;
+import org.erp_microservices.peopleandorganizations.api.domain.service.PartyHierarchyService;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.ReferenceDataRegistry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Controller
 @RequiredArgsConstructor
@@ -27,17 +40,27 @@ import java.util.UUID;
 @Transactional
 public class PartyRelationshipResolver {
 
+    private static final Sort RELATIONSHIP_ORDER = Sort.by(Sort.Order.desc("fromDate"), Sort.Order.asc("id"));
+
     private final PartyRepository partyRepository;
     private final PartyRelationshipRepository partyRelationshipRepository;
-    private final PartyRelationshipTypeRepository partyRelationshipTypeRepository;
+    private final ReferenceDataRegistry referenceData;
+    private final PartyChangeRecorder changeRecorder;
+    private final PartyHierarchyService partyHierarchyService;
+    private final OrganizationHierarchyService organizationHierarchyService;
 
     @QueryMapping
-    public List<PartyRelationship> partyRelationships(@Argument String partyId,
-                                                     @Argument int page,
-                                                     @Argument int size) {
-        log.debug("Fetching party relationships for party: {}", partyId);
+    public Page<PartyRelationship> partyRelationships(@Argument String partyId,
+                                                      @Argument LocalDate asOf,
+                                                      @Argument int page,
+                                                      @Argument int size) {
+        log.debug("Fetching party relationships for party: {} - asOf: {}, page: {}, size: {}", partyId, asOf, page, size);
         UUID partyUuid = UUID.fromString(partyId);
-        return partyRelationshipRepository.findByPartyId(partyUuid);
+        Pageable pageable = PageRequest.of(page, size, RELATIONSHIP_ORDER);
+        if (asOf != null) {
+            return partyRelationshipRepository.findByPartyId(partyUuid, asOf, pageable);
+        }
+        return partyRelationshipRepository.findByPartyId(partyUuid, pageable);
     }
 
     @QueryMapping
@@ -49,13 +72,35 @@ public class PartyRelationshipResolver {
     @QueryMapping
     public List<PartyRelationshipType> partyRelationshipTypes() {
         log.debug("Fetching all party relationship types");
-        return partyRelationshipTypeRepository.findAll();
+        return referenceData.partyRelationshipTypes().all();
     }
 
     @QueryMapping
     public Optional<PartyRelationshipType> partyRelationshipType(@Argument String id) {
         log.debug("Fetching party relationship type with id: {}", id);
-        return partyRelationshipTypeRepository.findById(UUID.fromString(id));
+        return referenceData.partyRelationshipTypes().find(UUID.fromString(id));
+    }
+
+    @BatchMapping(typeName = "PartyRelationship")
+    @Transactional(readOnly = true)
+    public Map<PartyRelationship, Party> fromParty(List<PartyRelationship> relationships) {
+        return resolveParties(relationships, PartyRelationship::getFromParty);
+    }
+
+    @BatchMapping(typeName = "PartyRelationship")
+    @Transactional(readOnly = true)
+    public Map<PartyRelationship, Party> toParty(List<PartyRelationship> relationships) {
+        return resolveParties(relationships, PartyRelationship::getToParty);
+    }
+
+    @BatchMapping(typeName = "PartyRelationship")
+    public Map<PartyRelationship, PartyRelationshipType> relationshipType(List<PartyRelationship> relationships) {
+        Map<PartyRelationship, PartyRelationshipType> result = new LinkedHashMap<>();
+        for (PartyRelationship relationship : relationships) {
+            referenceData.partyRelationshipTypes().find(relationship.getRelationshipType().getId())
+                    .ifPresent(type -> result.put(relationship, type));
+        }
+        return result;
     }
 
     @MutationMapping
@@ -68,7 +113,7 @@ public class PartyRelationshipResolver {
         Party toParty = partyRepository.findById(UUID.fromString(input.getToPartyId()))
                 .orElseThrow(() -> new IllegalArgumentException("To party not found with id: " + input.getToPartyId()));
 
-        PartyRelationshipType relationshipType = partyRelationshipTypeRepository.findById(UUID.fromString(input.getRelationshipTypeId()))
+        PartyRelationshipType relationshipType = referenceData.partyRelationshipTypes().find(UUID.fromString(input.getRelationshipTypeId()))
                 .orElseThrow(() -> new IllegalArgumentException("Relationship type not found with id: " + input.getRelationshipTypeId()));
 
         PartyRelationship relationship = PartyRelationship.builder()
@@ -81,6 +126,9 @@ public class PartyRelationshipResolver {
                 .build();
 
         PartyRelationship savedRelationship = partyRelationshipRepository.save(relationship);
+        changeRecorder.relationshipCreated(savedRelationship);
+        partyHierarchyService.relationshipChanged(savedRelationship);
+        organizationHierarchyService.relationshipChanged(savedRelationship);
         log.info("Created party relationship with id: {}", savedRelationship.getId());
 
         return savedRelationship;
@@ -102,6 +150,9 @@ public class PartyRelationshipResolver {
         }
 
         PartyRelationship updatedRelationship = partyRelationshipRepository.save(relationship);
+        changeRecorder.relationshipUpdated(updatedRelationship);
+        partyHierarchyService.relationshipChanged(updatedRelationship);
+        organizationHierarchyService.relationshipChanged(updatedRelationship);
         log.info("Updated party relationship with id: {}", updatedRelationship.getId());
 
         return updatedRelationship;
@@ -117,8 +168,35 @@ public class PartyRelationshipResolver {
         relationship.setThruDate(LocalDate.now());
 
         PartyRelationship terminatedRelationship = partyRelationshipRepository.save(relationship);
+        changeRecorder.relationshipTerminated(terminatedRelationship);
+        partyHierarchyService.relationshipChanged(terminatedRelationship);
+        organizationHierarchyService.relationshipChanged(terminatedRelationship);
         log.info("Terminated party relationship with id: {}", terminatedRelationship.getId());
 
         return terminatedRelationship;
     }
+
+    /**
+     * Loads the parties referenced by a batch of relationships with a single query. Only the identifier
+     * of each lazy association is read, so the proxies are never initialized one by one.
+     */
+    private Map<PartyRelationship, Party> resolveParties(List<PartyRelationship> relationships,
+                                                         Function<PartyRelationship, Party> association) {
+        Set<UUID> partyIds = relationships.stream()
+                .map(relationship -> association.apply(relationship).getId())
+                .collect(Collectors.toSet());
+        log.debug("Batch loading {} parties for {} relationships", partyIds.size(), relationships.size());
+
+        Map<UUID, Party> partiesById = partyRepository.findAllById(partyIds).stream()
+                .collect(Collectors.toMap(Party::getId, Function.identity()));
+
+        Map<PartyRelationship, Party> result = new LinkedHashMap<>();
+        for (PartyRelationship relationship : relationships) {
+            Party party = partiesById.get(association.apply(relationship).getId());
+            if (party != null) {
+                result.put(relationship, party);
+            }
+        }
+        return result;
+    }
 }
@@ -0,0 +1,71 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.resolver;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartySearchHit;
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartyTextSearchHit;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRepository;
+import org.erp_microservices.peopleandorganizations.api.domain.service.PartySearchService;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class PartySearchResolver {
+
+    private final PartySearchService partySearchService;
+    private final PartyRepository partyRepository;
+
+    @QueryMapping
+    public List<PartySearchHit> searchParties(@Argument String text,
+                                              @Argument Integer first) {
+        log.debug("Searching parties - text: {}, first: {}", text, first);
+        return partySearchService.searchByName(text, first);
+    }
+
+    @QueryMapping
+    public List<PartyTextSearchHit> searchPartiesFullText(@Argument String text,
+                                                          @Argument Integer first) {
+        log.debug("Full-text searching parties - text: {}, first: {}", text, first);
+        return partySearchService.searchFullText(text, first);
+    }
+
+    @BatchMapping(typeName = "PartySearchHit")
+    @Transactional(readOnly = true)
+    public Map<PartySearchHit, Party> party(List<PartySearchHit> hits) {
+        return resolveParties(hits, PartySearchHit::partyId);
+    }
+
+    @BatchMapping(typeName = "PartyTextSearchHit", field = "party")
+    @Transactional(readOnly = true)
+    public Map<PartyTextSearchHit, Party> textHitParty(List<PartyTextSearchHit> hits) {
+        return resolveParties(hits, PartyTextSearchHit::partyId);
+    }
+
+    private <H> Map<H, Party> resolveParties(List<H> hits, Function<H, UUID> partyId) {
+        List<UUID> partyIds = hits.stream().map(partyId).toList();
+        Map<UUID, Party> partiesById = partyRepository.findAllById(partyIds).stream()
+                .collect(Collectors.toMap(Party::getId, Function.identity()));
+
+        Map<H, Party> result = new LinkedHashMap<>();
+        for (H hit : hits) {
+            Party party = partiesById.get(partyId.apply(hit));
+            if (party != null) {
+                result.put(hit, party);
+            }
+        }
+        return result;
+    }
+}
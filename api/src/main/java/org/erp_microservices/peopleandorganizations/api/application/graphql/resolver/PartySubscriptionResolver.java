@@ -0,0 +1,76 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.resolver;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.application.dto.PartyChange;
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeEvent;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.outbox.PartyChangeBroadcaster;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.outbox.PartyChangeMessage;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Live party change feeds. Every subscription filters the one shared stream of the
+ * {@link PartyChangeBroadcaster}, so a change costs one notification per node however many clients
+ * are subscribed.
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class PartySubscriptionResolver {
+
+    private final PartyChangeBroadcaster broadcaster;
+
+    @SubscriptionMapping
+    public Flux<PartyChange> partyChanged(@Argument String partyId) {
+        UUID id = UUID.fromString(partyId);
+        log.debug("Subscribing to changes of party {}", id);
+        return broadcaster.changes()
+                .filter(change -> isPartyChange(change) && id.equals(change.aggregateId()))
+                .map(PartyChange::from);
+    }
+
+    /**
+     * Deletions recorded without a party type are delivered to every subscriber.
+     */
+    @SubscriptionMapping
+    public Flux<PartyChange> partiesChanged(@Argument List<String> types) {
+        Set<String> partyTypes = types == null ? Set.of() : types.stream()
+                .map(type -> type.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        log.debug("Subscribing to changes of parties of types {}", partyTypes);
+        return broadcaster.changes()
+                .filter(change -> isPartyChange(change) && matchesType(change, partyTypes))
+                .map(PartyChange::from);
+    }
+
+    @SubscriptionMapping
+    public Flux<PartyChange> relationshipChanged(@Argument String partyId) {
+        String id = UUID.fromString(partyId).toString();
+        log.debug("Subscribing to relationship changes of party {}", id);
+        return broadcaster.changes()
+                .filter(change -> PartyChangeEvent.PARTY_RELATIONSHIP.equals(change.aggregateType())
+                        && (id.equals(String.valueOf(change.payload().get("fromPartyId")))
+                            || id.equals(String.valueOf(change.payload().get("toPartyId")))))
+                .map(PartyChange::from);
+    }
+
+    private static boolean isPartyChange(PartyChangeMessage change) {
+        return PartyChangeEvent.PARTY.equals(change.aggregateType());
+    }
+
+    private static boolean matchesType(PartyChangeMessage change, Set<String> partyTypes) {
+        Object partyType = change.payload().get("partyType");
+        return partyTypes.isEmpty()
+                || partyType == null
+                || partyTypes.contains(partyType.toString().toUpperCase(Locale.ROOT));
+    }
+}
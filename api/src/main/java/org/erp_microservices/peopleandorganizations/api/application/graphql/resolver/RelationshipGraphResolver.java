@@ -0,0 +1,84 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.resolver;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraph;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraphEdge;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraphNode;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.TraversalDirection;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRepository;
+import org.erp_microservices.peopleandorganizations.api.domain.service.RelationshipGraphService;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.ReferenceDataRegistry;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class RelationshipGraphResolver {
+
+    private final RelationshipGraphService relationshipGraphService;
+    private final PartyRepository partyRepository;
+    private final ReferenceDataRegistry referenceData;
+
+    @QueryMapping
+    public RelationshipGraph relationshipGraph(@Argument String partyId,
+                                               @Argument List<String> types,
+                                               @Argument TraversalDirection direction,
+                                               @Argument Integer maxDepth,
+                                               @Argument LocalDate asOf) {
+        log.debug("Fetching relationship graph - party: {}, types: {}, direction: {}, maxDepth: {}, asOf: {}",
+                partyId, types, direction, maxDepth, asOf);
+        List<UUID> typeIds = types == null ? List.of() : types.stream().map(UUID::fromString).toList();
+        return relationshipGraphService.traverse(UUID.fromString(partyId), typeIds, direction, maxDepth, asOf);
+    }
+
+    @SchemaMapping(typeName = "RelationshipGraphEdge", field = "id")
+    public UUID edgeId(RelationshipGraphEdge edge) {
+        return edge.relationshipId();
+    }
+
+    /**
+     * Loads the parties of every node of every graph in the response with a single query.
+     */
+    @BatchMapping(typeName = "RelationshipGraphNode")
+    @Transactional(readOnly = true)
+    public Map<RelationshipGraphNode, Party> party(List<RelationshipGraphNode> nodes) {
+        List<UUID> partyIds = nodes.stream().map(RelationshipGraphNode::partyId).distinct().toList();
+        Map<UUID, Party> partiesById = partyRepository.findAllById(partyIds).stream()
+                .collect(Collectors.toMap(Party::getId, Function.identity()));
+
+        Map<RelationshipGraphNode, Party> result = new LinkedHashMap<>();
+        for (RelationshipGraphNode node : nodes) {
+            Party party = partiesById.get(node.partyId());
+            if (party != null) {
+                result.put(node, party);
+            }
+        }
+        return result;
+    }
+
+    @BatchMapping(typeName = "RelationshipGraphEdge")
+    public Map<RelationshipGraphEdge, PartyRelationshipType> relationshipType(List<RelationshipGraphEdge> edges) {
+        Map<RelationshipGraphEdge, PartyRelationshipType> result = new LinkedHashMap<>();
+        for (RelationshipGraphEdge edge : edges) {
+            referenceData.partyRelationshipTypes().find(edge.relationshipTypeId())
+                    .ifPresent(type -> result.put(edge, type));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+package org.erp_microservices.peopleandorganizations.api.application.rest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.export.PartyExportFormat;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.export.PartyExportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+/**
+ * Streams the full party export. The response is written while the database cursor is read, so
+ * neither side buffers the whole export.
+ */
+@RestController
+@RequestMapping("/api/parties")
+@RequiredArgsConstructor
+@Slf4j
+public class PartyExportController {
+
+    private final PartyExportService partyExportService;
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportParties(@RequestParam(defaultValue = "ndjson") String format) {
+        PartyExportFormat exportFormat = PartyExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        log.debug("Streaming party export as {}", exportFormat);
+
+        StreamingResponseBody body = out -> partyExportService.export(out, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"parties." + exportFormat.name().toLowerCase(Locale.ROOT) + "\"")
+                .body(body);
+    }
+}
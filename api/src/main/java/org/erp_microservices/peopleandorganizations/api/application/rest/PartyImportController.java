@@ -0,0 +1,38 @@
+package org.erp_microservices.peopleandorganizations.api.application.rest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport.PartyBulkImportService;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport.PartyImportFormat;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport.PartyImportReport;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Bulk onboarding endpoint. The request body is streamed straight into the importer, so files of any
+ * size can be posted: {@code text/csv} with a header row, or {@code application/x-ndjson}.
+ */
+@RestController
+@RequestMapping("/api/parties")
+@RequiredArgsConstructor
+@Slf4j
+public class PartyImportController {
+
+    private final PartyBulkImportService partyBulkImportService;
+
+    @PostMapping(path = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public PartyImportReport importParties(@RequestHeader("Content-Type") String contentType,
+                                           InputStream body) throws IOException {
+        PartyImportFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf("text/csv"))
+                ? PartyImportFormat.CSV
+                : PartyImportFormat.NDJSON;
+        log.debug("Importing parties from {} request body", format);
+        return partyBulkImportService.importParties(body, format);
+    }
+}
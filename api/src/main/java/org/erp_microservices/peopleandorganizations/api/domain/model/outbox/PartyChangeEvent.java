@@ -0,0 +1,55 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A change to a party or party relationship, written to the outbox in the transaction that made it and
+ * published to downstream consumers by the relay. The payload only carries what a consumer needs to
+ * decide whether to re-read the aggregate, not the aggregate itself.
+ */
+@Entity
+@Table(name = "party_change_event")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PartyChangeEvent {
+
+    public static final String PARTY = "PARTY";
+    public static final String PARTY_RELATIONSHIP = "PARTY_RELATIONSHIP";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 40)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 40)
+    private PartyChangeType changeType;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
+    @Builder.Default
+    private Map<String, Object> payload = new HashMap<>();
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+}
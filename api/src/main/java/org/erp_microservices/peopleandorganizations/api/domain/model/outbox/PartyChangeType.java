@@ -0,0 +1,13 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.outbox;
+
+public enum PartyChangeType {
+    PARTY_CREATED,
+    PARTY_UPDATED,
+    PARTY_DELETED,
+    ROLE_ADDED,
+    ROLE_REMOVED,
+    NAME_ADDED,
+    RELATIONSHIP_CREATED,
+    RELATIONSHIP_UPDATED,
+    RELATIONSHIP_TERMINATED
+}
@@ -0,0 +1,15 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.party;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A role a party holds, read without loading the party's role history or the role entity itself.
+ */
+public record ActivePartyRole(
+    UUID roleId,
+    UUID roleTypeId,
+    String roleType,
+    LocalDate fromDate,
+    LocalDate thruDate
+) {}
@@ -0,0 +1,14 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.party;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * The name of a given type a party currently goes by, read without loading the party's name history.
+ */
+public record CurrentPartyName(
+    UUID nameId,
+    String name,
+    LocalDate fromDate,
+    LocalDate thruDate
+) {}
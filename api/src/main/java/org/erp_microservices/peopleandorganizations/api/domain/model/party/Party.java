@@ -2,6 +2,8 @@ package org.erp_microservices.peopleandorganizations.api.domain.model.party;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -9,6 +11,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "party")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "party")
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "party_type", discriminatorType = DiscriminatorType.STRING)
 @Getter
@@ -39,15 +43,19 @@ public abstract class Party {
     private String comment;
 
     @OneToMany(mappedBy = "party", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "party-collections")
     private List<PartyRole> roles = new ArrayList<>();
 
     @OneToMany(mappedBy = "party", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "party-collections")
     private List<PartyName> names = new ArrayList<>();
 
     @OneToMany(mappedBy = "party", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "party-collections")
     private List<PartyIdentification> identifications = new ArrayList<>();
 
     @OneToMany(mappedBy = "party", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "party-collections")
     private List<PartyClassification> classifications = new ArrayList<>();
 
     @PostLoad
@@ -58,6 +66,10 @@ public abstract class Party {
         if (classifications == null) classifications = new ArrayList<>();
     }
 
+    /**
+     * Scans the role collection, loading the party's whole role history. Services working on stored parties
+     * ask {@code PartyHistoryRepository} instead.
+     */
     public boolean hasRole(PartyRoleType roleType) {
         return getRoles().stream()
                 .anyMatch(role -> role.isActive() && role.getRoleType().equals(roleType));
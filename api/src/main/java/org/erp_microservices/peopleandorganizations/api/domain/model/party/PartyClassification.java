@@ -2,12 +2,16 @@ package org.erp_microservices.peopleandorganizations.api.domain.model.party;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
 @Table(name = "party_classification")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "party-children")
 @Getter
 @Setter
 @NoArgsConstructor
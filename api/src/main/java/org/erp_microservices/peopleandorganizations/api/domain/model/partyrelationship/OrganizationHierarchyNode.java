@@ -0,0 +1,13 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship;
+
+import java.util.UUID;
+
+/**
+ * An organization in a rollup subtree, with the organization it rolls up into (null at the top of the
+ * hierarchy) and its distance in levels below the organization the subtree was taken from.
+ */
+public record OrganizationHierarchyNode(
+    UUID organizationId,
+    UUID parentOrganizationId,
+    int depth
+) {}
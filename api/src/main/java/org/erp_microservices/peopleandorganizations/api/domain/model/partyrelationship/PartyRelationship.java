@@ -7,6 +7,11 @@ import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party
 import java.time.LocalDate;
 import java.util.UUID;
 
+/**
+ * A typed relationship from one party to another. A relationship is in effect from its from date up to, but
+ * not including, its thru date; every query over relationships (paging, graph walks, the closure table and
+ * the organization rollup paths) applies the same bounds.
+ */
 @Entity
 @Table(name = "party_relationship")
 @Getter
@@ -50,7 +55,7 @@ public class PartyRelationship {
 
     public boolean isActiveOn(LocalDate date) {
         return (fromDate == null || !fromDate.isAfter(date)) &&
-               (thruDate == null || !thruDate.isBefore(date));
+               (thruDate == null || thruDate.isAfter(date));
     }
 
     @Override
@@ -0,0 +1,46 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.util.UUID;
+
+/**
+ * One row of the relationship closure table: {@code descendant} can be reached from {@code ancestor} by
+ * following currently active relationships of a single type from their from-party to their to-party,
+ * in {@code depth} hops along the shortest such path. A party is never its own ancestor.
+ *
+ * <p>Rows are maintained in SQL by the closure repository as relationships start and end, and rebuilt
+ * from scratch by a nightly job; they are never written through the persistence context.
+ */
+@Entity
+@Immutable
+@Table(name = "party_relationship_closure",
+       indexes = @Index(name = "idx_party_relationship_closure_descendant",
+                        columnList = "descendant_party_id, relationship_type_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class PartyRelationshipClosure {
+
+    @EmbeddedId
+    @EqualsAndHashCode.Include
+    private PartyRelationshipClosureId id;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    public UUID getAncestorPartyId() {
+        return id.getAncestorPartyId();
+    }
+
+    public UUID getDescendantPartyId() {
+        return id.getDescendantPartyId();
+    }
+
+    public UUID getRelationshipTypeId() {
+        return id.getRelationshipTypeId();
+    }
+}
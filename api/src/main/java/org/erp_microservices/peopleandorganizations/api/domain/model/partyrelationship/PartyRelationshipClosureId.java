@@ -0,0 +1,25 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PartyRelationshipClosureId implements Serializable {
+
+    @Column(name = "ancestor_party_id", nullable = false)
+    private UUID ancestorPartyId;
+
+    @Column(name = "descendant_party_id", nullable = false)
+    private UUID descendantPartyId;
+
+    @Column(name = "relationship_type_id", nullable = false)
+    private UUID relationshipTypeId;
+}
@@ -0,0 +1,15 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The parties and relationships reachable from a root party. {@code truncated} is set when the walk hit
+ * its size limit, in which case some reachable parties and relationships are missing.
+ */
+public record RelationshipGraph(
+    UUID rootPartyId,
+    List<RelationshipGraphNode> nodes,
+    List<RelationshipGraphEdge> edges,
+    boolean truncated
+) {}
@@ -0,0 +1,18 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A relationship crossed by a graph walk, with the number of hops from the root at which it was first
+ * reached.
+ */
+public record RelationshipGraphEdge(
+    UUID relationshipId,
+    UUID fromPartyId,
+    UUID toPartyId,
+    UUID relationshipTypeId,
+    LocalDate fromDate,
+    LocalDate thruDate,
+    int depth
+) {}
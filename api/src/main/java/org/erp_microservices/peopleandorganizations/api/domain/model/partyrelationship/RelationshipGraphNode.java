@@ -0,0 +1,11 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship;
+
+import java.util.UUID;
+
+/**
+ * A party reached by a graph walk and its distance in hops from the root, which is at depth 0.
+ */
+public record RelationshipGraphNode(
+    UUID partyId,
+    int depth
+) {}
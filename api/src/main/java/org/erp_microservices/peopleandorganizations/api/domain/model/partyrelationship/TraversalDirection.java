@@ -0,0 +1,19 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship;
+
+/**
+ * Which way a relationship graph walk follows each relationship: from its from-party to its to-party,
+ * against it, or both ways.
+ */
+public enum TraversalDirection {
+    OUTGOING,
+    INCOMING,
+    BOTH;
+
+    public boolean followsOutgoing() {
+        return this != INCOMING;
+    }
+
+    public boolean followsIncoming() {
+        return this != OUTGOING;
+    }
+}
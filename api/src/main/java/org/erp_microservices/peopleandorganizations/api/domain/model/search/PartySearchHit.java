@@ -0,0 +1,12 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.search;
+
+import java.util.UUID;
+
+/**
+ * A party matched by a name search, with the name that matched and its similarity score (0..1).
+ */
+public record PartySearchHit(
+    UUID partyId,
+    String matchedName,
+    double score
+) {}
@@ -0,0 +1,13 @@
+package org.erp_microservices.peopleandorganizations.api.domain.model.search;
+
+import java.util.UUID;
+
+/**
+ * A party matched by a full-text search, with its cover-density rank and a highlighted fragment of
+ * the names that matched.
+ */
+public record PartyTextSearchHit(
+    UUID partyId,
+    String headline,
+    double rank
+) {}
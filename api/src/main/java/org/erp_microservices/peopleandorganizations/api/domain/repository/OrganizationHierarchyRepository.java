@@ -0,0 +1,47 @@
+package org.erp_microservices.peopleandorganizations.api.domain.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.OrganizationHierarchyNode;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The materialized organization rollup paths. A path lists the organization ids from the top of the
+ * hierarchy down to the organization itself.
+ */
+public interface OrganizationHierarchyRepository {
+
+    /**
+     * Serializes hierarchy changes until the current transaction ends, so paths read afterwards stay
+     * valid while they are used to move a subtree.
+     */
+    void lock();
+
+    /**
+     * Empty when the organization does not exist.
+     */
+    Optional<List<UUID>> findPath(UUID organizationId);
+
+    /**
+     * Moves an organization, together with everything below it, under a new parent.
+     */
+    void attach(UUID organizationId, UUID parentOrganizationId);
+
+    /**
+     * Makes an organization the top of its own hierarchy, together with everything below it.
+     */
+    void detach(UUID organizationId);
+
+    /**
+     * The organizations below the given one, at most {@code maxDepth} levels down, in depth-first order
+     * so every organization comes after its parent.
+     */
+    List<OrganizationHierarchyNode> findSubtree(UUID organizationId, int maxDepth);
+
+    /**
+     * Recomputes every path from the active rollup relationships of the given type and returns how many
+     * changed.
+     */
+    int rebuild(String rollupRelationshipType);
+}
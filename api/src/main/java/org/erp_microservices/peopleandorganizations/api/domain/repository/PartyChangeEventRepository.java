@@ -0,0 +1,27 @@
+package org.erp_microservices.peopleandorganizations.api.domain.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeEvent;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface PartyChangeEventRepository {
+
+    PartyChangeEvent save(PartyChangeEvent event);
+
+    /**
+     * Locks up to {@code limit} unpublished events, oldest first, skipping rows another relay holds.
+     * Must be called in a transaction; the locks are kept until it ends.
+     */
+    List<PartyChangeEvent> lockUnpublished(int limit);
+
+    void markPublished(Collection<Long> ids, Instant publishedAt);
+
+    /**
+     * Deletes events published before the cutoff and returns how many were removed.
+     */
+    int deletePublishedBefore(Instant cutoff);
+
+    long countUnpublished();
+}
@@ -0,0 +1,45 @@
+package org.erp_microservices.peopleandorganizations.api.domain.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.ActivePartyRole;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.CurrentPartyName;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyClassification;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyIdentification;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyName;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRole;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Queries on the effective-dated children of parties. Only the rows in effect on the given date are read,
+ * with the same boundaries as the entities' {@code isActive(LocalDate)}, so neither a historical view nor
+ * a check of a party's current roles loads the party's whole history.
+ */
+public interface PartyHistoryRepository {
+
+    List<PartyRole> findRolesAsOf(Collection<UUID> partyIds, LocalDate asOf);
+
+    List<PartyName> findNamesAsOf(Collection<UUID> partyIds, LocalDate asOf);
+
+    List<PartyIdentification> findIdentificationsAsOf(Collection<UUID> partyIds, LocalDate asOf);
+
+    List<PartyClassification> findClassificationsAsOf(Collection<UUID> partyIds, LocalDate asOf);
+
+    boolean hasRole(UUID partyId, UUID roleTypeId, LocalDate asOf);
+
+    List<ActivePartyRole> findActiveRoles(UUID partyId, LocalDate asOf);
+
+    /**
+     * The most recently started name of the type in effect on the date.
+     */
+    Optional<CurrentPartyName> findCurrentName(UUID partyId, UUID nameTypeId, LocalDate asOf);
+
+    /**
+     * Ends every role of the type the party holds on the date, as {@link PartyRole#expire(LocalDate)} does,
+     * and returns the number of roles ended.
+     */
+    int expireRoles(UUID partyId, UUID roleTypeId, LocalDate on);
+}
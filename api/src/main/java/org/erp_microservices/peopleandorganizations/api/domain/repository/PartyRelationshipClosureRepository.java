@@ -0,0 +1,46 @@
+package org.erp_microservices.peopleandorganizations.api.domain.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipClosure;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The materialized closure of the party relationship hierarchies, one hierarchy per relationship type.
+ * Which relationship types are hierarchies is up to the caller. Lookups that take a nullable relationship
+ * type id search every hierarchy when it is {@code null}.
+ */
+public interface PartyRelationshipClosureRepository {
+
+    /**
+     * Adds an active relationship from {@code ancestorPartyId} to {@code descendantPartyId}: every
+     * ancestor of the former becomes an ancestor of the latter and of all its descendants.
+     */
+    void addRelationship(UUID ancestorPartyId, UUID descendantPartyId, UUID relationshipTypeId);
+
+    /**
+     * Removes a relationship that is no longer active. The pairs that depended on it are re-derived from
+     * the remaining active relationships of the type, ignoring {@code relationshipId} whether or not its
+     * new state has been flushed yet. Returns how many pairs were removed.
+     */
+    int removeRelationship(UUID relationshipId, UUID ancestorPartyId, UUID descendantPartyId, UUID relationshipTypeId);
+
+    /**
+     * Rebuilds the whole table from the relationships of the given types (by name) active today and returns
+     * the number of rows. Pairs of any other type are dropped.
+     */
+    int rebuild(Set<String> relationshipTypes);
+
+    boolean isDescendant(UUID ancestorPartyId, UUID descendantPartyId, UUID relationshipTypeId);
+
+    /**
+     * Nearest first.
+     */
+    List<PartyRelationshipClosure> findDescendants(UUID ancestorPartyId, UUID relationshipTypeId);
+
+    /**
+     * Nearest first.
+     */
+    List<PartyRelationshipClosure> findAncestors(UUID descendantPartyId, UUID relationshipTypeId);
+}
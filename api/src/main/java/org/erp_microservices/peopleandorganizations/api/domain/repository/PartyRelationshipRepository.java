@@ -1,7 +1,10 @@
 package org.erp_microservices.peopleandorganizations.api.domain.repository;
 
 import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +23,14 @@ public interface PartyRelationshipRepository {
 
     List<PartyRelationship> findByPartyId(UUID partyId);
 
+    Page<PartyRelationship> findByPartyId(UUID partyId, Pageable pageable);
+
+    /**
+     * The party's relationships in effect on the given date, on either side, as
+     * {@link PartyRelationship#isActiveOn(LocalDate)} decides it.
+     */
+    Page<PartyRelationship> findByPartyId(UUID partyId, LocalDate asOf, Pageable pageable);
+
     List<PartyRelationship> findByFromPartyId(UUID fromPartyId);
 
     List<PartyRelationship> findByToPartyId(UUID toPartyId);
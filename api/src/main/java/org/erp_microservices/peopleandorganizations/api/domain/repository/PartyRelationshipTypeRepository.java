@@ -14,6 +14,8 @@ public interface PartyRelationshipTypeRepository {
 
     Optional<PartyRelationshipType> findById(UUID id);
 
+    List<PartyRelationshipType> findAllById(Iterable<UUID> ids);
+
     Optional<PartyRelationshipType> findByName(String name);
 
     boolean existsById(UUID id);
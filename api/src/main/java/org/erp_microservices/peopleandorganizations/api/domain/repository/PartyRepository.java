@@ -4,6 +4,7 @@ import org.erp_microservices.peopleandorganizations.api.domain.model.party.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,20 +15,34 @@ public interface PartyRepository {
 
     Optional<Party> findById(UUID id);
 
+    List<Party> findAllById(Iterable<UUID> ids);
+
     List<Party> findByType(PartyType partyType);
 
+    /**
+     * Parties holding the role today. The {@code asOf} variants of this and the name, identification and
+     * classification finders match the rows in effect on the given date instead.
+     */
     List<Party> findByRole(PartyRoleType roleType);
 
+    List<Party> findByRole(PartyRoleType roleType, LocalDate asOf);
+
     List<Party> findByNameContaining(String namePart);
 
+    List<Party> findByNameContaining(String namePart, LocalDate asOf);
+
     List<Person> findPersonsByLastName(String lastName);
 
     List<Organization> findOrganizationsByName(String name);
 
     Optional<Party> findByIdentification(String identifier, IdentificationType type);
 
+    Optional<Party> findByIdentification(String identifier, IdentificationType type, LocalDate asOf);
+
     List<Party> findByClassification(PartyClassificationType classificationType, String value);
 
+    List<Party> findByClassification(PartyClassificationType classificationType, String value, LocalDate asOf);
+
     void deleteById(UUID id);
 
     boolean existsById(UUID id);
@@ -45,4 +60,12 @@ public interface PartyRepository {
     List<Party> saveAll(Iterable<Party> parties);
 
     Page<Party> findByPartyType(String partyType, Pageable pageable);
+
+    /**
+     * Keyset page of parties of the given type ordered by id, starting after the given id
+     * (or from the beginning when {@code after} is null).
+     */
+    List<Party> findByPartyTypeAfter(String partyType, UUID after, int limit);
+
+    long countByPartyType(String partyType);
 }
@@ -0,0 +1,27 @@
+package org.erp_microservices.peopleandorganizations.api.domain.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartySearchHit;
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartyTextSearchHit;
+
+import java.util.List;
+
+public interface PartySearchRepository {
+
+    /**
+     * Fuzzy search over person names, organization names and active party names, best match first,
+     * one hit per party.
+     */
+    List<PartySearchHit> searchByName(String text, int limit);
+
+    /**
+     * Ranked full-text search over the maintained party search document, best match first, with a
+     * highlighted fragment for each hit.
+     */
+    List<PartyTextSearchHit> searchFullText(String query, int limit);
+
+    /**
+     * Recomputes the search documents of the parties with a name that started or ended since the last
+     * refresh, and records today as refreshed. Returns the number of documents recomputed.
+     */
+    int refreshDocumentsChangedByDate();
+}
@@ -0,0 +1,25 @@
+package org.erp_microservices.peopleandorganizations.api.domain.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraphEdge;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.TraversalDirection;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface RelationshipGraphRepository {
+
+    /**
+     * Walks the relationships active on {@code asOf} outward from the root party, up to {@code maxDepth}
+     * hops, never revisiting a party on the same path. Returns one row per path step, so a relationship
+     * reachable along several paths appears once per path; at most {@code limit} rows are returned,
+     * shallowest first. An empty {@code relationshipTypeIds} follows every relationship type.
+     */
+    List<RelationshipGraphEdge> walk(UUID rootPartyId,
+                                     Collection<UUID> relationshipTypeIds,
+                                     TraversalDirection direction,
+                                     int maxDepth,
+                                     LocalDate asOf,
+                                     int limit);
+}
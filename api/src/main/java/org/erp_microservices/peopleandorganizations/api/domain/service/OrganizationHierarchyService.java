@@ -0,0 +1,119 @@
+package org.erp_microservices.peopleandorganizations.api.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.OrganizationHierarchyNode;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.OrganizationHierarchyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps the organization rollup paths in step with rollup relationships, which run from the parent
+ * organization to the organization that rolls up into it. The paths form a tree, so an organization
+ * rolls up into at most one parent at a time and never into its own subtree; relationships that would
+ * break either rule are rejected.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class OrganizationHierarchyService {
+
+    static final int DEFAULT_MAX_DEPTH = 10;
+    static final int MAX_DEPTH = 50;
+
+    private static final String ORGANIZATION = "ORGANIZATION";
+
+    private final OrganizationHierarchyRepository organizationHierarchyRepository;
+    private final String rollupRelationshipType;
+
+    public OrganizationHierarchyService(OrganizationHierarchyRepository organizationHierarchyRepository,
+                                        @Value("${organization-hierarchy.relationship-type:Organization Rollup}") String rollupRelationshipType) {
+        this.organizationHierarchyRepository = organizationHierarchyRepository;
+        this.rollupRelationshipType = rollupRelationshipType;
+    }
+
+    /**
+     * Attaches the child organization's subtree under the parent when a rollup relationship is active and
+     * moves it back to the top when the relationship has ended. Other relationships are ignored.
+     */
+    @Transactional
+    public void relationshipChanged(PartyRelationship relationship) {
+        if (!isRollup(relationship)) {
+            return;
+        }
+        UUID parentId = relationship.getFromParty().getId();
+        UUID childId = relationship.getToParty().getId();
+
+        organizationHierarchyRepository.lock();
+        List<UUID> childPath = path(childId);
+        UUID currentParentId = childPath.size() > 1 ? childPath.get(childPath.size() - 2) : null;
+
+        if (relationship.isActive()) {
+            if (parentId.equals(currentParentId)) {
+                return;
+            }
+            if (currentParentId != null) {
+                throw new IllegalArgumentException("Organization " + childId + " already rolls up into " + currentParentId);
+            }
+            if (path(parentId).contains(childId)) {
+                throw new IllegalArgumentException("Organization " + parentId + " is part of the hierarchy under "
+                        + childId + " and cannot be its parent");
+            }
+            log.debug("Attaching organization {} under {}", childId, parentId);
+            organizationHierarchyRepository.attach(childId, parentId);
+        } else if (parentId.equals(currentParentId)) {
+            log.debug("Detaching organization {} from {}", childId, parentId);
+            organizationHierarchyRepository.detach(childId);
+        }
+    }
+
+    public List<OrganizationHierarchyNode> subtree(UUID organizationId, Integer maxDepth) {
+        int depth = maxDepth == null ? DEFAULT_MAX_DEPTH : maxDepth;
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Max depth must be between 1 and " + MAX_DEPTH);
+        }
+        return organizationHierarchyRepository.findSubtree(organizationId, depth);
+    }
+
+    @Transactional
+    public int rebuild() {
+        int changed = organizationHierarchyRepository.rebuild(rollupRelationshipType);
+        log.info("Rebuilt organization hierarchy paths, {} changed", changed);
+        return changed;
+    }
+
+    /**
+     * Runs outside a transaction so the rebuild commits or fails on its own and a failure is only logged.
+     */
+    @Scheduled(cron = "${organization-hierarchy.rebuild-cron:0 45 2 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Rebuilding organization hierarchy paths failed, keeping the current paths", e);
+        }
+    }
+
+    private boolean isRollup(PartyRelationship relationship) {
+        return rollupRelationshipType.equals(relationship.getRelationshipType().getName())
+                && isOrganization(relationship.getFromParty())
+                && isOrganization(relationship.getToParty());
+    }
+
+    private static boolean isOrganization(Party party) {
+        return ORGANIZATION.equals(party.getPartyType());
+    }
+
+    private List<UUID> path(UUID organizationId) {
+        return organizationHierarchyRepository.findPath(organizationId)
+                .orElseThrow(() -> new IllegalArgumentException("Organization not found with id: " + organizationId));
+    }
+}
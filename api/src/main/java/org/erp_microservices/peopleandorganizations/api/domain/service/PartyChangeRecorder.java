@@ -0,0 +1,114 @@
+package org.erp_microservices.peopleandorganizations.api.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeEvent;
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyChangeEventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes party change events to the outbox. Every method joins the caller's transaction and refuses to
+ * run without one, so an event is committed, or rolled back, together with the change it describes.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+@Slf4j
+public class PartyChangeRecorder {
+
+    private final PartyChangeEventRepository eventRepository;
+
+    public void partyCreated(Party party) {
+        recordParty(party, PartyChangeType.PARTY_CREATED, Map.of());
+    }
+
+    public void partyUpdated(Party party) {
+        recordParty(party, PartyChangeType.PARTY_UPDATED, Map.of());
+    }
+
+    public void partyDeleted(UUID partyId) {
+        record(PartyChangeEvent.PARTY, partyId, PartyChangeType.PARTY_DELETED, Map.of());
+    }
+
+    public void partyDeleted(UUID partyId, String partyType) {
+        record(PartyChangeEvent.PARTY, partyId, PartyChangeType.PARTY_DELETED, Map.of("partyType", partyType));
+    }
+
+    public void roleAdded(Party party, String roleType) {
+        recordParty(party, PartyChangeType.ROLE_ADDED, Map.of("roleType", roleType));
+    }
+
+    public void roleRemoved(Party party, String roleType) {
+        recordParty(party, PartyChangeType.ROLE_REMOVED, Map.of("roleType", roleType));
+    }
+
+    public void nameAdded(Party party, String nameType) {
+        recordParty(party, PartyChangeType.NAME_ADDED, Map.of("nameType", nameType));
+    }
+
+    public void relationshipCreated(PartyRelationship relationship) {
+        recordRelationship(relationship, PartyChangeType.RELATIONSHIP_CREATED);
+    }
+
+    public void relationshipUpdated(PartyRelationship relationship) {
+        recordRelationship(relationship, PartyChangeType.RELATIONSHIP_UPDATED);
+    }
+
+    public void relationshipTerminated(PartyRelationship relationship) {
+        recordRelationship(relationship, PartyChangeType.RELATIONSHIP_TERMINATED);
+    }
+
+    /**
+     * Party events carry the party type, so subscribers can filter on it without reading the party.
+     */
+    private void recordParty(Party party, PartyChangeType changeType, Map<String, Object> details) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("partyType", partyType(party));
+        payload.putAll(details);
+        record(PartyChangeEvent.PARTY, party.getId(), changeType, payload);
+    }
+
+    /**
+     * Relationship events name both parties, so consumers that track parties can react without
+     * reading the relationship back.
+     */
+    private void recordRelationship(PartyRelationship relationship, PartyChangeType changeType) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("fromPartyId", relationship.getFromParty().getId());
+        payload.put("toPartyId", relationship.getToParty().getId());
+        payload.put("relationshipTypeId", relationship.getRelationshipType().getId());
+        if (relationship.getThruDate() != null) {
+            payload.put("thruDate", relationship.getThruDate().toString());
+        }
+        record(PartyChangeEvent.PARTY_RELATIONSHIP, relationship.getId(), changeType, payload);
+    }
+
+    private void record(String aggregateType, UUID aggregateId, PartyChangeType changeType,
+                        Map<String, Object> payload) {
+        if (aggregateId == null) {
+            throw new IllegalStateException("Cannot record " + changeType + " for an unsaved " + aggregateType);
+        }
+        log.debug("Recording {} for {} {}", changeType, aggregateType, aggregateId);
+        eventRepository.save(PartyChangeEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .changeType(changeType)
+                .payload(new LinkedHashMap<>(payload))
+                .occurredAt(Instant.now())
+                .build());
+    }
+
+    private static String partyType(Party party) {
+        return party.getPartyType() != null ? party.getPartyType() : party.getClass().getSimpleName().toUpperCase();
+    }
+}
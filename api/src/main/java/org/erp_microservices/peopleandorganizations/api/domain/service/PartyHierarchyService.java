@@ -0,0 +1,98 @@
+package org.erp_microservices.peopleandorganizations.api.domain.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipClosure;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRelationshipClosureRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps the relationship closure table in step with party relationships and answers hierarchy questions
+ * from it. Only relationships of the configured hierarchy types go into the closure; customer, employment
+ * and other links between parties are not hierarchies and would only multiply its rows. Relationship
+ * mutations update the closure incrementally in their own transaction. Relationships can also start or
+ * end purely by date, with no mutation to react to, so the table is rebuilt from scratch on a schedule as
+ * well.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class PartyHierarchyService {
+
+    private final PartyRelationshipClosureRepository closureRepository;
+    private final Set<String> hierarchyRelationshipTypes;
+
+    public PartyHierarchyService(PartyRelationshipClosureRepository closureRepository,
+                                 @Value("${party-hierarchy.relationship-types:Organization Rollup}") Set<String> hierarchyRelationshipTypes) {
+        this.closureRepository = closureRepository;
+        this.hierarchyRelationshipTypes = Set.copyOf(hierarchyRelationshipTypes);
+    }
+
+    /**
+     * Brings the closure up to date with a relationship that was created, updated or terminated: an
+     * active relationship is added (a no-op if it is already reflected) and an inactive one removed.
+     * Relationships of other than the hierarchy types are ignored.
+     */
+    @Transactional
+    public void relationshipChanged(PartyRelationship relationship) {
+        if (!hierarchyRelationshipTypes.contains(relationship.getRelationshipType().getName())) {
+            return;
+        }
+        UUID fromPartyId = relationship.getFromParty().getId();
+        UUID toPartyId = relationship.getToParty().getId();
+        UUID relationshipTypeId = relationship.getRelationshipType().getId();
+        if (fromPartyId.equals(toPartyId)) {
+            return;
+        }
+
+        if (relationship.isActive()) {
+            log.debug("Adding relationship {} to the {} hierarchy", relationship.getId(), relationshipTypeId);
+            closureRepository.addRelationship(fromPartyId, toPartyId, relationshipTypeId);
+        } else {
+            int removed = closureRepository.removeRelationship(
+                    relationship.getId(), fromPartyId, toPartyId, relationshipTypeId);
+            log.debug("Removed relationship {} from the {} hierarchy, {} pairs no longer connected",
+                    relationship.getId(), relationshipTypeId, removed);
+        }
+    }
+
+    public boolean isDescendant(UUID ancestorPartyId, UUID descendantPartyId, UUID relationshipTypeId) {
+        return closureRepository.isDescendant(ancestorPartyId, descendantPartyId, relationshipTypeId);
+    }
+
+    public List<PartyRelationshipClosure> descendants(UUID partyId, UUID relationshipTypeId) {
+        return closureRepository.findDescendants(partyId, relationshipTypeId);
+    }
+
+    public List<PartyRelationshipClosure> ancestors(UUID partyId, UUID relationshipTypeId) {
+        return closureRepository.findAncestors(partyId, relationshipTypeId);
+    }
+
+    @Transactional
+    public int rebuild() {
+        int rows = closureRepository.rebuild(hierarchyRelationshipTypes);
+        log.info("Rebuilt the party relationship closure with {} rows", rows);
+        return rows;
+    }
+
+    /**
+     * Runs outside a transaction so the rebuild commits or fails on its own and a failure is only logged.
+     */
+    @Scheduled(cron = "${party-hierarchy.rebuild-cron:0 30 2 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Rebuilding the party relationship closure failed, keeping the current rows", e);
+        }
+    }
+}
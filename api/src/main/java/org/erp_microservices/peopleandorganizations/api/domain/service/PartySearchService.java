@@ -0,0 +1,88 @@
+package org.erp_microservices.peopleandorganizations.api.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartySearchHit;
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartyTextSearchHit;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartySearchRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class PartySearchService {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 50;
+    static final int MAX_TEXT_LENGTH = 200;
+
+    private final PartySearchRepository partySearchRepository;
+
+    /**
+     * Type-ahead search by name. The text is normalized to match the lower-cased trigram indexes and the
+     * number of hits is capped, so a single request cannot ask for an unbounded result.
+     */
+    public List<PartySearchHit> searchByName(String text, Integer first) {
+        String normalized = normalize(text).toLowerCase(Locale.ROOT);
+        int limit = limit(first);
+
+        log.debug("Searching parties by name: '{}' (limit {})", normalized, limit);
+        return partySearchRepository.searchByName(normalized, limit);
+    }
+
+    /**
+     * Ranked full-text search. Accepts web search syntax ("quoted phrases", OR, -excluded words).
+     */
+    public List<PartyTextSearchHit> searchFullText(String text, Integer first) {
+        String normalized = normalize(text);
+        int limit = limit(first);
+
+        log.debug("Full-text searching parties: '{}' (limit {})", normalized, limit);
+        return partySearchRepository.searchFullText(normalized, limit);
+    }
+
+    /**
+     * Brings the search documents up to date with party names that started or ended by date alone.
+     */
+    @Transactional
+    public int refreshDocumentsChangedByDate() {
+        int refreshed = partySearchRepository.refreshDocumentsChangedByDate();
+        log.info("Refreshed {} party search documents for names that started or ended", refreshed);
+        return refreshed;
+    }
+
+    /**
+     * Runs outside a transaction so the refresh commits or fails on its own and a failure is only logged.
+     */
+    @Scheduled(cron = "${party-search.refresh-cron:0 5 0 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduledRefresh() {
+        try {
+            refreshDocumentsChangedByDate();
+        } catch (RuntimeException e) {
+            log.warn("Refreshing the party search documents failed, retrying on the next run", e);
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text must not be empty");
+        }
+        String normalized = text.strip();
+        if (normalized.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Search text must not exceed " + MAX_TEXT_LENGTH + " characters");
+        }
+        return normalized;
+    }
+
+    private static int limit(Integer first) {
+        return first == null ? DEFAULT_LIMIT : Math.max(1, Math.min(first, MAX_LIMIT));
+    }
+}
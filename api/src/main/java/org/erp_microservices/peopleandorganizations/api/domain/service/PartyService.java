@@ -3,15 +3,21 @@ package org.erp_microservices.peopleandorganizations.api.domain.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.erp_microservices.peopleandorganizations.api.domain.model.party.*;
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartyTextSearchHit;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyHistoryRepository;
 import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRepository;
-import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyRoleTypeRepository;
-import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyTypeRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.ReferenceDataRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,14 +26,16 @@ import java.util.UUID;
 public class PartyService {
 
     private final PartyRepository partyRepository;
-    private final PartyTypeRepository partyTypeRepository;
-    private final PartyRoleTypeRepository partyRoleTypeRepository;
+    private final PartyHistoryRepository partyHistoryRepository;
+    private final ReferenceDataRegistry referenceData;
+    private final PartySearchService partySearchService;
+    private final PartyChangeRecorder changeRecorder;
 
     public Party createPerson(String firstName, String lastName, String middleName,
                              String title, String suffix, LocalDate birthDate, GenderType genderType) {
         log.info("Creating new person: {} {}", firstName, lastName);
 
-        PartyType personType = partyTypeRepository.findByDescription("Person")
+        PartyType personType = referenceData.partyTypes().find("Person")
                 .orElseThrow(() -> new IllegalStateException("Person party type not found"));
 
         Person person = Person.builder()
@@ -41,7 +49,9 @@ public class PartyService {
                 .build();
         person.setPartyTypeRef(personType);
 
-        return partyRepository.save(person);
+        Party saved = partyRepository.save(person);
+        changeRecorder.partyCreated(saved);
+        return saved;
     }
 
     public Party createOrganization(String organizationName, LocalDate establishedDate,
@@ -49,9 +59,9 @@ public class PartyService {
                                    String industry, String organizationType) {
         log.info("Creating new organization: {}", organizationName);
 
-        PartyType orgType = partyTypeRepository.findByDescription(organizationType)
-                .orElseGet(() -> partyTypeRepository.findByDescription("Organization")
-                        .orElseThrow(() -> new IllegalStateException("Organization party type not found")));
+        PartyType orgType = referenceData.partyTypes().find(organizationType)
+                .or(() -> referenceData.partyTypes().find("Organization"))
+                .orElseThrow(() -> new IllegalStateException("Organization party type not found"));
 
         Organization organization = Organization.builder()
                 .name(organizationName)
@@ -62,7 +72,9 @@ public class PartyService {
                 .build();
         organization.setPartyTypeRef(orgType);
 
-        return partyRepository.save(organization);
+        Party saved = partyRepository.save(organization);
+        changeRecorder.partyCreated(saved);
+        return saved;
     }
 
     public Party addRoleToParty(UUID partyId, String roleTypeName) {
@@ -71,19 +83,19 @@ public class PartyService {
         Party party = partyRepository.findById(partyId)
                 .orElseThrow(() -> new IllegalArgumentException("Party not found: " + partyId));
 
-        PartyRoleType roleType = partyRoleTypeRepository.findByDescription(roleTypeName)
+        PartyRoleType roleType = referenceData.partyRoleTypes().find(roleTypeName)
                 .orElseThrow(() -> new IllegalArgumentException("Role type not found: " + roleTypeName));
 
-        if (!party.hasRole(roleType)) {
+        if (!partyHistoryRepository.hasRole(partyId, roleType.getId(), LocalDate.now())) {
             PartyRole role = PartyRole.builder()
-                    .id(UUID.randomUUID())
-                    .party(party)
                     .roleType(roleType)
                     .fromDate(LocalDate.now())
                     .build();
 
-            party.addRole(role);
-            return partyRepository.save(party);
+            party.addPartyRole(role);
+            Party saved = partyRepository.save(party);
+            changeRecorder.roleAdded(saved, roleType.getDescription());
+            return saved;
         }
 
         return party;
@@ -95,11 +107,18 @@ public class PartyService {
         Party party = partyRepository.findById(partyId)
                 .orElseThrow(() -> new IllegalArgumentException("Party not found: " + partyId));
 
-        PartyRoleType roleType = partyRoleTypeRepository.findByDescription(roleTypeName)
+        PartyRoleType roleType = referenceData.partyRoleTypes().find(roleTypeName)
                 .orElseThrow(() -> new IllegalArgumentException("Role type not found: " + roleTypeName));
 
-        party.removeRole(roleType);
-        return partyRepository.save(party);
+        int expired = partyHistoryRepository.expireRoles(partyId, roleType.getId(), LocalDate.now());
+        log.debug("Expired {} {} roles of party {}", expired, roleTypeName, partyId);
+        if (expired > 0) {
+            Party saved = partyRepository.save(party);
+            changeRecorder.roleRemoved(saved, roleType.getDescription());
+            return saved;
+        }
+
+        return party;
     }
 
     public Party addNameToParty(UUID partyId, String name, String nameTypeName) {
@@ -108,18 +127,20 @@ public class PartyService {
         Party party = partyRepository.findById(partyId)
                 .orElseThrow(() -> new IllegalArgumentException("Party not found: " + partyId));
 
+        NameType nameType = referenceData.nameTypes().find(nameTypeName)
+                .orElseThrow(() -> new IllegalArgumentException("Name type not found: " + nameTypeName));
+
         PartyName partyName = PartyName.builder()
-                .id(UUID.randomUUID())
                 .party(party)
                 .name(name)
-                .nameType(NameType.builder()
-                        .description(nameTypeName)
-                        .build())
+                .nameType(nameType)
                 .fromDate(LocalDate.now())
                 .build();
 
         party.getNames().add(partyName);
-        return partyRepository.save(party);
+        Party saved = partyRepository.save(party);
+        changeRecorder.nameAdded(saved, nameType.getDescription());
+        return saved;
     }
 
     public Party updateParty(UUID partyId, String comment) {
@@ -129,7 +150,9 @@ public class PartyService {
                 .orElseThrow(() -> new IllegalArgumentException("Party not found: " + partyId));
 
         party.setComment(comment);
-        return partyRepository.save(party);
+        Party saved = partyRepository.save(party);
+        changeRecorder.partyUpdated(saved);
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -138,17 +161,50 @@ public class PartyService {
                 .orElseThrow(() -> new IllegalArgumentException("Party not found: " + partyId));
     }
 
+    @Transactional(readOnly = true)
+    public boolean hasRole(UUID partyId, String roleTypeName, LocalDate asOf) {
+        PartyRoleType roleType = referenceData.partyRoleTypes().find(roleTypeName)
+                .orElseThrow(() -> new IllegalArgumentException("Role type not found: " + roleTypeName));
+
+        return partyHistoryRepository.hasRole(partyId, roleType.getId(), asOf != null ? asOf : LocalDate.now());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ActivePartyRole> getActiveRoles(UUID partyId) {
+        return partyHistoryRepository.findActiveRoles(partyId, LocalDate.now());
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CurrentPartyName> getCurrentName(UUID partyId, String nameTypeName) {
+        NameType nameType = referenceData.nameTypes().find(nameTypeName)
+                .orElseThrow(() -> new IllegalArgumentException("Name type not found: " + nameTypeName));
+
+        return partyHistoryRepository.findCurrentName(partyId, nameType.getId(), LocalDate.now());
+    }
+
     @Transactional(readOnly = true)
     public List<Party> findPartiesByRole(String roleTypeName) {
-        PartyRoleType roleType = partyRoleTypeRepository.findByDescription(roleTypeName)
+        PartyRoleType roleType = referenceData.partyRoleTypes().find(roleTypeName)
                 .orElseThrow(() -> new IllegalArgumentException("Role type not found: " + roleTypeName));
 
         return partyRepository.findByRole(roleType);
     }
 
+    /**
+     * Ranked by the full-text search index rather than an unindexable substring match.
+     */
     @Transactional(readOnly = true)
     public List<Party> searchPartiesByName(String namePart) {
-        return partyRepository.findByNameContaining(namePart);
+        List<UUID> rankedIds = partySearchService.searchFullText(namePart, PartySearchService.MAX_LIMIT).stream()
+                .map(PartyTextSearchHit::partyId)
+                .toList();
+        Map<UUID, Party> partiesById = partyRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Party::getId, Function.identity()));
+
+        return rankedIds.stream()
+                .map(partiesById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Transactional(readOnly = true)
@@ -169,5 +225,6 @@ public class PartyService {
         }
 
         partyRepository.deleteById(partyId);
+        changeRecorder.partyDeleted(partyId);
     }
 }
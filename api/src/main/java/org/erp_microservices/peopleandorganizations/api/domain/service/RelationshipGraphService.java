@@ -0,0 +1,94 @@
+package org.erp_microservices.peopleandorganizations.api.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraph;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraphEdge;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraphNode;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.TraversalDirection;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.RelationshipGraphRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class RelationshipGraphService {
+
+    static final int DEFAULT_MAX_DEPTH = 6;
+    static final int MAX_DEPTH = 10;
+    static final int MAX_PATH_STEPS = 5_000;
+
+    private final RelationshipGraphRepository relationshipGraphRepository;
+
+    /**
+     * Loads the relationship graph around a party in one query. The depth is capped and so is the
+     * number of path steps the walk may produce, so a densely connected graph cannot turn a single
+     * request into an unbounded one; the result says when the cap was hit.
+     *
+     * <p>A relationship reached along several paths is reported once, at its shallowest depth. A party's
+     * depth is the shallowest depth of the relationships that touch it, which is exactly the hop count at
+     * which the walk first reached it.
+     */
+    public RelationshipGraph traverse(UUID partyId,
+                                      Collection<UUID> relationshipTypeIds,
+                                      TraversalDirection direction,
+                                      Integer maxDepth,
+                                      LocalDate asOf) {
+        if (partyId == null) {
+            throw new IllegalArgumentException("Party id must not be null");
+        }
+        int depth = maxDepth(maxDepth);
+        TraversalDirection walkDirection = direction == null ? TraversalDirection.OUTGOING : direction;
+        LocalDate date = asOf == null ? LocalDate.now() : asOf;
+        Collection<UUID> types = relationshipTypeIds == null ? List.of() : relationshipTypeIds;
+
+        log.debug("Walking relationships of party {} - types: {}, direction: {}, max depth: {}, as of: {}",
+                partyId, types, walkDirection, depth, date);
+        List<RelationshipGraphEdge> steps = relationshipGraphRepository.walk(
+                partyId, types, walkDirection, depth, date, MAX_PATH_STEPS + 1);
+
+        boolean truncated = steps.size() > MAX_PATH_STEPS;
+        if (truncated) {
+            log.warn("Relationship graph of party {} exceeded {} path steps and was truncated", partyId, MAX_PATH_STEPS);
+            steps = steps.subList(0, MAX_PATH_STEPS);
+        }
+
+        Map<UUID, RelationshipGraphEdge> edges = new LinkedHashMap<>();
+        for (RelationshipGraphEdge step : steps) {
+            edges.merge(step.relationshipId(), step,
+                    (known, other) -> other.depth() < known.depth() ? other : known);
+        }
+
+        Map<UUID, Integer> nodeDepths = new LinkedHashMap<>();
+        nodeDepths.put(partyId, 0);
+        for (RelationshipGraphEdge edge : edges.values()) {
+            nodeDepths.merge(edge.fromPartyId(), edge.depth(), Math::min);
+            nodeDepths.merge(edge.toPartyId(), edge.depth(), Math::min);
+        }
+
+        List<RelationshipGraphNode> nodes = new ArrayList<>(nodeDepths.size());
+        nodeDepths.forEach((id, nodeDepth) -> nodes.add(new RelationshipGraphNode(id, nodeDepth)));
+
+        return new RelationshipGraph(partyId, nodes, List.copyOf(edges.values()), truncated);
+    }
+
+    private static int maxDepth(Integer maxDepth) {
+        if (maxDepth == null) {
+            return DEFAULT_MAX_DEPTH;
+        }
+        if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Max depth must be between 1 and " + MAX_DEPTH);
+        }
+        return maxDepth;
+    }
+}
@@ -0,0 +1,180 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.GenderType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.NameType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRoleType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.ReferenceDataRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Bulk import of parties from CSV or NDJSON. Records are validated against the reference data registry
+ * as they are read, given client-side UUIDs and written in batches through {@link PartyCopyLoader}, one
+ * transaction per batch. A batch the database rejects is split and retried until the failing rows are
+ * isolated; those are reported by record number and the rest of the batch is still imported.
+ */
+@Service
+@Slf4j
+public class PartyBulkImportService {
+
+    private static final String PERSON = "PERSON";
+    private static final String ORGANIZATION = "ORGANIZATION";
+
+    private final PartyImportReader reader;
+    private final PartyCopyLoader loader;
+    private final ReferenceDataRegistry referenceData;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PartyBulkImportService(PartyImportReader reader,
+                                  PartyCopyLoader loader,
+                                  ReferenceDataRegistry referenceData,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${party-import.batch-size:5000}") int batchSize) {
+        this.reader = reader;
+        this.loader = loader;
+        this.referenceData = referenceData;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public PartyImportReport importParties(InputStream input, PartyImportFormat format) throws IOException {
+        log.info("Starting {} party import with batch size {}", format, batchSize);
+        PartyImportReport report = new PartyImportReport();
+        List<StagedParty> batch = new ArrayList<>(batchSize);
+
+        reader.read(input, format, new PartyImportReader.RowHandler() {
+            @Override
+            public void onRecord(long recordNumber, PartyImportRecord record) {
+                report.recordRead();
+                try {
+                    batch.add(stage(recordNumber, record));
+                } catch (IllegalArgumentException e) {
+                    report.recordError(recordNumber, e.getMessage());
+                    return;
+                }
+                if (batch.size() >= batchSize) {
+                    flush(batch, report);
+                }
+            }
+
+            @Override
+            public void onError(long recordNumber, String message) {
+                report.recordRead();
+                report.recordError(recordNumber, message);
+            }
+        });
+        flush(batch, report);
+
+        log.info("Party import finished: {} records, {} imported, {} failed",
+                report.getTotalRecords(), report.getImportedRecords(), report.getFailedRecords());
+        return report;
+    }
+
+    private void flush(List<StagedParty> batch, PartyImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            load(List.copyOf(batch), report);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Loads the rows in one transaction. When the database rejects them, the rows are retried in two
+     * halves, each in its own transaction, down to single rows, so only the offending records are
+     * reported and the rest are imported. A batch with one bad row costs about 2 log2(n) extra loads.
+     */
+    private void load(List<StagedParty> rows, PartyImportReport report) {
+        try {
+            List<PartyImportError> rejected = transactionTemplate.execute(status -> loader.load(rows));
+            rejected.forEach(error -> report.recordError(error.recordNumber(), error.message()));
+            report.recordImported(rows.size() - rejected.size());
+        } catch (DataAccessException e) {
+            if (rows.size() == 1) {
+                log.debug("Party import record {} rejected by the database", rows.get(0).recordNumber(), e);
+                report.recordError(rows.get(0).recordNumber(),
+                        "Rejected by the database: " + e.getMostSpecificCause().getMessage());
+                return;
+            }
+            log.warn("Party import batch of {} records failed, retrying it in halves: {}",
+                    rows.size(), e.getMostSpecificCause().getMessage());
+            int half = rows.size() / 2;
+            load(rows.subList(0, half), report);
+            load(rows.subList(half, rows.size()), report);
+        }
+    }
+
+    private StagedParty stage(long recordNumber, PartyImportRecord record) {
+        String partyType = record.getPartyType() == null ? null : record.getPartyType().strip().toUpperCase(Locale.ROOT);
+        String gender = null;
+        PartyType type;
+        if (PERSON.equals(partyType)) {
+            if (isBlank(record.getFirstName()) && isBlank(record.getLastName())) {
+                throw new IllegalArgumentException("A person needs a first_name or last_name");
+            }
+            if (!isBlank(record.getGender())) {
+                gender = genderOf(record.getGender());
+            }
+            type = partyType("Person");
+        } else if (ORGANIZATION.equals(partyType)) {
+            if (isBlank(record.getOrganizationName())) {
+                throw new IllegalArgumentException("An organization needs an organization_name");
+            }
+            type = partyType("Organization");
+        } else {
+            throw new IllegalArgumentException("party_type must be PERSON or ORGANIZATION, was: " + record.getPartyType());
+        }
+
+        UUID nameTypeId = null;
+        if (!isBlank(record.getName())) {
+            nameTypeId = referenceData.nameTypes().find(record.getNameType())
+                    .map(NameType::getId)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown name_type: " + record.getNameType()));
+        }
+
+        List<UUID> roleTypeIds = isBlank(record.getRoles()) ? List.of() : Arrays.stream(record.getRoles().split("\\|"))
+                .map(String::strip)
+                .filter(role -> !role.isEmpty())
+                .distinct()
+                .map(role -> referenceData.partyRoleTypes().find(role)
+                        .map(PartyRoleType::getId)
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown role: " + role)))
+                .toList();
+
+        return new StagedParty(recordNumber, UUID.randomUUID(), partyType, type.getId(), gender, nameTypeId,
+                roleTypeIds, record);
+    }
+
+    private PartyType partyType(String description) {
+        return referenceData.partyTypes().find(description)
+                .orElseThrow(() -> new IllegalArgumentException("Party type not configured: " + description));
+    }
+
+    private static String genderOf(String value) {
+        try {
+            return GenderType.valueOf(value.strip().toUpperCase(Locale.ROOT)).name();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown gender: " + value);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,195 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes one batch of staged parties with PostgreSQL COPY. Rows are copied into temporary staging
+ * tables first and then merged into party, person, organization, party_name and party_role with
+ * set-based INSERT ... SELECT statements, which also gives one place to reject rows that clash with
+ * each other or with data already in the database. Must be called inside a transaction; the staging
+ * tables are dropped on commit.
+ */
+@Component
+@RequiredArgsConstructor
+class PartyCopyLoader {
+
+    private static final String CREATE_STAGING_TABLES = """
+            CREATE TEMP TABLE staging_party (
+                line                      BIGINT       NOT NULL,
+                id                        UUID         NOT NULL,
+                party_type                VARCHAR(31)  NOT NULL,
+                party_type_id             UUID         NOT NULL,
+                comment                   TEXT,
+                first_name                VARCHAR(255),
+                middle_name               VARCHAR(255),
+                last_name                 VARCHAR(255),
+                title                     VARCHAR(255),
+                suffix                    VARCHAR(255),
+                birth_date                DATE,
+                gender                    VARCHAR(255),
+                organization_name         VARCHAR(255),
+                trading_name              VARCHAR(255),
+                registration_number       VARCHAR(255),
+                established_date          DATE,
+                tax_identification_number VARCHAR(255),
+                number_of_employees       INTEGER,
+                industry                  VARCHAR(255)
+            ) ON COMMIT DROP;
+            CREATE TEMP TABLE staging_party_name (
+                id           UUID NOT NULL,
+                party_id     UUID NOT NULL,
+                name         VARCHAR(255),
+                name_type_id UUID NOT NULL,
+                from_date    DATE NOT NULL
+            ) ON COMMIT DROP;
+            CREATE TEMP TABLE staging_party_role (
+                id                 UUID NOT NULL,
+                party_id           UUID NOT NULL,
+                party_role_type_id UUID NOT NULL,
+                from_date          DATE NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_PARTY = """
+            COPY staging_party (line, id, party_type, party_type_id, comment,
+                                first_name, middle_name, last_name, title, suffix, birth_date, gender,
+                                organization_name, trading_name, registration_number, established_date,
+                                tax_identification_number, number_of_employees, industry)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String COPY_PARTY_NAME =
+            "COPY staging_party_name (id, party_id, name, name_type_id, from_date) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String COPY_PARTY_ROLE =
+            "COPY staging_party_role (id, party_id, party_role_type_id, from_date) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String REJECT_DUPLICATES_IN_BATCH = """
+            DELETE FROM staging_party s
+             USING staging_party f
+             WHERE s.registration_number = f.registration_number
+               AND s.line > f.line
+            RETURNING s.line, s.registration_number
+            """;
+
+    private static final String REJECT_EXISTING_ORGANIZATIONS = """
+            DELETE FROM staging_party s
+             USING organization o
+             WHERE o.registration_number = s.registration_number
+            RETURNING s.line, s.registration_number
+            """;
+
+    private static final String MERGE = """
+            DELETE FROM staging_party_name n
+             WHERE NOT EXISTS (SELECT 1 FROM staging_party s WHERE s.id = n.party_id);
+            DELETE FROM staging_party_role r
+             WHERE NOT EXISTS (SELECT 1 FROM staging_party s WHERE s.id = r.party_id);
+            INSERT INTO party (id, party_type_id, party_type, comment)
+            SELECT id, party_type_id, party_type, comment
+              FROM staging_party;
+            INSERT INTO person (id, first_name, middle_name, last_name, title, suffix, birth_date, gender)
+            SELECT id, first_name, middle_name, last_name, title, suffix, birth_date, gender
+              FROM staging_party
+             WHERE party_type = 'PERSON';
+            INSERT INTO organization (id, organization_name, trading_name, registration_number, established_date,
+                                      tax_identification_number, number_of_employees, industry)
+            SELECT id, organization_name, trading_name, registration_number, established_date,
+                   tax_identification_number, number_of_employees, industry
+              FROM staging_party
+             WHERE party_type = 'ORGANIZATION';
+            INSERT INTO party_name (id, party_id, name, name_type_id, from_date)
+            SELECT id, party_id, name, name_type_id, from_date
+              FROM staging_party_name;
+            INSERT INTO party_role (id, party_id, party_role_type_id, from_date)
+            SELECT id, party_id, party_role_type_id, from_date
+              FROM staging_party_role
+            """;
+
+    private static final RowMapper<PartyImportError> DUPLICATE_REGISTRATION = (rs, rowNum) -> new PartyImportError(
+            rs.getLong("line"), "Duplicate registration number: " + rs.getString("registration_number"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Copies and merges the batch, returning the rows that were rejected during the merge.
+     */
+    List<PartyImportError> load(List<StagedParty> batch) {
+        jdbcTemplate.execute(CREATE_STAGING_TABLES);
+        copy(batch);
+
+        List<PartyImportError> rejected = new ArrayList<>(jdbcTemplate.query(REJECT_DUPLICATES_IN_BATCH, DUPLICATE_REGISTRATION));
+        rejected.addAll(jdbcTemplate.query(REJECT_EXISTING_ORGANIZATIONS, DUPLICATE_REGISTRATION));
+        jdbcTemplate.execute(MERGE);
+        return rejected;
+    }
+
+    private void copy(List<StagedParty> batch) {
+        LocalDate today = LocalDate.now();
+        StringBuilder parties = new StringBuilder();
+        StringBuilder names = new StringBuilder();
+        StringBuilder roles = new StringBuilder();
+
+        for (StagedParty party : batch) {
+            PartyImportRecord source = party.source();
+            row(parties, party.recordNumber(), party.id(), party.partyType(), party.partyTypeId(), source.getComment(),
+                    source.getFirstName(), source.getMiddleName(), source.getLastName(), source.getTitle(),
+                    source.getSuffix(), source.getBirthDate(), party.gender(),
+                    source.getOrganizationName(), source.getTradingName(), source.getRegistrationNumber(),
+                    source.getEstablishedDate(), source.getTaxIdNumber(), source.getNumberOfEmployees(),
+                    source.getIndustry());
+            if (party.nameTypeId() != null) {
+                row(names, UUID.randomUUID(), party.id(), source.getName(), party.nameTypeId(), today);
+            }
+            for (UUID roleTypeId : party.roleTypeIds()) {
+                row(roles, UUID.randomUUID(), party.id(), roleTypeId, today);
+            }
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                copyManager.copyIn(COPY_PARTY, new StringReader(parties.toString()));
+                if (!names.isEmpty()) {
+                    copyManager.copyIn(COPY_PARTY_NAME, new StringReader(names.toString()));
+                }
+                if (!roles.isEmpty()) {
+                    copyManager.copyIn(COPY_PARTY_ROLE, new StringReader(roles.toString()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Appends one COPY CSV line. Nulls are written as unquoted empty fields, which COPY reads as NULL;
+     * every other value is quoted so that empty strings, commas and line breaks survive.
+     */
+    private static void row(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            Object value = values[i];
+            if (value != null) {
+                out.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+        out.append('\n');
+    }
+}
@@ -0,0 +1,10 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport;
+
+/**
+ * A rejected import row. {@code recordNumber} is the 1-based position of the row in the file, not counting
+ * a CSV header.
+ */
+public record PartyImportError(
+    long recordNumber,
+    String message
+) {}
@@ -0,0 +1,6 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport;
+
+public enum PartyImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,94 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams import records one at a time, so memory use does not depend on the size of the file.
+ * A row that cannot be mapped is reported and skipped; a CSV file that can no longer be tokenized
+ * (for example an unterminated quote) ends the read with a final error.
+ */
+@Component
+public class PartyImportReader {
+
+    interface RowHandler {
+
+        void onRecord(long recordNumber, PartyImportRecord record);
+
+        void onError(long recordNumber, String message);
+    }
+
+    private final ObjectReader jsonReader;
+    private final ObjectReader csvReader;
+
+    public PartyImportReader(ObjectMapper objectMapper) {
+        this.jsonReader = objectMapper.readerFor(PartyImportRecord.class);
+        CsvMapper csvMapper = CsvMapper.builder()
+                .findAndAddModules()
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .build();
+        this.csvReader = csvMapper.readerFor(PartyImportRecord.class).with(CsvSchema.emptySchema().withHeader());
+    }
+
+    void read(InputStream input, PartyImportFormat format, RowHandler handler) throws IOException {
+        Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        if (format == PartyImportFormat.CSV) {
+            readCsv(reader, handler);
+        } else {
+            readNdjson(new BufferedReader(reader), handler);
+        }
+    }
+
+    private void readCsv(Reader reader, RowHandler handler) throws IOException {
+        long recordNumber = 0;
+        try (MappingIterator<PartyImportRecord> rows = csvReader.readValues(reader)) {
+            while (true) {
+                try {
+                    if (!rows.hasNextValue()) {
+                        return;
+                    }
+                } catch (JsonProcessingException e) {
+                    handler.onError(recordNumber + 1, "Unreadable CSV, import stopped: " + e.getOriginalMessage());
+                    return;
+                }
+                recordNumber++;
+                try {
+                    handler.onRecord(recordNumber, rows.nextValue());
+                } catch (JsonMappingException e) {
+                    handler.onError(recordNumber, e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, RowHandler handler) throws IOException {
+        long recordNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            recordNumber++;
+            try {
+                handler.onRecord(recordNumber, jsonReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                handler.onError(recordNumber, e.getOriginalMessage());
+            }
+        }
+    }
+}
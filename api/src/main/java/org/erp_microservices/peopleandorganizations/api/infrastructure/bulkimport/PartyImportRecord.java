@@ -0,0 +1,37 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * One row of a party import file. CSV headers and NDJSON keys use the snake_case field names;
+ * {@code roles} holds role type descriptions separated by {@code |}.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class PartyImportRecord {
+    private String partyType;
+    private String comment;
+    private String firstName;
+    private String middleName;
+    private String lastName;
+    private String title;
+    private String suffix;
+    private LocalDate birthDate;
+    private String gender;
+    private String organizationName;
+    private String tradingName;
+    private String registrationNumber;
+    private LocalDate establishedDate;
+    private String taxIdNumber;
+    private Integer numberOfEmployees;
+    private String industry;
+    private String name;
+    private String nameType;
+    private String roles;
+}
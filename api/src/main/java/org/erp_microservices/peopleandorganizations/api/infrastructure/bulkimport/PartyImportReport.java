@@ -0,0 +1,45 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Only the first {@value #MAX_REPORTED_ERRORS} errors are kept so that a
+ * badly formatted file cannot exhaust the heap; {@code failedRecords} always holds the full count.
+ */
+@Getter
+public class PartyImportReport {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long totalRecords;
+    private long importedRecords;
+    private long failedRecords;
+    private final List<PartyImportError> errors = new ArrayList<>();
+
+    void recordRead() {
+        totalRecords++;
+    }
+
+    void recordImported(long count) {
+        importedRecords += count;
+    }
+
+    void recordError(long recordNumber, String message) {
+        failedRecords++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new PartyImportError(recordNumber, message));
+        }
+    }
+
+    public List<PartyImportError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public boolean isErrorListTruncated() {
+        return failedRecords > errors.size();
+    }
+}
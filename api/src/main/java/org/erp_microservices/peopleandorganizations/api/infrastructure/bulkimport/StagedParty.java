@@ -0,0 +1,19 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A validated import record with its client-generated id and resolved reference data ids, ready to be
+ * copied into the staging tables.
+ */
+record StagedParty(
+    long recordNumber,
+    UUID id,
+    String partyType,
+    UUID partyTypeId,
+    String gender,
+    UUID nameTypeId,
+    List<UUID> roleTypeIds,
+    PartyImportRecord source
+) {}
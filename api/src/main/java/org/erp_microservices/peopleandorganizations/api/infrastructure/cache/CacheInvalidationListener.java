@@ -0,0 +1,77 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.notification.NotificationHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Receives the invalidations other nodes send through the {@link CacheInvalidationPublisher} and
+ * applies them to this node's caches: party ids are evicted from the second-level cache, reference
+ * data is reloaded. Notifications sent while the listener connection was down are lost, so after a
+ * reconnect every cached party is dropped and the reference data reloaded.
+ */
+@Component
+@ConditionalOnProperty(name = "cache-invalidation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CacheInvalidationListener implements NotificationHandler {
+
+    private final CacheInvalidationPublisher publisher;
+    private final ObjectProvider<PartyCacheInvalidator> partyCache;
+    private final ObjectProvider<ReferenceDataRegistry> referenceData;
+
+    public CacheInvalidationListener(CacheInvalidationPublisher publisher,
+                                     ObjectProvider<PartyCacheInvalidator> partyCache,
+                                     ObjectProvider<ReferenceDataRegistry> referenceData) {
+        this.publisher = publisher;
+        this.partyCache = partyCache;
+        this.referenceData = referenceData;
+    }
+
+    @Override
+    public String channel() {
+        return publisher.channel();
+    }
+
+    /**
+     * Applies one notification payload. Messages this node sent itself are skipped, their effects were
+     * applied when its own transaction committed.
+     */
+    @Override
+    public void onNotification(String payload) {
+        InvalidationMessage message = InvalidationMessage.parse(payload).orElse(null);
+        if (message == null) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+        if (message.nodeId().equals(publisher.nodeId())) {
+            return;
+        }
+        try {
+            switch (message.topic()) {
+                case CacheInvalidationPublisher.PARTY_TOPIC -> {
+                    if (message.isAll()) {
+                        partyCache.ifAvailable(PartyCacheInvalidator::evictAllLocally);
+                    } else {
+                        partyCache.ifAvailable(cache -> cache.evictLocally(
+                                message.keys().stream().map(UUID::fromString).toList()));
+                    }
+                }
+                case CacheInvalidationPublisher.REFERENCE_DATA_TOPIC ->
+                        referenceData.ifAvailable(ReferenceDataRegistry::refresh);
+                default -> log.debug("Ignoring cache invalidation for unknown topic '{}'", message.topic());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply cache invalidation from node {}: {}", message.nodeId(), payload, e);
+        }
+    }
+
+    @Override
+    public void onReconnect() {
+        partyCache.ifAvailable(PartyCacheInvalidator::evictAllLocally);
+        referenceData.ifAvailable(ReferenceDataRegistry::refresh);
+    }
+}
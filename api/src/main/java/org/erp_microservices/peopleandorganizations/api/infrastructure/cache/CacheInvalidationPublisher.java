@@ -0,0 +1,143 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Tells the other nodes of the service which cached entries a write has made stale, over PostgreSQL
+ * NOTIFY on the {@code cache-invalidation.channel}. The {@link CacheInvalidationListener} of every node
+ * receives the message and evicts the entries locally.
+ *
+ * <p>Keys are collected per transaction and sent just before it commits, on the writer's own connection.
+ * PostgreSQL only delivers a notification when its transaction commits, so peers never reload pre-commit
+ * state, and the invalidation commits or rolls back together with the write. Keys written by the flush
+ * during the commit itself, after the collected ones went out, are sent straight away in the same
+ * transaction.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String PARTY_TOPIC = "party";
+    public static final String REFERENCE_DATA_TOPIC = "reference-data";
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final String NOTIFY = "SELECT 1 FROM pg_notify(?, ?)";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String channel;
+
+    public CacheInvalidationPublisher(JdbcTemplate jdbcTemplate,
+                                      @Value("${cache-invalidation.enabled:true}") boolean enabled,
+                                      @Value("${cache-invalidation.channel:cache_invalidation}") String channel) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("cache-invalidation.channel must be a lower-case SQL identifier: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    /** Identifies this node's notifications, so its own listener can skip them. */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public String channel() {
+        return channel;
+    }
+
+    public void partyChanged(UUID partyId) {
+        if (partyId != null) {
+            publish(PARTY_TOPIC, partyId.toString());
+        }
+    }
+
+    public void allPartiesChanged() {
+        publish(PARTY_TOPIC, InvalidationMessage.ALL);
+    }
+
+    public void referenceDataChanged() {
+        publish(REFERENCE_DATA_TOPIC, InvalidationMessage.ALL);
+    }
+
+    private void publish(String topic, String key) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendCommitted(Map.of(topic, Set.of(key)));
+            return;
+        }
+        pending().add(topic, key);
+    }
+
+    private PendingNotifications pending() {
+        PendingNotifications pending = (PendingNotifications) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingNotifications();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    /**
+     * Outside a transaction the write has already committed, so a failure is logged rather than thrown.
+     */
+    private void sendCommitted(Map<String, Set<String>> topics) {
+        try {
+            send(topics);
+        } catch (RuntimeException e) {
+            log.warn("Could not notify other nodes of cache invalidations {}", topics.keySet(), e);
+        }
+    }
+
+    private void send(Map<String, Set<String>> topics) {
+        topics.forEach((topic, keys) -> {
+            InvalidationMessage message = new InvalidationMessage(nodeId, topic, new ArrayList<>(keys));
+            for (String payload : message.encode()) {
+                jdbcTemplate.queryForObject(NOTIFY, Integer.class, channel, payload);
+            }
+        });
+    }
+
+    private final class PendingNotifications implements TransactionSynchronization {
+
+        private final Map<String, Set<String>> topics = new LinkedHashMap<>();
+        private boolean sent;
+
+        void add(String topic, String key) {
+            if (sent) {
+                send(Map.of(topic, Set.of(key)));
+            } else {
+                topics.computeIfAbsent(topic, ignored -> new LinkedHashSet<>()).add(key);
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            sent = true;
+            send(topics);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationPublisher.this);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A cache invalidation sent between nodes as a NOTIFY payload: {@code nodeId|topic|key,key,...}. The key
+ * {@value #ALL} stands for every entry of the topic.
+ */
+record InvalidationMessage(String nodeId, String topic, List<String> keys) {
+
+    static final String ALL = "*";
+
+    /** PostgreSQL rejects NOTIFY payloads of 8000 bytes or more. */
+    static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private static final char SEPARATOR = '|';
+    private static final char KEY_SEPARATOR = ',';
+
+    boolean isAll() {
+        return keys.contains(ALL);
+    }
+
+    /**
+     * Encodes the message, split into as many payloads as needed to stay under the NOTIFY limit.
+     * Node ids, topics and keys are ASCII, so characters and bytes are the same length.
+     */
+    List<String> encode() {
+        String prefix = nodeId + SEPARATOR + topic + SEPARATOR;
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(prefix);
+        for (String key : isAll() ? List.of(ALL) : keys) {
+            if (payload.length() > prefix.length()
+                    && payload.length() + 1 + key.length() > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload.setLength(prefix.length());
+            }
+            if (payload.length() > prefix.length()) {
+                payload.append(KEY_SEPARATOR);
+            }
+            payload.append(key);
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+
+    static Optional<InvalidationMessage> parse(String payload) {
+        if (payload == null) {
+            return Optional.empty();
+        }
+        int topicStart = payload.indexOf(SEPARATOR);
+        int keysStart = topicStart < 0 ? -1 : payload.indexOf(SEPARATOR, topicStart + 1);
+        if (topicStart <= 0 || keysStart < 0) {
+            return Optional.empty();
+        }
+        String keys = payload.substring(keysStart + 1);
+        return Optional.of(new InvalidationMessage(
+                payload.substring(0, topicStart),
+                payload.substring(topicStart + 1, keysStart),
+                keys.isEmpty() ? List.of() : Arrays.asList(keys.split(String.valueOf(KEY_SEPARATOR)))));
+    }
+}
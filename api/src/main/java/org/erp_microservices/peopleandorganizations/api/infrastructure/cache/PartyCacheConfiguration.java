@@ -0,0 +1,69 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Second-level cache regions for the party aggregate. The regions are created as bounded, expiring
+ * Caffeine caches in the Spring JCache manager, which Hibernate is then pointed at: Hibernate reads
+ * through them on {@code find} and keeps them current on commit, while the Spring cache metrics binder
+ * publishes their hit, miss and eviction counts as {@code cache.*} meters tagged by region.
+ */
+@Configuration
+public class PartyCacheConfiguration {
+
+    /** Party, Person and Organization rows. */
+    public static final String PARTY_REGION = "party";
+    /** Role, name, identification and classification rows. */
+    public static final String CHILDREN_REGION = "party-children";
+    /** The child id lists of each party's collections. */
+    public static final String COLLECTIONS_REGION = "party-collections";
+
+    static final List<String> REGIONS = List.of(PARTY_REGION, CHILDREN_REGION, COLLECTIONS_REGION);
+
+    @Bean
+    public JCacheManagerCustomizer partyCacheRegions(
+            @Value("${party-cache.max-size:10000}") long maxSize,
+            @Value("${party-cache.ttl:PT10M}") Duration ttl) {
+        return cacheManager -> {
+            for (String region : REGIONS) {
+                if (cacheManager.getCache(region) == null) {
+                    cacheManager.createCache(region, regionConfiguration(maxSize, ttl));
+                }
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer partyCacheHibernateCustomizer(ObjectProvider<JCacheCacheManager> cacheManager) {
+        return properties -> cacheManager.ifAvailable(manager ->
+                properties.put(ConfigSettings.CACHE_MANAGER, manager.getCacheManager()));
+    }
+
+    static CaffeineConfiguration<Object, Object> regionConfiguration(long maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("party-cache.max-size must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("party-cache.ttl must be positive");
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        // Hibernate already stores disassembled entity state; copying it again on every get is pure overhead
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,126 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evicts party aggregates from the second-level cache when they are saved or deleted through the
+ * party repository. Hibernate already updates the regions for changes it flushes itself; eviction
+ * also covers writes it does not see in full, such as bulk deletes, and guarantees the next read goes
+ * to the database. Inside a transaction the eviction is deferred until after commit so a concurrent
+ * reader cannot load the pre-commit state back into the cache.
+ *
+ * <p>The other nodes are told through the {@link CacheInvalidationPublisher} and evict the same
+ * parties through {@link #evictLocally}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartyCacheInvalidator {
+
+    private static final List<String> COLLECTION_ROLES = List.of(
+            Party.class.getName() + ".roles",
+            Party.class.getName() + ".names",
+            Party.class.getName() + ".identifications",
+            Party.class.getName() + ".classifications");
+
+    private static final Object ALL = new Object();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationPublisher publisher;
+
+    public void evict(UUID partyId) {
+        if (partyId == null) {
+            return;
+        }
+        publisher.partyChanged(partyId);
+        Set<Object> pending = pending();
+        if (pending == null) {
+            evictLocally(Set.of(partyId));
+        } else {
+            pending.add(partyId);
+        }
+    }
+
+    public void evictAll() {
+        publisher.allPartiesChanged();
+        Set<Object> pending = pending();
+        if (pending == null) {
+            evictAllLocally();
+        } else {
+            pending.add(ALL);
+        }
+    }
+
+    /**
+     * Evicts the parties from this node's cache right away, without notifying the other nodes.
+     */
+    public void evictLocally(Collection<UUID> partyIds) {
+        Cache cache = cache();
+        for (UUID id : partyIds) {
+            cache.evictEntityData(Party.class, id);
+            for (String role : COLLECTION_ROLES) {
+                cache.evictCollectionData(role, id);
+            }
+        }
+        log.debug("Evicted {} party aggregate(s) from the second-level cache", partyIds.size());
+    }
+
+    /**
+     * Clears this node's party regions right away, without notifying the other nodes.
+     */
+    public void evictAllLocally() {
+        log.debug("Evicting all party aggregates from the second-level cache");
+        PartyCacheConfiguration.REGIONS.forEach(cache()::evictRegion);
+    }
+
+    /**
+     * The ids to evict when the current transaction commits, or null when there is no transaction and
+     * the eviction should happen straight away.
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Object> pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Set<Object> pending = (Set<Object>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Set<Object> ids = new HashSet<>();
+        TransactionSynchronizationManager.bindResource(this, ids);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (ids.contains(ALL)) {
+                    evictAllLocally();
+                } else {
+                    evictLocally(ids.stream().map(UUID.class::cast).toList());
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PartyCacheInvalidator.this);
+            }
+        });
+        return ids;
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
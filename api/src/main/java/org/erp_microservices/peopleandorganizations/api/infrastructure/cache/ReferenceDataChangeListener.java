@@ -0,0 +1,86 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.IdentificationType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.NameType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyClassificationType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRoleType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Set;
+
+/**
+ * Hibernate event listener on the type entities that refreshes the {@link ReferenceDataRegistry} once the
+ * writing transaction commits. It is registered from here, as an {@link Integrator} handed to Hibernate by
+ * {@link ReferenceDataConfiguration}, so the domain types carry no reference to the cache. The registry
+ * and the {@link CacheInvalidationPublisher}, which tells the other nodes, are looked up lazily because
+ * they depend on the repositories, which in turn need the entity manager factory this listener is part of.
+ * Both defer their work to the commit, so a flush of a transaction that later rolls back changes nothing.
+ */
+@RequiredArgsConstructor
+public class ReferenceDataChangeListener
+        implements Integrator, PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    static final Set<Class<?>> REFERENCE_TYPES = Set.of(PartyType.class, PartyRoleType.class, NameType.class,
+            IdentificationType.class, PartyClassificationType.class, PartyRelationshipType.class);
+
+    private final ObjectProvider<ReferenceDataRegistry> registry;
+    private final ObjectProvider<CacheInvalidationPublisher> publisher;
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_INSERT, this);
+        listeners.appendListeners(EventType.POST_UPDATE, this);
+        listeners.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    void onChange(Object entity) {
+        if (!REFERENCE_TYPES.contains(entity.getClass())) {
+            return;
+        }
+        registry.ifAvailable(ReferenceDataRegistry::invalidate);
+        publisher.ifAvailable(CacheInvalidationPublisher::referenceDataChanged);
+    }
+}
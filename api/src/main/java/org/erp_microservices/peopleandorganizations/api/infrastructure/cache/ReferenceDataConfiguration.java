@@ -0,0 +1,27 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Hooks the {@link ReferenceDataChangeListener} into Hibernate's event system, so writes to the type
+ * tables refresh the {@link ReferenceDataRegistry} without the domain entities knowing about it.
+ */
+@Configuration
+public class ReferenceDataConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceDataHibernateCustomizer(
+            ObjectProvider<ReferenceDataRegistry> registry,
+            ObjectProvider<CacheInvalidationPublisher> publisher) {
+        ReferenceDataChangeListener listener = new ReferenceDataChangeListener(registry, publisher);
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(listener));
+    }
+}
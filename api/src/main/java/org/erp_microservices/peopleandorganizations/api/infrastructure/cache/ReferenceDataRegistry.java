@@ -0,0 +1,228 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.IdentificationType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.NameType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyClassificationType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRoleType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.IdentificationTypeRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.NameTypeRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyClassificationTypeRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyRelationshipTypeJpaRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyRoleTypeRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyTypeRepository;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Preloaded, read-only view of the type tables (party, role, name, identification, classification and
+ * relationship types). These tables hold a few dozen rows that rarely change, so lookups are served from
+ * an immutable snapshot instead of a query per request.
+ *
+ * <p>The snapshot is replaced as a whole: after any transaction that writes a type (see
+ * {@link ReferenceDataChangeListener}) and on a fixed timer to pick up changes made outside this
+ * service. The reload after a write runs on the task executor, so the writing thread releases its
+ * connection without waiting for a second one; refreshes run one at a time, so the last to start wins.
+ * Cached entities are detached with their parent chain initialized, so they can be used as association
+ * targets and for the {@code isXxx()} hierarchy checks without touching the database.
+ */
+@Component
+@Slf4j
+public class ReferenceDataRegistry {
+
+    private final PartyTypeRepository partyTypeRepository;
+    private final PartyRoleTypeRepository partyRoleTypeRepository;
+    private final NameTypeRepository nameTypeRepository;
+    private final IdentificationTypeRepository identificationTypeRepository;
+    private final PartyClassificationTypeRepository partyClassificationTypeRepository;
+    private final PartyRelationshipTypeJpaRepository partyRelationshipTypeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor refreshExecutor;
+    private final Lock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public ReferenceDataRegistry(PartyTypeRepository partyTypeRepository,
+                                 PartyRoleTypeRepository partyRoleTypeRepository,
+                                 NameTypeRepository nameTypeRepository,
+                                 IdentificationTypeRepository identificationTypeRepository,
+                                 PartyClassificationTypeRepository partyClassificationTypeRepository,
+                                 PartyRelationshipTypeJpaRepository partyRelationshipTypeRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                 TaskExecutor refreshExecutor) {
+        this.partyTypeRepository = partyTypeRepository;
+        this.partyRoleTypeRepository = partyRoleTypeRepository;
+        this.nameTypeRepository = nameTypeRepository;
+        this.identificationTypeRepository = identificationTypeRepository;
+        this.partyClassificationTypeRepository = partyClassificationTypeRepository;
+        this.partyRelationshipTypeRepository = partyRelationshipTypeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public ReferenceIndex<PartyType> partyTypes() {
+        return snapshot().partyTypes();
+    }
+
+    public ReferenceIndex<PartyRoleType> partyRoleTypes() {
+        return snapshot().partyRoleTypes();
+    }
+
+    public ReferenceIndex<NameType> nameTypes() {
+        return snapshot().nameTypes();
+    }
+
+    public ReferenceIndex<IdentificationType> identificationTypes() {
+        return snapshot().identificationTypes();
+    }
+
+    public ReferenceIndex<PartyClassificationType> partyClassificationTypes() {
+        return snapshot().partyClassificationTypes();
+    }
+
+    public ReferenceIndex<PartyRelationshipType> partyRelationshipTypes() {
+        return snapshot().partyRelationshipTypes();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${reference-data.refresh-interval:PT10M}",
+            initialDelayString = "${reference-data.refresh-interval:PT10M}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Scheduled reference data refresh failed, keeping the previous snapshot", e);
+        }
+    }
+
+    /**
+     * Reloads all type tables in a separate read-only transaction and swaps in the new snapshot.
+     */
+    public void refresh() {
+        Snapshot loaded;
+        refreshLock.lock();
+        try {
+            loaded = transactionTemplate.execute(status -> load());
+            snapshot = loaded;
+        } finally {
+            refreshLock.unlock();
+        }
+        log.info("Loaded reference data: {} party types, {} role types, {} name types, {} identification types, "
+                        + "{} classification types, {} relationship types",
+                loaded.partyTypes().size(), loaded.partyRoleTypes().size(), loaded.nameTypes().size(),
+                loaded.identificationTypes().size(), loaded.partyClassificationTypes().size(),
+                loaded.partyRelationshipTypes().size());
+    }
+
+    /**
+     * Schedules a refresh for when the current transaction commits, so the reload sees the new rows. It
+     * is handed to the task executor rather than run on the committing thread, which still holds its
+     * connection at that point. Called once per transaction however many type rows it writes; refreshes
+     * right away when there is no transaction.
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshExecutor.execute(() -> {
+                    try {
+                        refresh();
+                    } catch (RuntimeException e) {
+                        log.warn("Reference data refresh after a type change failed, keeping the previous snapshot", e);
+                    }
+                });
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReferenceDataRegistry.this);
+            }
+        });
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        return new Snapshot(
+                ReferenceIndex.of(withParents(partyTypeRepository.findAll(), PartyType::getParent),
+                        PartyType::getId, PartyType::getDescription),
+                ReferenceIndex.of(withParents(partyRoleTypeRepository.findAll(), PartyRoleType::getParent),
+                        PartyRoleType::getId, PartyRoleType::getDescription),
+                ReferenceIndex.of(withParents(nameTypeRepository.findAll(), NameType::getParent),
+                        NameType::getId, NameType::getDescription),
+                ReferenceIndex.of(withParents(identificationTypeRepository.findAll(), IdentificationType::getParent),
+                        IdentificationType::getId, IdentificationType::getDescription),
+                ReferenceIndex.of(withParents(partyClassificationTypeRepository.findAll(),
+                                PartyClassificationType::getParent),
+                        PartyClassificationType::getId, PartyClassificationType::getDescription),
+                ReferenceIndex.of(withParents(partyRelationshipTypeRepository.findAll(),
+                                PartyRelationshipType::getParentType),
+                        PartyRelationshipType::getId, PartyRelationshipType::getName));
+    }
+
+    /**
+     * Every parent is itself one of the loaded rows, so initializing the parent proxies is served from
+     * the persistence context and does not issue further queries.
+     */
+    private static <T> List<T> withParents(List<T> types, Function<T, T> parent) {
+        for (T type : types) {
+            T parentType = parent.apply(type);
+            if (parentType != null) {
+                Hibernate.initialize(parentType);
+            }
+        }
+        return types;
+    }
+
+    private record Snapshot(ReferenceIndex<PartyType> partyTypes,
+                            ReferenceIndex<PartyRoleType> partyRoleTypes,
+                            ReferenceIndex<NameType> nameTypes,
+                            ReferenceIndex<IdentificationType> identificationTypes,
+                            ReferenceIndex<PartyClassificationType> partyClassificationTypes,
+                            ReferenceIndex<PartyRelationshipType> partyRelationshipTypes) {
+    }
+}
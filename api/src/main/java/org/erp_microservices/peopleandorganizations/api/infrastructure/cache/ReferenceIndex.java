@@ -0,0 +1,51 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable lookup table for one kind of reference data, indexed by id and by its natural key
+ * (the description, or the name for relationship types).
+ */
+public final class ReferenceIndex<T> {
+
+    private final List<T> values;
+    private final Map<UUID, T> byId;
+    private final Map<String, T> byKey;
+
+    private ReferenceIndex(List<T> values, Map<UUID, T> byId, Map<String, T> byKey) {
+        this.values = values;
+        this.byId = byId;
+        this.byKey = byKey;
+    }
+
+    public static <T> ReferenceIndex<T> of(Collection<T> values,
+                                           Function<T, UUID> id,
+                                           Function<T, String> key) {
+        return new ReferenceIndex<>(
+                List.copyOf(values),
+                values.stream().collect(Collectors.toUnmodifiableMap(id, Function.identity())),
+                values.stream().collect(Collectors.toUnmodifiableMap(key, Function.identity())));
+    }
+
+    public Optional<T> find(UUID id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<T> find(String key) {
+        return key == null ? Optional.empty() : Optional.ofNullable(byKey.get(key));
+    }
+
+    public List<T> all() {
+        return values;
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
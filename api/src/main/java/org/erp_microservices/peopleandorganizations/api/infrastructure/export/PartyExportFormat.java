@@ -0,0 +1,16 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.export;
+
+public enum PartyExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    PartyExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,53 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.export;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Batch mode for the nightly data lake export. Started with {@code --party-export.file=<path>}
+ * (optionally {@code --party-export.format=csv} and {@code --spring.main.web-application-type=none}),
+ * the application writes the export to the file and exits.
+ */
+@Component
+@ConditionalOnProperty(prefix = "party-export", name = "file")
+@RequiredArgsConstructor
+@Slf4j
+public class PartyExportJob implements ApplicationRunner {
+
+    private final PartyExportService partyExportService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${party-export.file}")
+    private Path file;
+
+    @Value("${party-export.format:ndjson}")
+    private String format;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        log.info("Exporting parties to {} as {}", file, format);
+        int exitCode = 0;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            partyExportService.export(out, PartyExportFormat.valueOf(format.toUpperCase(Locale.ROOT)));
+        } catch (RuntimeException e) {
+            log.error("Party export to {} failed", file, e);
+            exitCode = 1;
+        }
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
@@ -0,0 +1,180 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams every party with its active names, roles, identifications and classifications to an output
+ * stream. The query runs inside a read-only transaction with a JDBC fetch size, which makes the
+ * PostgreSQL driver read through a server-side cursor: only one fetch worth of rows is ever held in
+ * memory, however many parties there are. Child rows are aggregated to JSON in the database so each
+ * party is a single result row (jsonb, because json_agg output contains line breaks that would split an
+ * NDJSON record); in CSV they are written as JSON text in their cell.
+ */
+@Service
+@Slf4j
+public class PartyExportService {
+
+    private static final String EXPORT_PARTIES = """
+            SELECT p.id, p.party_type, p.comment,
+                   pe.first_name, pe.middle_name, pe.last_name, pe.title, pe.suffix, pe.birth_date, pe.gender,
+                   o.organization_name, o.trading_name, o.registration_number, o.established_date,
+                   o.tax_identification_number AS tax_id_number, o.number_of_employees, o.industry,
+                   COALESCE((SELECT jsonb_agg(jsonb_build_object('name', pn.name, 'type', nt.description,
+                                                               'from_date', pn.from_date) ORDER BY pn.from_date)
+                               FROM party_name pn
+                               JOIN name_type nt ON nt.id = pn.name_type_id
+                              WHERE pn.party_id = p.id
+                                AND pn.from_date <= CURRENT_DATE
+                                AND (pn.thru_date IS NULL OR pn.thru_date >= CURRENT_DATE)), '[]'::jsonb) AS names,
+                   COALESCE((SELECT jsonb_agg(jsonb_build_object('role', rt.description,
+                                                               'from_date', pr.from_date) ORDER BY pr.from_date)
+                               FROM party_role pr
+                               JOIN party_role_type rt ON rt.id = pr.party_role_type_id
+                              WHERE pr.party_id = p.id
+                                AND pr.from_date <= CURRENT_DATE
+                                AND (pr.thru_date IS NULL OR pr.thru_date > CURRENT_DATE)), '[]'::jsonb) AS roles,
+                   COALESCE((SELECT jsonb_agg(jsonb_build_object('identifier', pi.ident, 'type', it.description,
+                                                               'from_date', pi.from_date) ORDER BY pi.from_date)
+                               FROM party_id pi
+                               JOIN id_type it ON it.id = pi.id_type_id
+                              WHERE pi.party_id = p.id
+                                AND pi.from_date <= CURRENT_DATE
+                                AND (pi.thru_date IS NULL OR pi.thru_date >= CURRENT_DATE)), '[]'::jsonb) AS identifications,
+                   COALESCE((SELECT jsonb_agg(jsonb_build_object('value', pc.value, 'type', ct.description,
+                                                               'from_date', pc.from_date) ORDER BY pc.from_date)
+                               FROM party_classification pc
+                               JOIN party_classification_type ct ON ct.id = pc.party_classification_type_id
+                              WHERE pc.party_id = p.id
+                                AND pc.from_date <= CURRENT_DATE
+                                AND (pc.thru_date IS NULL OR pc.thru_date >= CURRENT_DATE)), '[]'::jsonb) AS classifications
+              FROM party p
+              LEFT JOIN person pe ON pe.id = p.id
+              LEFT JOIN organization o ON o.id = p.id
+            """;
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "party_type", "comment",
+            "first_name", "middle_name", "last_name", "title", "suffix", "birth_date", "gender",
+            "organization_name", "trading_name", "registration_number", "established_date",
+            "tax_id_number", "number_of_employees", "industry",
+            "names", "roles", "identifications", "classifications");
+
+    private static final Set<String> JSON_COLUMNS = Set.of("names", "roles", "identifications", "classifications");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    public PartyExportService(DataSource dataSource,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${party-export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes all parties to {@code out} and returns the number written. The stream is flushed but not
+     * closed.
+     */
+    public long export(OutputStream out, PartyExportFormat format) {
+        log.info("Starting {} party export", format);
+        Long exported = transactionTemplate.execute(status -> {
+            try {
+                return format == PartyExportFormat.CSV ? writeCsv(out) : writeNdjson(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("Party export finished: {} parties", exported);
+        return exported;
+    }
+
+    private long writeNdjson(OutputStream out) throws IOException {
+        AtomicLong count = new AtomicLong();
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(null);
+            jdbcTemplate.query(EXPORT_PARTIES, rs -> {
+                try {
+                    writeJsonLine(json, rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count.incrementAndGet();
+            });
+        }
+        return count.get();
+    }
+
+    private void writeJsonLine(JsonGenerator json, ResultSet rs) throws IOException, SQLException {
+        json.writeStartObject();
+        for (String column : COLUMNS) {
+            if (JSON_COLUMNS.contains(column)) {
+                json.writeFieldName(column);
+                json.writeRawValue(rs.getString(column));
+            } else if ("number_of_employees".equals(column)) {
+                int employees = rs.getInt(column);
+                if (rs.wasNull()) {
+                    json.writeNullField(column);
+                } else {
+                    json.writeNumberField(column, employees);
+                }
+            } else {
+                json.writeStringField(column, rs.getString(column));
+            }
+        }
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private long writeCsv(OutputStream out) throws IOException {
+        CsvSchema schema = CsvSchema.builder()
+                .addColumns(COLUMNS, CsvSchema.ColumnType.STRING)
+                .build()
+                .withHeader();
+        AtomicLong count = new AtomicLong();
+        try (SequenceWriter csv = csvMapper.writer(schema)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(out)) {
+            jdbcTemplate.query(EXPORT_PARTIES, rs -> {
+                List<String> row = new ArrayList<>(COLUMNS.size());
+                for (String column : COLUMNS) {
+                    row.add(rs.getString(column));
+                }
+                try {
+                    csv.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count.incrementAndGet();
+            });
+        }
+        return count.get();
+    }
+}
@@ -0,0 +1,108 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.metrics;
+
+import io.micrometer.context.ContextRegistry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals of the Hibernate work done on behalf of one unit of work, typically a GraphQL request
+ * or one of its fields. The activity is bound to the thread doing the work;
+ * {@link SqlActivitySessionListener} and {@link SqlActivityInterceptor} add to whatever activity is bound
+ * and do nothing when none is. Work recorded against a child activity also counts towards its parent.
+ *
+ * <p>Data fetchers may run on other threads than the request, so the binding is registered with
+ * Micrometer context propagation under {@link #CONTEXT_KEY}: an activity stored in the GraphQL context
+ * under that key is restored on the thread that runs the fetcher.
+ *
+ * <p>Only Hibernate statements are seen. Queries issued through JdbcTemplate (search, export, bulk
+ * import) bypass the session and are not counted.
+ */
+public final class SqlActivity {
+
+    public static final String CONTEXT_KEY = SqlActivity.class.getName();
+
+    private static final ThreadLocal<SqlActivity> CURRENT = new ThreadLocal<>();
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(CONTEXT_KEY, CURRENT::get, CURRENT::set, CURRENT::remove);
+    }
+
+    private final SqlActivity parent;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder jdbcNanos = new LongAdder();
+    private final LongAdder entityLoads = new LongAdder();
+
+    public SqlActivity() {
+        this(null);
+    }
+
+    private SqlActivity(SqlActivity parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * A new activity whose work is also added to this one.
+     */
+    public SqlActivity child() {
+        return new SqlActivity(this);
+    }
+
+    /**
+     * Binds {@code activity} to the calling thread and returns the activity it replaces, which the
+     * caller restores with {@link #restore(SqlActivity)} once done.
+     */
+    public static SqlActivity bind(SqlActivity activity) {
+        SqlActivity previous = CURRENT.get();
+        CURRENT.set(activity);
+        return previous;
+    }
+
+    public static void restore(SqlActivity previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    static SqlActivity current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared() {
+        for (SqlActivity activity = this; activity != null; activity = activity.parent) {
+            activity.statements.increment();
+        }
+    }
+
+    void jdbcExecuted(long nanos) {
+        for (SqlActivity activity = this; activity != null; activity = activity.parent) {
+            activity.jdbcNanos.add(nanos);
+        }
+    }
+
+    void entityLoaded() {
+        for (SqlActivity activity = this; activity != null; activity = activity.parent) {
+            activity.entityLoads.increment();
+        }
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(statements.sum(), jdbcNanos.sum(), entityLoads.sum());
+    }
+
+    /**
+     * Totals at a point in time; subtract two snapshots to get the work done in between.
+     */
+    public record Snapshot(long statements, long jdbcNanos, long entityLoads) {
+
+        public Snapshot since(Snapshot earlier) {
+            return new Snapshot(statements - earlier.statements, jdbcNanos - earlier.jdbcNanos,
+                    entityLoads - earlier.entityLoads);
+        }
+
+        public boolean isEmpty() {
+            return statements == 0 && entityLoads == 0;
+        }
+    }
+}
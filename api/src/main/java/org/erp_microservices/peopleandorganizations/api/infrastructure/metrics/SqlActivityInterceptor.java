@@ -0,0 +1,20 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * Counts entities hydrated from JDBC results into the {@link SqlActivity} bound to the current thread.
+ * Registered once per session factory, so it holds no state of its own.
+ */
+public class SqlActivityInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        SqlActivity activity = SqlActivity.current();
+        if (activity != null) {
+            activity.entityLoaded();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Session listener that counts prepared statements and accumulates JDBC execution time into the
+ * {@link SqlActivity} bound to the current thread. Hibernate creates one instance per session from
+ * {@code hibernate.session.events.auto}, so the start times need no synchronization.
+ */
+public class SqlActivitySessionListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        SqlActivity activity = SqlActivity.current();
+        if (activity != null) {
+            activity.statementPrepared();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordJdbcTime(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordJdbcTime(batchStart);
+    }
+
+    private static void recordJdbcTime(long start) {
+        SqlActivity activity = SqlActivity.current();
+        if (activity != null) {
+            activity.jdbcExecuted(System.nanoTime() - start);
+        }
+    }
+}
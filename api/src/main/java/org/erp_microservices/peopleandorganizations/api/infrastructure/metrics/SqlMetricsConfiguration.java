@@ -0,0 +1,18 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlMetricsConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlActivityHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlActivitySessionListener.class.getName());
+            properties.put(AvailableSettings.INTERCEPTOR, new SqlActivityInterceptor());
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.notification;
+
+/**
+ * Receives the payloads NOTIFY delivers on one PostgreSQL channel, through the
+ * {@link PostgresNotificationListener}. Handlers are called on the listener thread, one notification
+ * at a time, and should hand off anything slow.
+ */
+public interface NotificationHandler {
+
+    /** The channel to LISTEN on; must be a lower-case SQL identifier. */
+    String channel();
+
+    void onNotification(String payload);
+
+    /**
+     * Called after the listener reconnected. Notifications sent while it was disconnected are lost,
+     * so handlers that mirror state should resynchronize here.
+     */
+    default void onReconnect() {
+    }
+}
@@ -0,0 +1,150 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers PostgreSQL notifications to the {@link NotificationHandler}s of this node.
+ *
+ * <p>LISTEN needs a session of its own for as long as the node runs, so the listener opens one
+ * dedicated connection outside the pool, LISTENs on every handler's channel and blocks on it for
+ * notifications, which arrive within milliseconds of the sender's commit. When the connection drops it
+ * reconnects after a delay and tells every handler, since notifications sent in between are lost.
+ */
+@Component
+@Slf4j
+public class PostgresNotificationListener implements SmartLifecycle {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final JdbcConnectionDetails connectionDetails;
+    private final Map<String, List<NotificationHandler>> handlersByChannel;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public PostgresNotificationListener(JdbcConnectionDetails connectionDetails,
+                                        List<NotificationHandler> handlers,
+                                        @Value("${notification-listener.poll-timeout:PT1S}") Duration pollTimeout,
+                                        @Value("${notification-listener.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        if (pollTimeout.toMillis() < 1) {
+            throw new IllegalArgumentException("notification-listener.poll-timeout must be at least 1ms");
+        }
+        for (NotificationHandler handler : handlers) {
+            if (!CHANNEL_NAME.matcher(handler.channel()).matches()) {
+                throw new IllegalArgumentException("Notification channel must be a lower-case SQL identifier: "
+                        + handler.channel());
+            }
+        }
+        this.connectionDetails = connectionDetails;
+        this.handlersByChannel = handlers.stream().collect(Collectors.groupingBy(NotificationHandler::channel));
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || handlersByChannel.isEmpty()) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofPlatform()
+                .name("postgres-notification-listener")
+                .daemon()
+                .start(this::listen);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        try {
+            thread.join(pollTimeout.plusSeconds(1).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : handlersByChannel.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                log.info("Listening for notifications on {}", handlersByChannel.keySet());
+                if (reconnecting) {
+                    handlersByChannel.values().stream().flatMap(List::stream).forEach(this::reconnected);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            deliver(notification);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Notification listener lost its connection, reconnecting in {}", reconnectDelay, e);
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void deliver(PGNotification notification) {
+        for (NotificationHandler handler : handlersByChannel.getOrDefault(notification.getName(), List.of())) {
+            try {
+                handler.onNotification(notification.getParameter());
+            } catch (RuntimeException e) {
+                log.warn("{} failed to handle a notification on {}", handler.getClass().getSimpleName(),
+                        notification.getName(), e);
+            }
+        }
+    }
+
+    private void reconnected(NotificationHandler handler) {
+        try {
+            handler.onReconnect();
+        } catch (RuntimeException e) {
+            log.warn("{} failed to resynchronize after reconnecting", handler.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Delivers each change as a Spring application event to in-process {@code @EventListener}s. Listeners
+ * run on the relay thread, and an exception from one of them fails the batch.
+ */
+@Component
+@ConditionalOnProperty(name = "party-outbox.sink", havingValue = "in-process", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ApplicationEventPartyChangeSink implements PartyChangeSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<PartyChangeMessage> batch) {
+        batch.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,58 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each change as one NDJSON line to {@code party-outbox.file.path}, forcing the batch to disk
+ * before it is marked published.
+ */
+@Component
+@ConditionalOnProperty(name = "party-outbox.sink", havingValue = "file")
+public class FilePartyChangeSink implements PartyChangeSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FilePartyChangeSink(ObjectMapper objectMapper,
+                               @Value("${party-outbox.file.path}") Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void publish(List<PartyChangeMessage> batch) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            StringBuilder lines = new StringBuilder();
+            for (PartyChangeMessage message : batch) {
+                lines.append(objectMapper.writeValueAsString(message)).append('\n');
+            }
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append party changes to " + path, e);
+        }
+    }
+}
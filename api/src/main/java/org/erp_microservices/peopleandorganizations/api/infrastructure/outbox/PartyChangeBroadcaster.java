@@ -0,0 +1,91 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.notification.NotificationHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Fans committed party changes out to every subscriber on this node. Changes arrive once per node from
+ * the {@link PartyChangeNotifier}'s channel, whichever node made them, and are multicast to all current
+ * subscribers; nothing is replayed to late subscribers.
+ *
+ * <p>Each subscriber gets its own bounded buffer. One that cannot keep up, such as a client on a slow
+ * WebSocket, loses its oldest pending changes instead of holding back the others or growing without
+ * bound; the drops are counted in {@value #DROPPED_METER}.
+ */
+@Component
+@Slf4j
+public class PartyChangeBroadcaster implements NotificationHandler {
+
+    static final String DROPPED_METER = "party.subscriptions.dropped";
+    static final String SUBSCRIBERS_METER = "party.subscriptions.subscribers";
+
+    private final Sinks.Many<PartyChangeMessage> sink = Sinks.many().multicast().directBestEffort();
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final int subscriberBuffer;
+    private final Counter dropped;
+
+    public PartyChangeBroadcaster(ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${party-subscriptions.channel:party_changes}") String channel,
+                                  @Value("${party-subscriptions.subscriber-buffer:256}") int subscriberBuffer) {
+        if (subscriberBuffer <= 0) {
+            throw new IllegalArgumentException("party-subscriptions.subscriber-buffer must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.subscriberBuffer = subscriberBuffer;
+        this.dropped = Counter.builder(DROPPED_METER)
+                .description("Party changes dropped because a subscriber fell too far behind")
+                .register(meterRegistry);
+        Gauge.builder(SUBSCRIBERS_METER, sink, Sinks.Many::currentSubscriberCount)
+                .description("Active party change subscriptions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The live stream of party changes, buffered per subscriber.
+     */
+    public Flux<PartyChangeMessage> changes() {
+        return sink.asFlux()
+                .onBackpressureBuffer(subscriberBuffer, change -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    @Override
+    public String channel() {
+        return channel;
+    }
+
+    @Override
+    public void onNotification(String payload) {
+        PartyChangeMessage change;
+        try {
+            change = objectMapper.readValue(payload, PartyChangeMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed party change notification: {}", payload, e);
+            return;
+        }
+        broadcast(change);
+    }
+
+    /**
+     * Called from the single listener thread, so emissions are never concurrent. Having no subscribers
+     * is the normal case and not an error.
+     */
+    void broadcast(PartyChangeMessage change) {
+        Sinks.EmitResult result = sink.tryEmitNext(change);
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.warn("Could not broadcast party change {}: {}", change.sequence(), result);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.outbox;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeEvent;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A published party change as sinks receive it. {@code sequence} increases with every recorded change
+ * and lets consumers discard duplicates after a redelivery.
+ */
+public record PartyChangeMessage(
+    long sequence,
+    String aggregateType,
+    UUID aggregateId,
+    String changeType,
+    Map<String, Object> payload,
+    Instant occurredAt
+) {
+
+    static PartyChangeMessage from(PartyChangeEvent event) {
+        return new PartyChangeMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getChangeType().name(), Map.copyOf(event.getPayload()), event.getOccurredAt());
+    }
+}
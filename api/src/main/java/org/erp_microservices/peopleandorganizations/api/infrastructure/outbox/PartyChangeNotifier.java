@@ -0,0 +1,56 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Announces each recorded party change on the {@code party-subscriptions.channel} with NOTIFY. The
+ * notification is sent in the transaction that records the change, and PostgreSQL only delivers it
+ * if that transaction commits, so subscribers never see a change that was rolled back.
+ */
+@Component
+@Slf4j
+public class PartyChangeNotifier {
+
+    /** PostgreSQL rejects NOTIFY payloads of 8000 bytes or more. */
+    static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private static final String NOTIFY = "SELECT 1 FROM pg_notify(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    public PartyChangeNotifier(JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${party-subscriptions.channel:party_changes}") String channel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+    }
+
+    public String channel() {
+        return channel;
+    }
+
+    public void announce(PartyChangeEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(PartyChangeMessage.from(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize party change " + event.getId(), e);
+        }
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            log.warn("Party change {} is too large to announce to subscribers", event.getId());
+            return;
+        }
+        jdbcTemplate.queryForObject(NOTIFY, Integer.class, channel, payload);
+    }
+}
@@ -0,0 +1,120 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeEvent;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyChangeEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Moves recorded party changes from the outbox to the configured {@link PartyChangeSink}.
+ *
+ * <p>Each batch is claimed, published and marked in one transaction. The rows are claimed with
+ * FOR UPDATE SKIP LOCKED, so every node can run the relay: concurrent relays take disjoint batches
+ * instead of queueing behind each other's locks. A batch the sink rejects is rolled back and retried
+ * on the next run. A run keeps going while it finds full batches, so a backlog drains without waiting
+ * for a poll interval per batch.
+ */
+@Component
+@ConditionalOnProperty(name = "party-outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class PartyChangeRelay {
+
+    static final String PUBLISHED_METER = "party.outbox.published";
+    static final String PENDING_METER = "party.outbox.pending";
+
+    private final PartyChangeEventRepository eventRepository;
+    private final PartyChangeSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+    private final Counter published;
+
+    public PartyChangeRelay(PartyChangeEventRepository eventRepository,
+                            PartyChangeSink sink,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${party-outbox.batch-size:500}") int batchSize,
+                            @Value("${party-outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                            @Value("${party-outbox.retention:P7D}") Duration retention) {
+        if (batchSize <= 0 || maxBatchesPerRun <= 0) {
+            throw new IllegalArgumentException("party-outbox.batch-size and max-batches-per-run must be positive");
+        }
+        this.eventRepository = eventRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = retention;
+        this.published = Counter.builder(PUBLISHED_METER)
+                .description("Party change events delivered to the sink")
+                .tag("sink", sink.getClass().getSimpleName())
+                .register(meterRegistry);
+        Gauge.builder(PENDING_METER, eventRepository, PartyChangeEventRepository::countUnpublished)
+                .description("Party change events waiting in the outbox")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${party-outbox.poll-interval:PT1S}")
+    public void scheduledRelay() {
+        try {
+            relayPending();
+        } catch (RuntimeException e) {
+            log.warn("Publishing party changes failed, the batch will be retried", e);
+        }
+    }
+
+    /**
+     * Publishes pending events until the outbox is drained or the per-run batch limit is reached, and
+     * returns how many were published.
+     */
+    public int relayPending() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer count = transactionTemplate.execute(status -> relayBatch());
+            published.increment(count);
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.debug("Published {} party change events", total);
+        }
+        return total;
+    }
+
+    private int relayBatch() {
+        List<PartyChangeEvent> events = eventRepository.lockUnpublished(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        sink.publish(events.stream().map(PartyChangeMessage::from).toList());
+        eventRepository.markPublished(events.stream().map(PartyChangeEvent::getId).toList(), Instant.now());
+        return events.size();
+    }
+
+    @Scheduled(fixedDelayString = "${party-outbox.purge-interval:PT1H}")
+    public void purgePublished() {
+        try {
+            int purged = eventRepository.deletePublishedBefore(Instant.now().minus(retention));
+            if (purged > 0) {
+                log.info("Purged {} party change events published more than {} ago", purged, retention);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Purging published party change events failed", e);
+        }
+    }
+}
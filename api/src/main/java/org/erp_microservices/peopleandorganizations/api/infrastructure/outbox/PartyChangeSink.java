@@ -0,0 +1,13 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Where the outbox relay delivers party changes, chosen with {@code party-outbox.sink}. A batch is only
+ * marked published when {@link #publish} returns normally; if it throws, the whole batch is offered
+ * again on the next run, so delivery is at least once and sinks should tolerate repeats.
+ */
+public interface PartyChangeSink {
+
+    void publish(List<PartyChangeMessage> batch);
+}
@@ -0,0 +1,68 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * POSTs each batch as a JSON array to {@code party-outbox.webhook.url}. Any response other than 2xx
+ * fails the batch.
+ */
+@Component
+@ConditionalOnProperty(name = "party-outbox.sink", havingValue = "webhook")
+public class WebhookPartyChangeSink implements PartyChangeSink {
+
+    private final ObjectMapper objectMapper;
+    private final URI url;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    public WebhookPartyChangeSink(ObjectMapper objectMapper,
+                                  @Value("${party-outbox.webhook.url}") URI url,
+                                  @Value("${party-outbox.webhook.timeout:PT5S}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.url = url;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    @Override
+    public void publish(List<PartyChangeMessage> batch) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(url)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize party changes", e);
+        }
+
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Party change webhook " + url + " is unreachable", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling the party change webhook", e);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Party change webhook " + url + " answered " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.IdentificationType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IdentificationTypeRepository extends JpaRepository<IdentificationType, UUID> {
+
+    Optional<IdentificationType> findByDescription(String description);
+}
@@ -0,0 +1,14 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.NameType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface NameTypeRepository extends JpaRepository<NameType, UUID> {
+
+    Optional<NameType> findByDescription(String description);
+}
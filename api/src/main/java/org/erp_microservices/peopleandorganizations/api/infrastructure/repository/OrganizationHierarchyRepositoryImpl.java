@@ -0,0 +1,149 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.OrganizationHierarchyNode;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.OrganizationHierarchyRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads and moves the ltree paths in {@code organization.hierarchy_path}.
+ *
+ * <p>Every subtree statement selects its rows with {@code hierarchy_path <@ path}, which the GiST index
+ * answers directly, so moving or listing a subtree costs one index scan however deep it is. A move
+ * rewrites the prefix of every path in the subtree in a single update. Labels are organization ids
+ * without hyphens, which PostgreSQL reads back as a uuid unchanged. A rebuild gives an organization with
+ * more than one active rollup its earliest parent, the one the application would have attached.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrganizationHierarchyRepositoryImpl implements OrganizationHierarchyRepository {
+
+    private static final String LOCK = "SELECT pg_advisory_xact_lock(hashtext('organization_hierarchy'))";
+
+    private static final String FIND_PATH = """
+            SELECT ltree2text(hierarchy_path) AS path
+              FROM organization
+             WHERE id = :organizationId
+            """;
+
+    private static final String ATTACH = """
+            UPDATE organization o
+               SET hierarchy_path = parent.hierarchy_path || subpath(o.hierarchy_path, nlevel(child.hierarchy_path) - 1)
+              FROM organization child, organization parent
+             WHERE child.id = :organizationId
+               AND parent.id = :parentOrganizationId
+               AND o.hierarchy_path <@ child.hierarchy_path
+            """;
+
+    private static final String DETACH = """
+            UPDATE organization o
+               SET hierarchy_path = subpath(o.hierarchy_path, nlevel(child.hierarchy_path) - 1)
+              FROM organization child
+             WHERE child.id = :organizationId
+               AND nlevel(child.hierarchy_path) > 1
+               AND o.hierarchy_path <@ child.hierarchy_path
+            """;
+
+    private static final String FIND_SUBTREE = """
+            SELECT o.id,
+                   CAST(ltree2text(subpath(o.hierarchy_path, -2, 1)) AS uuid) AS parent_id,
+                   nlevel(o.hierarchy_path) - nlevel(root.hierarchy_path) AS depth
+              FROM organization root
+              JOIN organization o ON o.hierarchy_path <@ root.hierarchy_path
+             WHERE root.id = :organizationId
+               AND o.id <> root.id
+               AND nlevel(o.hierarchy_path) - nlevel(root.hierarchy_path) <= :maxDepth
+             ORDER BY o.hierarchy_path
+            """;
+
+    private static final String REBUILD = """
+            WITH RECURSIVE rollup (parent_id, child_id) AS (
+                SELECT DISTINCT ON (r.to_party_id) r.from_party_id, r.to_party_id
+                  FROM party_relationship r
+                  JOIN party_relationship_type t ON t.id = r.relationship_type_id
+                 WHERE t.name = :rollupRelationshipType
+                   AND r.from_date <= CURRENT_DATE AND (r.thru_date IS NULL OR r.thru_date > CURRENT_DATE)
+                 ORDER BY r.to_party_id, r.from_date, r.id
+            ),
+            tree (id, path) AS (
+                SELECT o.id, organization_path_label(o.id)
+                  FROM organization o
+                 WHERE NOT EXISTS (SELECT 1 FROM rollup WHERE rollup.child_id = o.id)
+                UNION ALL
+                SELECT rollup.child_id, tree.path || organization_path_label(rollup.child_id)
+                  FROM tree
+                  JOIN rollup ON rollup.parent_id = tree.id
+                  JOIN organization child ON child.id = rollup.child_id
+                 WHERE index(tree.path, organization_path_label(rollup.child_id)) < 0
+            )
+            UPDATE organization o
+               SET hierarchy_path = tree.path
+              FROM tree
+             WHERE tree.id = o.id
+               AND o.hierarchy_path IS DISTINCT FROM tree.path
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void lock() {
+        jdbcTemplate.getJdbcTemplate().execute(LOCK);
+    }
+
+    @Override
+    public Optional<List<UUID>> findPath(UUID organizationId) {
+        List<String> paths = jdbcTemplate.queryForList(FIND_PATH,
+                new MapSqlParameterSource("organizationId", organizationId), String.class);
+        return paths.stream().findFirst().map(path -> Arrays.stream(path.split("\\."))
+                .map(OrganizationHierarchyRepositoryImpl::organizationId)
+                .toList());
+    }
+
+    @Override
+    @Transactional
+    public void attach(UUID organizationId, UUID parentOrganizationId) {
+        jdbcTemplate.update(ATTACH, new MapSqlParameterSource()
+                .addValue("organizationId", organizationId)
+                .addValue("parentOrganizationId", parentOrganizationId));
+    }
+
+    @Override
+    @Transactional
+    public void detach(UUID organizationId) {
+        jdbcTemplate.update(DETACH, new MapSqlParameterSource("organizationId", organizationId));
+    }
+
+    @Override
+    public List<OrganizationHierarchyNode> findSubtree(UUID organizationId, int maxDepth) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("organizationId", organizationId)
+                .addValue("maxDepth", maxDepth);
+
+        return jdbcTemplate.query(FIND_SUBTREE, parameters, (rs, rowNum) -> new OrganizationHierarchyNode(
+                rs.getObject("id", UUID.class),
+                rs.getObject("parent_id", UUID.class),
+                rs.getInt("depth")));
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(String rollupRelationshipType) {
+        lock();
+        return jdbcTemplate.update(REBUILD, new MapSqlParameterSource("rollupRelationshipType", rollupRelationshipType));
+    }
+
+    private static UUID organizationId(String label) {
+        return UUID.fromString(label.replaceFirst(
+                "(\\p{XDigit}{8})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}{12})", "$1-$2-$3-$4-$5"));
+    }
+}
@@ -0,0 +1,35 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PartyChangeEventJpaRepository extends JpaRepository<PartyChangeEvent, Long> {
+
+    @Query(value = """
+            SELECT * FROM party_change_event
+             WHERE published_at IS NULL
+             ORDER BY id
+             LIMIT :limit
+             FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<PartyChangeEvent> lockUnpublished(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE PartyChangeEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM PartyChangeEvent e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+
+    long countByPublishedAtIsNull();
+}
@@ -0,0 +1,56 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeEvent;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyChangeEventRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.outbox.PartyChangeNotifier;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class PartyChangeEventRepositoryImpl implements PartyChangeEventRepository {
+
+    private final PartyChangeEventJpaRepository jpaRepository;
+    private final PartyChangeNotifier notifier;
+
+    /**
+     * Stores the event and announces it to live subscribers in the same transaction.
+     */
+    @Override
+    public PartyChangeEvent save(PartyChangeEvent event) {
+        PartyChangeEvent saved = jpaRepository.save(event);
+        notifier.announce(saved);
+        return saved;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<PartyChangeEvent> lockUnpublished(int limit) {
+        return jpaRepository.lockUnpublished(limit);
+    }
+
+    @Override
+    @Transactional
+    public void markPublished(Collection<Long> ids, Instant publishedAt) {
+        if (!ids.isEmpty()) {
+            jpaRepository.markPublished(ids, publishedAt);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deletePublishedBefore(Instant cutoff) {
+        return jpaRepository.deletePublishedBefore(cutoff);
+    }
+
+    @Override
+    public long countUnpublished() {
+        return jpaRepository.countByPublishedAtIsNull();
+    }
+}
@@ -0,0 +1,14 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyClassificationType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PartyClassificationTypeRepository extends JpaRepository<PartyClassificationType, UUID> {
+
+    Optional<PartyClassificationType> findByDescription(String description);
+}
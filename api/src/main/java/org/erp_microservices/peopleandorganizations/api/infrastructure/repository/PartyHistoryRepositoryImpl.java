@@ -0,0 +1,183 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.ActivePartyRole;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.CurrentPartyName;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyClassification;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyIdentification;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyName;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRole;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyHistoryRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JPQL point-in-time reads. The effective-date predicate is part of each query, so the database answers it
+ * through the (party_id, from_date, thru_date) indexes instead of the whole collection being loaded and
+ * filtered in memory. The type reference is fetched with the rows, since every caller reads it.
+ *
+ * <p>Roles end the day before their thru date; names, identifications and classifications are still in
+ * effect on theirs, matching the entities' {@code isActive(LocalDate)}.
+ *
+ * <p>The single-party role and name checks select projections rather than entities. An open-ended row
+ * (thru_date IS NULL) is the common case and is found through the partial indexes on the open rows; the
+ * other branch of the OR, rows with a future thru date, is answered by the (party_id, from_date, thru_date)
+ * index. The queries go through JPQL rather than JDBC so pending changes are flushed before they run.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PartyHistoryRepositoryImpl implements PartyHistoryRepository {
+
+    private static final String ROLES_AS_OF = """
+            SELECT r FROM PartyRole r JOIN FETCH r.roleType
+             WHERE r.party.id IN :partyIds
+               AND r.fromDate <= :asOf
+               AND (r.thruDate IS NULL OR r.thruDate > :asOf)
+             ORDER BY r.fromDate, r.id
+            """;
+
+    private static final String NAMES_AS_OF = """
+            SELECT n FROM PartyName n JOIN FETCH n.nameType
+             WHERE n.party.id IN :partyIds
+               AND n.fromDate <= :asOf
+               AND (n.thruDate IS NULL OR n.thruDate >= :asOf)
+             ORDER BY n.fromDate, n.id
+            """;
+
+    private static final String IDENTIFICATIONS_AS_OF = """
+            SELECT i FROM PartyIdentification i JOIN FETCH i.identificationType
+             WHERE i.party.id IN :partyIds
+               AND i.fromDate <= :asOf
+               AND (i.thruDate IS NULL OR i.thruDate >= :asOf)
+             ORDER BY i.fromDate, i.id
+            """;
+
+    private static final String CLASSIFICATIONS_AS_OF = """
+            SELECT c FROM PartyClassification c JOIN FETCH c.classificationType
+             WHERE c.party.id IN :partyIds
+               AND c.fromDate <= :asOf
+               AND (c.thruDate IS NULL OR c.thruDate >= :asOf)
+             ORDER BY c.fromDate, c.id
+            """;
+
+    private static final String HAS_ROLE = """
+            SELECT r.id FROM PartyRole r
+             WHERE r.party.id = :partyId
+               AND r.roleType.id = :roleTypeId
+               AND r.fromDate <= :asOf
+               AND (r.thruDate IS NULL OR r.thruDate > :asOf)
+            """;
+
+    private static final String ACTIVE_ROLES = """
+            SELECT new org.erp_microservices.peopleandorganizations.api.domain.model.party.ActivePartyRole(
+                       r.id, t.id, t.description, r.fromDate, r.thruDate)
+              FROM PartyRole r JOIN r.roleType t
+             WHERE r.party.id = :partyId
+               AND r.fromDate <= :asOf
+               AND (r.thruDate IS NULL OR r.thruDate > :asOf)
+             ORDER BY r.fromDate, r.id
+            """;
+
+    private static final String CURRENT_NAME = """
+            SELECT new org.erp_microservices.peopleandorganizations.api.domain.model.party.CurrentPartyName(
+                       n.id, n.name, n.fromDate, n.thruDate)
+              FROM PartyName n
+             WHERE n.party.id = :partyId
+               AND n.nameType.id = :nameTypeId
+               AND n.fromDate <= :asOf
+               AND (n.thruDate IS NULL OR n.thruDate >= :asOf)
+             ORDER BY n.fromDate DESC, n.id
+            """;
+
+    private static final String EXPIRE_ROLES = """
+            UPDATE PartyRole r SET r.thruDate = :on
+             WHERE r.party.id = :partyId
+               AND r.roleType.id = :roleTypeId
+               AND r.fromDate <= :on
+               AND (r.thruDate IS NULL OR r.thruDate > :on)
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<PartyRole> findRolesAsOf(Collection<UUID> partyIds, LocalDate asOf) {
+        return findAsOf(ROLES_AS_OF, PartyRole.class, partyIds, asOf);
+    }
+
+    @Override
+    public List<PartyName> findNamesAsOf(Collection<UUID> partyIds, LocalDate asOf) {
+        return findAsOf(NAMES_AS_OF, PartyName.class, partyIds, asOf);
+    }
+
+    @Override
+    public List<PartyIdentification> findIdentificationsAsOf(Collection<UUID> partyIds, LocalDate asOf) {
+        return findAsOf(IDENTIFICATIONS_AS_OF, PartyIdentification.class, partyIds, asOf);
+    }
+
+    @Override
+    public List<PartyClassification> findClassificationsAsOf(Collection<UUID> partyIds, LocalDate asOf) {
+        return findAsOf(CLASSIFICATIONS_AS_OF, PartyClassification.class, partyIds, asOf);
+    }
+
+    @Override
+    public boolean hasRole(UUID partyId, UUID roleTypeId, LocalDate asOf) {
+        return !entityManager.createQuery(HAS_ROLE, UUID.class)
+                .setParameter("partyId", partyId)
+                .setParameter("roleTypeId", roleTypeId)
+                .setParameter("asOf", asOf)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    @Override
+    public List<ActivePartyRole> findActiveRoles(UUID partyId, LocalDate asOf) {
+        return entityManager.createQuery(ACTIVE_ROLES, ActivePartyRole.class)
+                .setParameter("partyId", partyId)
+                .setParameter("asOf", asOf)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<CurrentPartyName> findCurrentName(UUID partyId, UUID nameTypeId, LocalDate asOf) {
+        return entityManager.createQuery(CURRENT_NAME, CurrentPartyName.class)
+                .setParameter("partyId", partyId)
+                .setParameter("nameTypeId", nameTypeId)
+                .setParameter("asOf", asOf)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * A bulk update, so the roles are not loaded. Hibernate evicts the cached roles and role collections it
+     * may have changed.
+     */
+    @Override
+    @Transactional
+    public int expireRoles(UUID partyId, UUID roleTypeId, LocalDate on) {
+        return entityManager.createQuery(EXPIRE_ROLES)
+                .setParameter("partyId", partyId)
+                .setParameter("roleTypeId", roleTypeId)
+                .setParameter("on", on)
+                .executeUpdate();
+    }
+
+    private <T> List<T> findAsOf(String jpql, Class<T> type, Collection<UUID> partyIds, LocalDate asOf) {
+        if (partyIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(jpql, type)
+                .setParameter("partyIds", partyIds)
+                .setParameter("asOf", asOf)
+                .getResultList();
+    }
+}
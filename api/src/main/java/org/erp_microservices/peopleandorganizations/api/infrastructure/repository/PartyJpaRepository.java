@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,11 +23,33 @@ public interface PartyJpaRepository extends JpaRepository<Party, UUID> {
 
     Page<Party> findByPartyType(String partyType, Pageable pageable);
 
-    @Query("SELECT DISTINCT p FROM Party p JOIN p.roles r WHERE r.roleType.description = :roleDescription AND r.thruDate IS NULL")
-    List<Party> findByActiveRole(@Param("roleDescription") String roleDescription);
+    @Query("SELECT p FROM Party p WHERE p.partyType = :partyType ORDER BY p.id")
+    List<Party> findByPartyTypeOrderById(@Param("partyType") String partyType, Pageable pageable);
 
-    @Query("SELECT DISTINCT p FROM Party p JOIN p.names n WHERE LOWER(n.name) LIKE LOWER(CONCAT('%', :namePart, '%')) AND n.thruDate IS NULL")
-    List<Party> findByNameContaining(@Param("namePart") String namePart);
+    @Query("SELECT p FROM Party p WHERE p.partyType = :partyType AND p.id > :after ORDER BY p.id")
+    List<Party> findByPartyTypeAfter(@Param("partyType") String partyType, @Param("after") UUID after, Pageable pageable);
+
+    default List<Party> findByActiveRole(String roleDescription) {
+        return findByActiveRole(roleDescription, LocalDate.now());
+    }
+
+    @Query("""
+            SELECT DISTINCT p FROM Party p JOIN p.roles r
+             WHERE r.roleType.description = :roleDescription
+               AND r.fromDate <= :asOf AND (r.thruDate IS NULL OR r.thruDate > :asOf)
+            """)
+    List<Party> findByActiveRole(@Param("roleDescription") String roleDescription, @Param("asOf") LocalDate asOf);
+
+    default List<Party> findByNameContaining(String namePart) {
+        return findByNameContaining(namePart, LocalDate.now());
+    }
+
+    @Query("""
+            SELECT DISTINCT p FROM Party p JOIN p.names n
+             WHERE LOWER(n.name) LIKE LOWER(CONCAT('%', :namePart, '%'))
+               AND n.fromDate <= :asOf AND (n.thruDate IS NULL OR n.thruDate >= :asOf)
+            """)
+    List<Party> findByNameContaining(@Param("namePart") String namePart, @Param("asOf") LocalDate asOf);
 
     @Query("SELECT p FROM Person p WHERE LOWER(p.lastName) = LOWER(:lastName)")
     List<Person> findPersonsByLastName(@Param("lastName") String lastName);
@@ -34,11 +57,31 @@ public interface PartyJpaRepository extends JpaRepository<Party, UUID> {
     @Query("SELECT o FROM Organization o WHERE LOWER(o.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Organization> findOrganizationsByName(@Param("name") String name);
 
-    @Query("SELECT DISTINCT p FROM Party p JOIN p.identifications i WHERE i.identifier = :identifier AND i.identificationType.description = :typeDescription AND i.thruDate IS NULL")
-    Optional<Party> findByIdentification(@Param("identifier") String identifier, @Param("typeDescription") String typeDescription);
+    default Optional<Party> findByIdentification(String identifier, String typeDescription) {
+        return findByIdentification(identifier, typeDescription, LocalDate.now());
+    }
+
+    @Query("""
+            SELECT DISTINCT p FROM Party p JOIN p.identifications i
+             WHERE i.identifier = :identifier AND i.identificationType.description = :typeDescription
+               AND i.fromDate <= :asOf AND (i.thruDate IS NULL OR i.thruDate >= :asOf)
+            """)
+    Optional<Party> findByIdentification(@Param("identifier") String identifier,
+                                         @Param("typeDescription") String typeDescription,
+                                         @Param("asOf") LocalDate asOf);
+
+    default List<Party> findByClassification(String typeDescription, String value) {
+        return findByClassification(typeDescription, value, LocalDate.now());
+    }
 
-    @Query("SELECT DISTINCT p FROM Party p JOIN p.classifications c WHERE c.classificationType.description = :typeDescription AND c.value = :value AND c.thruDate IS NULL")
-    List<Party> findByClassification(@Param("typeDescription") String typeDescription, @Param("value") String value);
+    @Query("""
+            SELECT DISTINCT p FROM Party p JOIN p.classifications c
+             WHERE c.classificationType.description = :typeDescription AND c.value = :value
+               AND c.fromDate <= :asOf AND (c.thruDate IS NULL OR c.thruDate >= :asOf)
+            """)
+    List<Party> findByClassification(@Param("typeDescription") String typeDescription,
+                                     @Param("value") String value,
+                                     @Param("asOf") LocalDate asOf);
 
     long countByPartyType(String partyType);
 }
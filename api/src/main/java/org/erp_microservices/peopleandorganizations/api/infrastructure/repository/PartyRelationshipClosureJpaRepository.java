@@ -0,0 +1,55 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipClosure;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PartyRelationshipClosureJpaRepository extends JpaRepository<PartyRelationshipClosure, PartyRelationshipClosureId> {
+
+    @Query("""
+            SELECT count(c) > 0 FROM PartyRelationshipClosure c
+             WHERE c.id.ancestorPartyId = :ancestorPartyId
+               AND c.id.descendantPartyId = :descendantPartyId
+            """)
+    boolean existsPath(@Param("ancestorPartyId") UUID ancestorPartyId,
+                       @Param("descendantPartyId") UUID descendantPartyId);
+
+    @Query("""
+            SELECT c FROM PartyRelationshipClosure c
+             WHERE c.id.ancestorPartyId = :ancestorPartyId
+             ORDER BY c.depth, c.id.descendantPartyId
+            """)
+    List<PartyRelationshipClosure> findDescendants(@Param("ancestorPartyId") UUID ancestorPartyId);
+
+    @Query("""
+            SELECT c FROM PartyRelationshipClosure c
+             WHERE c.id.ancestorPartyId = :ancestorPartyId
+               AND c.id.relationshipTypeId = :relationshipTypeId
+             ORDER BY c.depth, c.id.descendantPartyId
+            """)
+    List<PartyRelationshipClosure> findDescendants(@Param("ancestorPartyId") UUID ancestorPartyId,
+                                                   @Param("relationshipTypeId") UUID relationshipTypeId);
+
+    @Query("""
+            SELECT c FROM PartyRelationshipClosure c
+             WHERE c.id.descendantPartyId = :descendantPartyId
+             ORDER BY c.depth, c.id.ancestorPartyId
+            """)
+    List<PartyRelationshipClosure> findAncestors(@Param("descendantPartyId") UUID descendantPartyId);
+
+    @Query("""
+            SELECT c FROM PartyRelationshipClosure c
+             WHERE c.id.descendantPartyId = :descendantPartyId
+               AND c.id.relationshipTypeId = :relationshipTypeId
+             ORDER BY c.depth, c.id.ancestorPartyId
+            """)
+    List<PartyRelationshipClosure> findAncestors(@Param("descendantPartyId") UUID descendantPartyId,
+                                                 @Param("relationshipTypeId") UUID relationshipTypeId);
+}
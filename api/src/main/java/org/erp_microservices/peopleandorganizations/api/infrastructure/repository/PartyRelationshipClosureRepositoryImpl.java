@@ -0,0 +1,254 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipClosure;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipClosureId;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRelationshipClosureRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Maintains {@code party_relationship_closure} with set-based SQL.
+ *
+ * <p>A rebuild goes breadth first: it inserts the direct pairs of the hierarchy types, then extends the pairs found at each depth
+ * by one relationship until a level adds nothing. A pair is only inserted the first time it is reached, at
+ * its shortest depth, so the work grows with the number of pairs rather than the number of paths.
+ *
+ * <p>Adding a relationship is a single insert of the cross product of the from-party's ancestors and the
+ * to-party's descendants. Removing one deletes the pairs in that same cross product and re-derives the
+ * ones still reachable without the relationship, which also corrects depths that went through it. The
+ * search for other paths only walks parties that the closure already places between those ancestors and
+ * descendants, and visits each (ancestor, party, depth) once instead of enumerating paths. Both read the
+ * closure they are about to change, so concurrent changes in one hierarchy could each miss the other's
+ * rows; they take a transaction-scoped advisory lock on the relationship type, which the rebuild takes for
+ * every type it rebuilds. Changes to other hierarchies and plain reads are not held up. A relationship
+ * that never made it into the closure, such as one that had already ended when it was recorded, has
+ * nothing to remove and takes no lock.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PartyRelationshipClosureRepositoryImpl implements PartyRelationshipClosureRepository {
+
+    private static final String LOCK_HIERARCHY = """
+            SELECT pg_advisory_xact_lock(hashtext('party_relationship_closure'),
+                                         hashtext(CAST(:relationshipTypeId AS text)))
+            """;
+
+    // In id order, so two rebuilds cannot each hold a lock the other waits for
+    private static final String LOCK_HIERARCHIES = """
+            SELECT pg_advisory_xact_lock(hashtext('party_relationship_closure'), hashtext(CAST(t.id AS text)))
+              FROM (SELECT id FROM party_relationship_type WHERE name IN (:relationshipTypes) ORDER BY id) t
+            """;
+
+    private static final String HAS_PAIR = """
+            SELECT EXISTS (SELECT 1
+                             FROM party_relationship_closure
+                            WHERE ancestor_party_id = :ancestorPartyId
+                              AND descendant_party_id = :descendantPartyId
+                              AND relationship_type_id = :relationshipTypeId)
+            """;
+
+    private static final String ACTIVE_RELATIONSHIP = """
+            r.from_date <= CURRENT_DATE AND (r.thru_date IS NULL OR r.thru_date > CURRENT_DATE)""";
+
+    private static final String ADD_RELATIONSHIP = """
+            INSERT INTO party_relationship_closure (ancestor_party_id, descendant_party_id, relationship_type_id, depth)
+            SELECT a.party_id, d.party_id, CAST(:relationshipTypeId AS uuid), min(a.depth + d.depth + 1)
+              FROM (SELECT CAST(:ancestorPartyId AS uuid) AS party_id, 0 AS depth
+                    UNION ALL
+                    SELECT ancestor_party_id, depth
+                      FROM party_relationship_closure
+                     WHERE descendant_party_id = :ancestorPartyId
+                       AND relationship_type_id = :relationshipTypeId) a
+             CROSS JOIN
+                   (SELECT CAST(:descendantPartyId AS uuid) AS party_id, 0 AS depth
+                    UNION ALL
+                    SELECT descendant_party_id, depth
+                      FROM party_relationship_closure
+                     WHERE ancestor_party_id = :descendantPartyId
+                       AND relationship_type_id = :relationshipTypeId) d
+             WHERE a.party_id <> d.party_id
+             GROUP BY a.party_id, d.party_id
+            ON CONFLICT (ancestor_party_id, descendant_party_id, relationship_type_id)
+            DO UPDATE SET depth = LEAST(party_relationship_closure.depth, EXCLUDED.depth)
+            """;
+
+    private static final String REMOVE_RELATIONSHIP = """
+            WITH RECURSIVE ancestors (party_id) AS (
+                SELECT CAST(:ancestorPartyId AS uuid)
+                UNION
+                SELECT ancestor_party_id
+                  FROM party_relationship_closure
+                 WHERE descendant_party_id = :ancestorPartyId
+                   AND relationship_type_id = :relationshipTypeId
+            ),
+            descendants (party_id) AS (
+                SELECT CAST(:descendantPartyId AS uuid)
+                UNION
+                SELECT descendant_party_id
+                  FROM party_relationship_closure
+                 WHERE ancestor_party_id = :descendantPartyId
+                   AND relationship_type_id = :relationshipTypeId
+            ),
+            relevant (party_id) AS (
+                SELECT party_id FROM ancestors
+                UNION
+                SELECT c.descendant_party_id
+                  FROM party_relationship_closure c
+                  JOIN ancestors a ON a.party_id = c.ancestor_party_id
+                 WHERE c.relationship_type_id = :relationshipTypeId
+                   AND (c.descendant_party_id IN (SELECT party_id FROM descendants)
+                        OR EXISTS (SELECT 1
+                                     FROM party_relationship_closure cd
+                                     JOIN descendants d ON d.party_id = cd.descendant_party_id
+                                    WHERE cd.ancestor_party_id = c.descendant_party_id
+                                      AND cd.relationship_type_id = :relationshipTypeId))
+            ),
+            reach (ancestor_party_id, party_id, depth) AS (
+                SELECT party_id, party_id, 0
+                  FROM ancestors
+                UNION
+                SELECT reach.ancestor_party_id, r.to_party_id, reach.depth + 1
+                  FROM reach
+                  JOIN party_relationship r ON r.from_party_id = reach.party_id
+                  JOIN relevant v ON v.party_id = r.to_party_id
+                 WHERE r.relationship_type_id = :relationshipTypeId
+                   AND r.id <> :relationshipId
+                   AND %s
+                   AND reach.depth < (SELECT count(*) FROM relevant)
+            ),
+            rebuilt AS (
+                SELECT ancestor_party_id, party_id AS descendant_party_id, min(depth) AS depth
+                  FROM reach
+                 WHERE ancestor_party_id <> party_id
+                   AND party_id IN (SELECT party_id FROM descendants)
+                 GROUP BY ancestor_party_id, party_id
+            ),
+            removed AS (
+                DELETE FROM party_relationship_closure c
+                 USING ancestors a, descendants d
+                 WHERE c.ancestor_party_id = a.party_id
+                   AND c.descendant_party_id = d.party_id
+                   AND c.relationship_type_id = :relationshipTypeId
+                   AND NOT EXISTS (SELECT 1 FROM rebuilt b
+                                    WHERE b.ancestor_party_id = c.ancestor_party_id
+                                      AND b.descendant_party_id = c.descendant_party_id)
+                RETURNING 1
+            ),
+            deepened AS (
+                UPDATE party_relationship_closure c
+                   SET depth = b.depth
+                  FROM rebuilt b
+                 WHERE c.ancestor_party_id = b.ancestor_party_id
+                   AND c.descendant_party_id = b.descendant_party_id
+                   AND c.relationship_type_id = :relationshipTypeId
+                   AND c.depth <> b.depth
+                RETURNING 1
+            )
+            SELECT (SELECT count(*) FROM removed) AS removed, (SELECT count(*) FROM deepened) AS deepened
+            """.formatted(ACTIVE_RELATIONSHIP);
+
+    private static final String REBUILD_DIRECT = """
+            INSERT INTO party_relationship_closure (ancestor_party_id, descendant_party_id, relationship_type_id, depth)
+            SELECT r.from_party_id, r.to_party_id, r.relationship_type_id, 1
+              FROM party_relationship r
+              JOIN party_relationship_type t ON t.id = r.relationship_type_id
+             WHERE t.name IN (:relationshipTypes)
+               AND r.from_party_id <> r.to_party_id
+               AND %s
+            ON CONFLICT DO NOTHING
+            """.formatted(ACTIVE_RELATIONSHIP);
+
+    // Pairs first reached at this depth were inserted by the previous level, so a pair that already exists
+    // keeps its depth, which is the shortest
+    private static final String REBUILD_NEXT_LEVEL = """
+            INSERT INTO party_relationship_closure (ancestor_party_id, descendant_party_id, relationship_type_id, depth)
+            SELECT c.ancestor_party_id, r.to_party_id, c.relationship_type_id, c.depth + 1
+              FROM party_relationship_closure c
+              JOIN party_relationship r ON r.from_party_id = c.descendant_party_id
+                                       AND r.relationship_type_id = c.relationship_type_id
+             WHERE c.depth = :depth
+               AND r.to_party_id <> c.ancestor_party_id
+               AND %s
+            ON CONFLICT DO NOTHING
+            """.formatted(ACTIVE_RELATIONSHIP);
+
+    private final PartyRelationshipClosureJpaRepository jpaRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void addRelationship(UUID ancestorPartyId, UUID descendantPartyId, UUID relationshipTypeId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ancestorPartyId", ancestorPartyId)
+                .addValue("descendantPartyId", descendantPartyId)
+                .addValue("relationshipTypeId", relationshipTypeId);
+        jdbcTemplate.queryForList(LOCK_HIERARCHY, parameters);
+        jdbcTemplate.update(ADD_RELATIONSHIP, parameters);
+    }
+
+    @Override
+    @Transactional
+    public int removeRelationship(UUID relationshipId, UUID ancestorPartyId, UUID descendantPartyId,
+                                  UUID relationshipTypeId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("relationshipId", relationshipId)
+                .addValue("ancestorPartyId", ancestorPartyId)
+                .addValue("descendantPartyId", descendantPartyId)
+                .addValue("relationshipTypeId", relationshipTypeId);
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_PAIR, parameters, Boolean.class))) {
+            return 0;
+        }
+        jdbcTemplate.queryForList(LOCK_HIERARCHY, parameters);
+        return jdbcTemplate.queryForObject(REMOVE_RELATIONSHIP, parameters, (rs, rowNum) -> rs.getInt("removed"));
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(Set<String> relationshipTypes) {
+        if (relationshipTypes.isEmpty()) {
+            jdbcTemplate.getJdbcTemplate().update("DELETE FROM party_relationship_closure");
+            return 0;
+        }
+        MapSqlParameterSource types = new MapSqlParameterSource("relationshipTypes", relationshipTypes);
+        jdbcTemplate.queryForList(LOCK_HIERARCHIES, types);
+        jdbcTemplate.getJdbcTemplate().update("DELETE FROM party_relationship_closure");
+        int rows = jdbcTemplate.update(REBUILD_DIRECT, types);
+        int added = rows;
+        for (int depth = 1; added > 0; depth++) {
+            added = jdbcTemplate.update(REBUILD_NEXT_LEVEL, new MapSqlParameterSource("depth", depth));
+            rows += added;
+        }
+        return rows;
+    }
+
+    @Override
+    public boolean isDescendant(UUID ancestorPartyId, UUID descendantPartyId, UUID relationshipTypeId) {
+        if (relationshipTypeId == null) {
+            return jpaRepository.existsPath(ancestorPartyId, descendantPartyId);
+        }
+        return jpaRepository.existsById(
+                new PartyRelationshipClosureId(ancestorPartyId, descendantPartyId, relationshipTypeId));
+    }
+
+    @Override
+    public List<PartyRelationshipClosure> findDescendants(UUID ancestorPartyId, UUID relationshipTypeId) {
+        return relationshipTypeId == null
+                ? jpaRepository.findDescendants(ancestorPartyId)
+                : jpaRepository.findDescendants(ancestorPartyId, relationshipTypeId);
+    }
+
+    @Override
+    public List<PartyRelationshipClosure> findAncestors(UUID descendantPartyId, UUID relationshipTypeId) {
+        return relationshipTypeId == null
+                ? jpaRepository.findAncestors(descendantPartyId)
+                : jpaRepository.findAncestors(descendantPartyId, relationshipTypeId);
+    }
+}
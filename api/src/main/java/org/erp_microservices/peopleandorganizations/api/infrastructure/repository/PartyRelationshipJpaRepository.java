@@ -1,9 +1,14 @@
 package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
 
 import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +18,24 @@ public interface PartyRelationshipJpaRepository extends JpaRepository<PartyRelat
     List<PartyRelationship> findByFromPartyId(UUID fromPartyId);
 
     List<PartyRelationship> findByToPartyId(UUID toPartyId);
+
+    @Query("SELECT r FROM PartyRelationship r WHERE r.fromParty.id = :partyId OR r.toParty.id = :partyId")
+    List<PartyRelationship> findByPartyId(@Param("partyId") UUID partyId);
+
+    @Query(value = "SELECT r FROM PartyRelationship r WHERE r.fromParty.id = :partyId OR r.toParty.id = :partyId",
+           countQuery = "SELECT COUNT(r) FROM PartyRelationship r WHERE r.fromParty.id = :partyId OR r.toParty.id = :partyId")
+    Page<PartyRelationship> findByPartyId(@Param("partyId") UUID partyId, Pageable pageable);
+
+    @Query(value = """
+                   SELECT r FROM PartyRelationship r
+                    WHERE (r.fromParty.id = :partyId OR r.toParty.id = :partyId)
+                      AND r.fromDate <= :asOf AND (r.thruDate IS NULL OR r.thruDate > :asOf)
+                   """,
+           countQuery = """
+                   SELECT COUNT(r) FROM PartyRelationship r
+                    WHERE (r.fromParty.id = :partyId OR r.toParty.id = :partyId)
+                      AND r.fromDate <= :asOf AND (r.thruDate IS NULL OR r.thruDate > :asOf)
+                   """)
+    Page<PartyRelationship> findByPartyIdAsOf(@Param("partyId") UUID partyId, @Param("asOf") LocalDate asOf,
+                                              Pageable pageable);
 }
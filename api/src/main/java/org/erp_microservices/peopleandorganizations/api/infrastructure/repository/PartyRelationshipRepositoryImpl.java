@@ -3,9 +3,11 @@ package org.erp_microservices.peopleandorganizations.api.infrastructure.reposito
 import lombok.RequiredArgsConstructor;
 import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
 import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRelationshipRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -43,10 +45,17 @@ public class PartyRelationshipRepositoryImpl implements PartyRelationshipReposit
 
     @Override
     public List<PartyRelationship> findByPartyId(UUID partyId) {
-        List<PartyRelationship> relationships = new ArrayList<>();
-        relationships.addAll(jpaRepository.findByFromPartyId(partyId));
-        relationships.addAll(jpaRepository.findByToPartyId(partyId));
-        return relationships;
+        return jpaRepository.findByPartyId(partyId);
+    }
+
+    @Override
+    public Page<PartyRelationship> findByPartyId(UUID partyId, Pageable pageable) {
+        return jpaRepository.findByPartyId(partyId, pageable);
+    }
+
+    @Override
+    public Page<PartyRelationship> findByPartyId(UUID partyId, LocalDate asOf, Pageable pageable) {
+        return jpaRepository.findByPartyIdAsOf(partyId, asOf, pageable);
     }
 
     @Override
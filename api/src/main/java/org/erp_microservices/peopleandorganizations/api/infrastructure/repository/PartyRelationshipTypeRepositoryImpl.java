@@ -30,6 +30,11 @@ public class PartyRelationshipTypeRepositoryImpl implements PartyRelationshipTyp
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public List<PartyRelationshipType> findAllById(Iterable<UUID> ids) {
+        return jpaRepository.findAllById(ids);
+    }
+
     @Override
     public Optional<PartyRelationshipType> findByName(String name) {
         return jpaRepository.findByName(name);
@@ -1,5 +1,6 @@
 package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.erp_microservices.peopleandorganizations.api.domain.model.party.IdentificationType;
 import org.erp_microservices.peopleandorganizations.api.domain.model.party.Organization;
@@ -9,11 +10,14 @@ import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party
 import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
 import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
 import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.PartyCacheInvalidator;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,18 +28,39 @@ import java.util.UUID;
 public class PartyRepositoryImpl implements PartyRepository {
 
     private final PartyJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final PartyCacheInvalidator cacheInvalidator;
 
+    /**
+     * Persists a new party, or merges a detached one. A party that is already managed is returned as-is:
+     * its changes, including new children reached through the cascading collections, are written at
+     * flush time where Hibernate can order and batch the inserts, instead of being walked by a merge.
+     * Either way an existing party is evicted from the second-level cache once the transaction commits.
+     */
     @Override
     @Transactional
     public Party save(Party party) {
+        cacheInvalidator.evict(party.getId());
+        if (entityManager.contains(party)) {
+            return party;
+        }
         return jpaRepository.save(party);
     }
 
+    /**
+     * Reads through the second-level cache: a party found there, with its child collections, costs no
+     * SQL until its type references are touched.
+     */
     @Override
     public Optional<Party> findById(UUID id) {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public List<Party> findAllById(Iterable<UUID> ids) {
+        return jpaRepository.findAllById(ids);
+    }
+
     @Override
     public List<Party> findByType(PartyType partyType) {
         return jpaRepository.findByPartyType(partyType.getDescription().toUpperCase());
@@ -46,11 +71,21 @@ public class PartyRepositoryImpl implements PartyRepository {
         return jpaRepository.findByActiveRole(roleType.getDescription());
     }
 
+    @Override
+    public List<Party> findByRole(PartyRoleType roleType, LocalDate asOf) {
+        return jpaRepository.findByActiveRole(roleType.getDescription(), asOf);
+    }
+
     @Override
     public List<Party> findByNameContaining(String namePart) {
         return jpaRepository.findByNameContaining(namePart);
     }
 
+    @Override
+    public List<Party> findByNameContaining(String namePart, LocalDate asOf) {
+        return jpaRepository.findByNameContaining(namePart, asOf);
+    }
+
     @Override
     public List<Person> findPersonsByLastName(String lastName) {
         return jpaRepository.findPersonsByLastName(lastName);
@@ -66,14 +101,25 @@ public class PartyRepositoryImpl implements PartyRepository {
         return jpaRepository.findByIdentification(identifier, type.getDescription());
     }
 
+    @Override
+    public Optional<Party> findByIdentification(String identifier, IdentificationType type, LocalDate asOf) {
+        return jpaRepository.findByIdentification(identifier, type.getDescription(), asOf);
+    }
+
     @Override
     public List<Party> findByClassification(PartyClassificationType classificationType, String value) {
         return jpaRepository.findByClassification(classificationType.getDescription(), value);
     }
 
+    @Override
+    public List<Party> findByClassification(PartyClassificationType classificationType, String value, LocalDate asOf) {
+        return jpaRepository.findByClassification(classificationType.getDescription(), value, asOf);
+    }
+
     @Override
     @Transactional
     public void deleteById(UUID id) {
+        cacheInvalidator.evict(id);
         jpaRepository.deleteById(id);
     }
 
@@ -95,6 +141,7 @@ public class PartyRepositoryImpl implements PartyRepository {
     @Override
     @Transactional
     public void deleteAll() {
+        cacheInvalidator.evictAll();
         jpaRepository.deleteAll();
     }
 
@@ -111,6 +158,7 @@ public class PartyRepositoryImpl implements PartyRepository {
     @Override
     @Transactional
     public List<Party> saveAll(Iterable<Party> parties) {
+        parties.forEach(party -> cacheInvalidator.evict(party.getId()));
         return jpaRepository.saveAll(parties);
     }
 
@@ -118,4 +166,18 @@ public class PartyRepositoryImpl implements PartyRepository {
     public Page<Party> findByPartyType(String partyType, Pageable pageable) {
         return jpaRepository.findByPartyType(partyType, pageable);
     }
+
+    @Override
+    public List<Party> findByPartyTypeAfter(String partyType, UUID after, int limit) {
+        Pageable firstRows = PageRequest.of(0, limit);
+        if (after == null) {
+            return jpaRepository.findByPartyTypeOrderById(partyType, firstRows);
+        }
+        return jpaRepository.findByPartyTypeAfter(partyType, after, firstRows);
+    }
+
+    @Override
+    public long countByPartyType(String partyType) {
+        return jpaRepository.countByPartyType(partyType);
+    }
 }
@@ -0,0 +1,136 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartySearchHit;
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartyTextSearchHit;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartySearchRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Native PostgreSQL party search.
+ *
+ * <p>Name search is backed by pg_trgm: each source is probed through its trigram GIN index with the
+ * word similarity operator and capped at the requested limit before the per-party best match is
+ * picked, so the cost depends on the number of close matches rather than the size of the tables.
+ *
+ * <p>Full-text search runs against {@code party.search_vector}, which triggers keep in step with the
+ * person, organization and party_name rows. Headlines are only computed for the rows that survive the
+ * limit, since ts_headline re-parses the document. The document only holds the party names in effect
+ * on the day it was computed, so names that start or end by date are caught up by
+ * {@link #refreshDocumentsChangedByDate()}, which the row lock on {@code party_search_refresh} keeps to
+ * one node at a time.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PartySearchRepositoryImpl implements PartySearchRepository {
+
+    static final String SEARCH_BY_NAME = """
+            WITH candidates AS (
+                (SELECT pn.party_id, pn.name AS matched_name,
+                        word_similarity(:text, lower(pn.name)) AS score
+                   FROM party_name pn
+                  WHERE :text <% lower(pn.name)
+                    AND pn.from_date <= CURRENT_DATE
+                    AND (pn.thru_date IS NULL OR pn.thru_date >= CURRENT_DATE)
+                  ORDER BY score DESC
+                  LIMIT :limit)
+                UNION ALL
+                (SELECT o.id AS party_id, o.organization_name AS matched_name,
+                        word_similarity(:text, lower(o.organization_name)) AS score
+                   FROM organization o
+                  WHERE :text <% lower(o.organization_name)
+                  ORDER BY score DESC
+                  LIMIT :limit)
+                UNION ALL
+                (SELECT p.id AS party_id, concat_ws(' ', p.first_name, p.last_name) AS matched_name,
+                        word_similarity(:text, lower(coalesce(p.first_name, '') || ' ' || coalesce(p.last_name, ''))) AS score
+                   FROM person p
+                  WHERE :text <% lower(coalesce(p.first_name, '') || ' ' || coalesce(p.last_name, ''))
+                  ORDER BY score DESC
+                  LIMIT :limit)
+            )
+            SELECT party_id, matched_name, score
+              FROM (SELECT DISTINCT ON (party_id) party_id, matched_name, score
+                      FROM candidates
+                     ORDER BY party_id, score DESC) best
+             ORDER BY score DESC, party_id
+             LIMIT :limit
+            """;
+
+    static final String SEARCH_FULL_TEXT = """
+            SELECT ranked.id AS party_id, ranked.rank,
+                   ts_headline('simple', ranked.search_text, ranked.query,
+                               'StartSel=<b>, StopSel=</b>, MaxFragments=2, MinWords=2, MaxWords=12') AS headline
+              FROM (SELECT p.id, p.search_text, q.query,
+                           ts_rank_cd(p.search_vector, q.query) AS rank
+                      FROM party p,
+                           websearch_to_tsquery('simple', :query) AS q(query)
+                     WHERE p.search_vector @@ q.query
+                     ORDER BY rank DESC, p.id
+                     LIMIT :limit) ranked
+             ORDER BY ranked.rank DESC, ranked.id
+            """;
+
+    private static final String LOCK_REFRESH_STATE = "SELECT refreshed_on FROM party_search_refresh FOR UPDATE";
+
+    // Names that came into effect after the last refresh day, or whose last day in effect was on or after it
+    private static final String REFRESH_CHANGED_BY_DATE = """
+            WITH crossed AS (
+                SELECT DISTINCT party_id
+                  FROM party_name
+                 WHERE (from_date > :since AND from_date <= CURRENT_DATE)
+                    OR (thru_date >= :since AND thru_date < CURRENT_DATE)
+            ),
+            refreshed AS MATERIALIZED (
+                SELECT refresh_party_search_document(party_id) FROM crossed
+            )
+            SELECT count(*) FROM refreshed
+            """;
+
+    private static final String ADVANCE_REFRESH_STATE =
+            "UPDATE party_search_refresh SET refreshed_on = CURRENT_DATE WHERE refreshed_on < CURRENT_DATE";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<PartySearchHit> searchByName(String text, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("text", text)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(SEARCH_BY_NAME, parameters, (rs, rowNum) -> new PartySearchHit(
+                rs.getObject("party_id", UUID.class),
+                rs.getString("matched_name"),
+                rs.getDouble("score")));
+    }
+
+    @Override
+    public List<PartyTextSearchHit> searchFullText(String query, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(SEARCH_FULL_TEXT, parameters, (rs, rowNum) -> new PartyTextSearchHit(
+                rs.getObject("party_id", UUID.class),
+                rs.getString("headline"),
+                rs.getDouble("rank")));
+    }
+
+    @Override
+    @Transactional
+    public int refreshDocumentsChangedByDate() {
+        LocalDate since = jdbcTemplate.getJdbcTemplate().queryForObject(LOCK_REFRESH_STATE, LocalDate.class);
+        Integer refreshed = jdbcTemplate.queryForObject(REFRESH_CHANGED_BY_DATE,
+                new MapSqlParameterSource("since", since), Integer.class);
+        jdbcTemplate.getJdbcTemplate().update(ADVANCE_REFRESH_STATE);
+        return refreshed == null ? 0 : refreshed;
+    }
+}
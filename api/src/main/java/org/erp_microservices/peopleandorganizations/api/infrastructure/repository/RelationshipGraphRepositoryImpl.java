@@ -0,0 +1,108 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraphEdge;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.TraversalDirection;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.RelationshipGraphRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Relationship graph walks as a single recursive query.
+ *
+ * <p>Each step follows the relationships of the parties reached by the previous one through a lateral
+ * union of the from-side and to-side lookups, so both can use their own covering index. The path of
+ * party ids carried along each walk stops it from re-entering a party it already passed through, which
+ * keeps cyclic graphs (mutual ownership, reporting loops) finite. PostgreSQL evaluates the recursion one
+ * level at a time and the outer LIMIT has no ORDER BY, so the walk stops as soon as enough rows have
+ * been produced instead of expanding the whole graph first.
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RelationshipGraphRepositoryImpl implements RelationshipGraphRepository {
+
+    private static final String WALK = """
+            WITH RECURSIVE walk (relationship_id, from_party_id, to_party_id, relationship_type_id,
+                                 from_date, thru_date, party_id, depth, path) AS (
+                SELECT CAST(NULL AS uuid), CAST(NULL AS uuid), CAST(NULL AS uuid), CAST(NULL AS uuid),
+                       CAST(NULL AS date), CAST(NULL AS date),
+                       CAST(:rootPartyId AS uuid), 0, ARRAY[CAST(:rootPartyId AS uuid)]
+                UNION ALL
+                SELECT step.id, step.from_party_id, step.to_party_id, step.relationship_type_id,
+                       step.from_date, step.thru_date,
+                       step.next_party_id, w.depth + 1, w.path || step.next_party_id
+                  FROM walk w
+                  CROSS JOIN LATERAL (
+                        SELECT r.id, r.from_party_id, r.to_party_id, r.relationship_type_id,
+                               r.from_date, r.thru_date, r.to_party_id AS next_party_id
+                          FROM party_relationship r
+                         WHERE :outgoing AND r.from_party_id = w.party_id
+                        UNION ALL
+                        SELECT r.id, r.from_party_id, r.to_party_id, r.relationship_type_id,
+                               r.from_date, r.thru_date, r.from_party_id AS next_party_id
+                          FROM party_relationship r
+                         WHERE :incoming AND r.to_party_id = w.party_id
+                       ) step
+                 WHERE w.depth < :maxDepth
+                   AND step.from_date <= :asOf
+                   AND (step.thru_date IS NULL OR step.thru_date > :asOf)
+                   AND (CAST(:typeIds AS uuid[]) IS NULL OR step.relationship_type_id = ANY (CAST(:typeIds AS uuid[])))
+                   AND step.next_party_id <> ALL (w.path)
+            )
+            SELECT relationship_id, from_party_id, to_party_id, relationship_type_id, from_date, thru_date, depth
+              FROM walk
+             WHERE depth > 0
+             LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<RelationshipGraphEdge> walk(UUID rootPartyId,
+                                            Collection<UUID> relationshipTypeIds,
+                                            TraversalDirection direction,
+                                            int maxDepth,
+                                            LocalDate asOf,
+                                            int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("rootPartyId", rootPartyId)
+                .addValue("outgoing", direction.followsOutgoing())
+                .addValue("incoming", direction.followsIncoming())
+                .addValue("maxDepth", maxDepth)
+                .addValue("asOf", asOf)
+                .addValue("typeIds", typeArray(relationshipTypeIds), Types.VARCHAR)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(WALK, parameters, (rs, rowNum) -> new RelationshipGraphEdge(
+                rs.getObject("relationship_id", UUID.class),
+                rs.getObject("from_party_id", UUID.class),
+                rs.getObject("to_party_id", UUID.class),
+                rs.getObject("relationship_type_id", UUID.class),
+                rs.getObject("from_date", LocalDate.class),
+                rs.getObject("thru_date", LocalDate.class),
+                rs.getInt("depth")));
+    }
+
+    /**
+     * The type filter travels as an array literal, so one statement serves any number of types and
+     * {@code null} means no filter.
+     */
+    private static String typeArray(Collection<UUID> relationshipTypeIds) {
+        if (relationshipTypeIds == null || relationshipTypeIds.isEmpty()) {
+            return null;
+        }
+        return relationshipTypeIds.stream()
+                .map(UUID::toString)
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+}
@@ -0,0 +1,57 @@
+-- Materialized closure of the party relationship hierarchies
+-- One row per (ancestor, descendant) pair that is connected by currently active relationships of a single
+-- hierarchy type, followed from their from-party to their to-party, with the length of the shortest such
+-- path. The primary key answers "is X under Y?" and "all descendants of Y" from the ancestor side; the
+-- descendant index serves ancestor lookups and the incremental maintenance done when relationships start
+-- and end.
+
+CREATE TABLE IF NOT EXISTS party_relationship_closure
+(
+    ancestor_party_id    UUID    NOT NULL REFERENCES party (id) ON DELETE CASCADE,
+    descendant_party_id  UUID    NOT NULL REFERENCES party (id) ON DELETE CASCADE,
+    relationship_type_id UUID    NOT NULL,
+    depth                INTEGER NOT NULL
+        CONSTRAINT party_relationship_closure_depth_positive CHECK (depth > 0),
+    CONSTRAINT party_relationship_closure_pk
+        PRIMARY KEY (ancestor_party_id, relationship_type_id, descendant_party_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_party_relationship_closure_descendant
+    ON party_relationship_closure (descendant_party_id, relationship_type_id);
+
+-- Initial population, breadth first as the nightly rebuild does it: the direct pairs, then the pairs found at
+-- each depth extended by one relationship until a level adds nothing. A pair keeps the depth it was first
+-- reached at, which is the shortest, so no path is followed twice.
+-- Only the default hierarchy type (party-hierarchy.relationship-types) is populated; the rebuild picks up
+-- any other configured type.
+DO
+$$
+DECLARE
+    v_depth INTEGER := 1;
+    v_added INTEGER;
+BEGIN
+    INSERT INTO party_relationship_closure (ancestor_party_id, descendant_party_id, relationship_type_id, depth)
+    SELECT r.from_party_id, r.to_party_id, r.relationship_type_id, 1
+      FROM party_relationship r
+      JOIN party_relationship_type t ON t.id = r.relationship_type_id
+     WHERE t.name = 'Organization Rollup'
+       AND r.from_party_id <> r.to_party_id
+       AND r.from_date <= CURRENT_DATE AND (r.thru_date IS NULL OR r.thru_date > CURRENT_DATE)
+    ON CONFLICT DO NOTHING;
+    GET DIAGNOSTICS v_added = ROW_COUNT;
+
+    WHILE v_added > 0 LOOP
+        INSERT INTO party_relationship_closure (ancestor_party_id, descendant_party_id, relationship_type_id, depth)
+        SELECT c.ancestor_party_id, r.to_party_id, c.relationship_type_id, c.depth + 1
+          FROM party_relationship_closure c
+          JOIN party_relationship r ON r.from_party_id = c.descendant_party_id
+                                   AND r.relationship_type_id = c.relationship_type_id
+         WHERE c.depth = v_depth
+           AND r.to_party_id <> c.ancestor_party_id
+           AND r.from_date <= CURRENT_DATE AND (r.thru_date IS NULL OR r.thru_date > CURRENT_DATE)
+        ON CONFLICT DO NOTHING;
+        GET DIAGNOSTICS v_added = ROW_COUNT;
+        v_depth := v_depth + 1;
+    END LOOP;
+END
+$$;
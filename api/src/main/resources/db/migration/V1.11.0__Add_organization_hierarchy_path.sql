@@ -0,0 +1,72 @@
+-- Materialized organization rollup paths
+-- Every organization carries the ltree path of organization ids from the top of its rollup hierarchy down
+-- to itself (one label per organization: its id without hyphens), so "everything under X" is a single
+-- GiST index scan for hierarchy_path <@ X's path. Organizations outside any rollup are roots whose path
+-- is just their own label. The application moves subtrees when Organization Rollup relationships start
+-- and end; new rows get their root path from the insert trigger, which also covers bulk loads.
+
+CREATE OR REPLACE FUNCTION organization_path_label(organization_id UUID)
+    RETURNS ltree
+    LANGUAGE sql
+    IMMUTABLE
+AS
+$$
+SELECT text2ltree(replace(organization_id::text, '-', ''))
+$$;
+
+ALTER TABLE organization ADD COLUMN IF NOT EXISTS hierarchy_path ltree;
+
+CREATE OR REPLACE FUNCTION organization_hierarchy_path_default()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS
+$$
+BEGIN
+    IF NEW.hierarchy_path IS NULL THEN
+        NEW.hierarchy_path := organization_path_label(NEW.id);
+    END IF;
+    RETURN NEW;
+END
+$$;
+
+DROP TRIGGER IF EXISTS organization_hierarchy_path_default ON organization;
+CREATE TRIGGER organization_hierarchy_path_default
+    BEFORE INSERT ON organization
+    FOR EACH ROW
+EXECUTE FUNCTION organization_hierarchy_path_default();
+
+-- Backfill from the active rollup relationships (parent organization -> child organization); the nightly
+-- rebuild runs the same statement. An organization with more than one active rollup keeps the earliest, as
+-- the application only attaches the first. An organization caught in a rollup cycle with no way in from a
+-- root stays a root itself; the label check stops the walk from going round a cycle it entered from a root.
+UPDATE organization SET hierarchy_path = organization_path_label(id) WHERE hierarchy_path IS NULL;
+
+WITH RECURSIVE rollup (parent_id, child_id) AS (
+    SELECT DISTINCT ON (r.to_party_id) r.from_party_id, r.to_party_id
+      FROM party_relationship r
+      JOIN party_relationship_type t ON t.id = r.relationship_type_id
+     WHERE t.name = 'Organization Rollup'
+       AND r.from_date <= CURRENT_DATE AND (r.thru_date IS NULL OR r.thru_date > CURRENT_DATE)
+     ORDER BY r.to_party_id, r.from_date, r.id
+),
+tree (id, path) AS (
+    SELECT o.id, organization_path_label(o.id)
+      FROM organization o
+     WHERE NOT EXISTS (SELECT 1 FROM rollup WHERE rollup.child_id = o.id)
+    UNION ALL
+    SELECT rollup.child_id, tree.path || organization_path_label(rollup.child_id)
+      FROM tree
+      JOIN rollup ON rollup.parent_id = tree.id
+      JOIN organization child ON child.id = rollup.child_id
+     WHERE index(tree.path, organization_path_label(rollup.child_id)) < 0
+)
+UPDATE organization o
+   SET hierarchy_path = tree.path
+  FROM tree
+ WHERE tree.id = o.id
+   AND o.hierarchy_path IS DISTINCT FROM tree.path;
+
+ALTER TABLE organization ALTER COLUMN hierarchy_path SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_organization_hierarchy_path
+    ON organization USING GIST (hierarchy_path);
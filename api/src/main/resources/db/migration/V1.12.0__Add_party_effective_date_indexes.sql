@@ -0,0 +1,17 @@
+-- Support point-in-time (asOf) reads of a party's roles, names, identifications and classifications
+-- The asOf queries look up the rows of a batch of parties whose from_date is on or before the date and
+-- whose thru_date is open or after it. Keying the indexes on (party_id, from_date, thru_date) lets the
+-- from_date bound be applied as an index range and thru_date be checked in the index, so only the rows in
+-- effect are fetched from the table. party_id leads, so the single-column party_role index is redundant.
+-- Relationships are already served by the V1.9.0 (party, from_date DESC) INCLUDE (thru_date) indexes.
+
+CREATE INDEX IF NOT EXISTS idx_party_role_party_effective
+    ON party_role (party_id, from_date, thru_date);
+CREATE INDEX IF NOT EXISTS idx_party_name_party_effective
+    ON party_name (party_id, from_date, thru_date);
+CREATE INDEX IF NOT EXISTS idx_party_id_party_effective
+    ON party_id (party_id, from_date, thru_date);
+CREATE INDEX IF NOT EXISTS idx_party_classification_party_effective
+    ON party_classification (party_id, from_date, thru_date);
+
+DROP INDEX IF EXISTS idx_party_role_party_id;
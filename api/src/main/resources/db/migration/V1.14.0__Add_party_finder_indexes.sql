@@ -0,0 +1,25 @@
+-- Support the PartyJpaRepository finders
+-- Each finder filters on a column the earlier migrations left unindexed, so without these every call read
+-- the whole table. The effective-date part of the finders (from_date on or before the date, thru_date open
+-- or after it) is an OR over thru_date, which a WHERE thru_date IS NULL index cannot answer on its own, so
+-- the indexes below are keyed on the finder's selective columns and the date check is applied to the few
+-- rows they return. PartyJpaRepositoryQueryPlanTest runs EXPLAIN on every finder to keep it that way.
+
+-- findPersonsByLastName compares LOWER(last_name)
+CREATE INDEX IF NOT EXISTS idx_person_last_name_lower
+    ON person (lower(last_name));
+
+-- findByActiveRole: the roles of one type, with the dates and party available from the index
+CREATE INDEX IF NOT EXISTS idx_party_role_type_effective
+    ON party_role (party_role_type_id, from_date)
+    INCLUDE (thru_date, party_id);
+
+DROP INDEX IF EXISTS idx_party_role_party_role_type_id;
+
+-- findByIdentification: an identifier is looked up with its type
+CREATE INDEX IF NOT EXISTS idx_party_id_ident_type
+    ON party_id (ident, id_type_id);
+
+-- findByClassification: a value within a classification type
+CREATE INDEX IF NOT EXISTS idx_party_classification_type_value
+    ON party_classification (party_classification_type_id, value);
@@ -0,0 +1,58 @@
+-- Keep party search documents current as party names start and end by date
+-- The V1.7.0 triggers only recompute a document when a row is written, so a name whose from_date arrives or
+-- whose thru_date passes stayed in (or out of) the document until the party was written again. The document
+-- now holds the names in effect on the day it was computed (from_date on or before it, thru_date open or on
+-- or after it, as the name search applies them), and a nightly job recomputes the documents of parties with
+-- a name that started or ended since the day recorded in party_search_refresh, then advances that day.
+
+CREATE OR REPLACE FUNCTION refresh_party_search_document(p_party_id UUID) RETURNS VOID AS $$
+DECLARE
+    v_primary TEXT;
+    v_names   TEXT;
+BEGIN
+    SELECT concat_ws(' ', pe.first_name, pe.middle_name, pe.last_name)
+      INTO v_primary
+      FROM person pe
+     WHERE pe.id = p_party_id;
+
+    IF v_primary IS NULL THEN
+        SELECT concat_ws(' ', o.organization_name, o.trading_name)
+          INTO v_primary
+          FROM organization o
+         WHERE o.id = p_party_id;
+    END IF;
+
+    SELECT string_agg(pn.name, ' ' ORDER BY pn.from_date)
+      INTO v_names
+      FROM party_name pn
+     WHERE pn.party_id = p_party_id
+       AND pn.from_date <= CURRENT_DATE
+       AND (pn.thru_date IS NULL OR pn.thru_date >= CURRENT_DATE);
+
+    UPDATE party
+       SET search_text   = nullif(concat_ws(' ', v_primary, v_names), ''),
+           search_vector = setweight(to_tsvector('simple', coalesce(v_primary, '')), 'A')
+                        || setweight(to_tsvector('simple', coalesce(v_names, '')), 'B')
+     WHERE id = p_party_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- A changed from_date now affects the document as well
+DROP TRIGGER IF EXISTS party_name_search_document ON party_name;
+CREATE TRIGGER party_name_search_document
+    AFTER INSERT OR DELETE OR UPDATE OF name, from_date, thru_date, party_id ON party_name
+    FOR EACH ROW EXECUTE FUNCTION party_search_document_trigger();
+
+-- The day the documents were last brought up to date by the nightly job (a single row)
+CREATE TABLE IF NOT EXISTS party_search_refresh
+(
+    id           BOOLEAN PRIMARY KEY DEFAULT TRUE
+        CONSTRAINT party_search_refresh_single_row CHECK (id),
+    refreshed_on DATE NOT NULL
+);
+
+INSERT INTO party_search_refresh (refreshed_on) VALUES (CURRENT_DATE) ON CONFLICT DO NOTHING;
+
+-- Names added earlier with a future from_date are in the documents already; drop them until they start
+SELECT refresh_party_search_document(party_id)
+  FROM (SELECT DISTINCT party_id FROM party_name WHERE from_date > CURRENT_DATE) future;
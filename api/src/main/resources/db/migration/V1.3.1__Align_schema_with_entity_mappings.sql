@@ -0,0 +1,112 @@
+-- Bring the Flyway schema in line with the JPA entity mappings for parties and relationships
+-- V1.1.0 was written against the original data model, while the entities (and every migration from V1.4.0
+-- on) use the simplified mapping: a party_type discriminator with person / organization subtype tables,
+-- relationships that reference the two parties directly and named relationship types. This migration adds
+-- what the mapping needs, backfills it from the V1.1.0 columns and relaxes the V1.1.0 columns the entities
+-- no longer write, so existing rows keep their meaning.
+
+-- Party subtype discriminator. The entities only map PERSON and ORGANIZATION, so a party of a seeded subtype
+-- ('Corporation', 'Team', ...) takes the discriminator of the root its type rolls up to through parent_id.
+-- A party whose type has neither root is left without one and fails the NOT NULL below.
+ALTER TABLE party ADD COLUMN IF NOT EXISTS party_type VARCHAR(31);
+
+WITH RECURSIVE type_root (id, root_id, parent_id) AS (
+    SELECT id, id, parent_id
+      FROM party_type
+    UNION ALL
+    SELECT type_root.id, pt.id, pt.parent_id
+      FROM type_root
+      JOIN party_type pt ON pt.id = type_root.parent_id
+)
+UPDATE party p
+   SET party_type = CASE root.description
+                        WHEN 'Person' THEN 'PERSON'
+                        WHEN 'Organization' THEN 'ORGANIZATION'
+                    END
+  FROM type_root
+  JOIN party_type root ON root.id = type_root.root_id
+ WHERE type_root.id = p.party_type_id
+   AND type_root.parent_id IS NULL
+   AND p.party_type IS NULL;
+
+ALTER TABLE party ALTER COLUMN party_type SET NOT NULL;
+
+-- V1.1.0 used this name for the single-column party_type_id index; free it for the V1.5.0 keyset index
+ALTER INDEX IF EXISTS idx_party_party_type_id RENAME TO idx_party_party_type_ref_id;
+
+-- Person subtype
+CREATE TABLE IF NOT EXISTS person
+(
+    id          UUID NOT NULL REFERENCES party (id),
+    first_name  TEXT,
+    middle_name TEXT,
+    last_name   TEXT,
+    title       TEXT,
+    suffix      TEXT,
+    birth_date  DATE,
+    gender      TEXT,
+    CONSTRAINT person_pk PRIMARY KEY (id)
+);
+
+-- Organization subtype
+CREATE TABLE IF NOT EXISTS organization
+(
+    id                        UUID NOT NULL REFERENCES party (id),
+    organization_name         TEXT,
+    trading_name              TEXT,
+    registration_number       TEXT,
+    established_date          DATE,
+    tax_identification_number TEXT,
+    number_of_employees       INTEGER,
+    industry                  TEXT,
+    CONSTRAINT organization_pk PRIMARY KEY (id)
+);
+
+-- Party relationship types are looked up by name and carry their role types by description
+ALTER TABLE party_relationship_type ADD COLUMN IF NOT EXISTS name TEXT;
+ALTER TABLE party_relationship_type ADD COLUMN IF NOT EXISTS from_role_type TEXT;
+ALTER TABLE party_relationship_type ADD COLUMN IF NOT EXISTS to_role_type TEXT;
+ALTER TABLE party_relationship_type RENAME COLUMN parent_id TO parent_type_id;
+
+UPDATE party_relationship_type
+   SET name = description
+ WHERE name IS NULL;
+
+UPDATE party_relationship_type t
+   SET from_role_type = prt.description
+  FROM party_role_type prt
+ WHERE prt.id = t.from_party_role_type
+   AND t.from_role_type IS NULL;
+
+UPDATE party_relationship_type t
+   SET to_role_type = prt.description
+  FROM party_role_type prt
+ WHERE prt.id = t.to_party_role_type
+   AND t.to_role_type IS NULL;
+
+-- The seeded types have no role types, so only the name is required here; the description becomes optional
+ALTER TABLE party_relationship_type ALTER COLUMN name SET NOT NULL;
+ALTER TABLE party_relationship_type ALTER COLUMN description DROP NOT NULL;
+ALTER TABLE party_relationship_type ADD CONSTRAINT party_relationship_type_name_unique UNIQUE (name);
+
+-- Party relationships reference the two parties directly; the role, status and priority references of the
+-- original model become optional
+ALTER TABLE party_relationship RENAME COLUMN party_relationship_type_id TO relationship_type_id;
+ALTER TABLE party_relationship ADD COLUMN IF NOT EXISTS from_party_id UUID REFERENCES party (id);
+ALTER TABLE party_relationship ADD COLUMN IF NOT EXISTS to_party_id UUID REFERENCES party (id);
+
+UPDATE party_relationship r
+   SET from_party_id = fr.party_id,
+       to_party_id   = tr.party_id
+  FROM party_role fr,
+       party_role tr
+ WHERE fr.id = r.from_party_role_id
+   AND tr.id = r.to_party_role_id
+   AND r.from_party_id IS NULL;
+
+ALTER TABLE party_relationship ALTER COLUMN from_party_id SET NOT NULL;
+ALTER TABLE party_relationship ALTER COLUMN to_party_id SET NOT NULL;
+ALTER TABLE party_relationship ALTER COLUMN from_party_role_id DROP NOT NULL;
+ALTER TABLE party_relationship ALTER COLUMN to_party_role_id DROP NOT NULL;
+ALTER TABLE party_relationship ALTER COLUMN party_relationship_status_type_id DROP NOT NULL;
+ALTER TABLE party_relationship ALTER COLUMN priority_type_id DROP NOT NULL;
@@ -0,0 +1,39 @@
+-- Bring the Flyway schema in line with the JPA entity mappings for contact mechanisms
+-- The entities map a contact_mechanism_type discriminator with email address, postal address and telecom
+-- number subtype tables. The original end point and type reference are kept for existing rows but no longer
+-- required.
+
+ALTER TABLE contact_mechanism ADD COLUMN IF NOT EXISTS contact_mechanism_type VARCHAR(31);
+ALTER TABLE contact_mechanism ADD COLUMN IF NOT EXISTS comment TEXT;
+ALTER TABLE contact_mechanism ALTER COLUMN end_point DROP NOT NULL;
+ALTER TABLE contact_mechanism ALTER COLUMN contact_mechanism_type_id DROP NOT NULL;
+
+CREATE TABLE IF NOT EXISTS email_address
+(
+    id            UUID NOT NULL REFERENCES contact_mechanism (id),
+    email_address TEXT NOT NULL,
+    CONSTRAINT email_address_pk PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS postal_address
+(
+    id                    UUID NOT NULL REFERENCES contact_mechanism (id),
+    address1              TEXT NOT NULL,
+    address2              TEXT,
+    city                  TEXT NOT NULL,
+    state_province        TEXT NOT NULL,
+    postal_code           TEXT NOT NULL,
+    postal_code_extension TEXT,
+    country               TEXT NOT NULL,
+    CONSTRAINT postal_address_pk PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS telecom_number
+(
+    id           UUID NOT NULL REFERENCES contact_mechanism (id),
+    country_code TEXT,
+    area_code    TEXT,
+    phone_number TEXT NOT NULL,
+    extension    TEXT,
+    CONSTRAINT telecom_number_pk PRIMARY KEY (id)
+);
@@ -0,0 +1,6 @@
+-- Support keyset pagination for the peopleConnection and organizationsConnection queries
+-- Pages are read as "party_type = ? AND id > ? ORDER BY id LIMIT n", so the composite index lets the
+-- planner seek straight to the cursor instead of scanning and discarding an OFFSET worth of rows
+
+CREATE INDEX IF NOT EXISTS idx_party_party_type_id
+    ON party (party_type, id);
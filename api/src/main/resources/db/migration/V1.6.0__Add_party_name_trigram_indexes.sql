@@ -0,0 +1,15 @@
+-- Trigram indexes for fuzzy, type-ahead party name search
+-- Substring LIKE '%...%' cannot use a btree index; pg_trgm GIN indexes answer the word similarity
+-- operator (<%) directly, so candidates are found through the index instead of a sequential scan.
+-- Indexes are built on the lower-cased expressions the search queries use.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_party_name_name_trgm
+    ON party_name USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_organization_name_trgm
+    ON organization USING gin (lower(organization_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_person_full_name_trgm
+    ON person USING gin ((lower(coalesce(first_name, '') || ' ' || coalesce(last_name, ''))) gin_trgm_ops);
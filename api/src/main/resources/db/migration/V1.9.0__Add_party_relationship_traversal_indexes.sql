@@ -0,0 +1,15 @@
+-- Support relationship graph walks (relationshipGraph query)
+-- Each step of the recursive walk looks up the relationships on one side of the parties reached so far
+-- and reads every column it needs from the index, so the covering indexes below let each hop run as an
+-- index-only scan. They keep the (party, from_date DESC) key of the V1.4.0 indexes, so paging through a
+-- party's relationships is served just as well and the old indexes can go.
+
+CREATE INDEX IF NOT EXISTS idx_party_relationship_from_party_traversal
+    ON party_relationship (from_party_id, from_date DESC)
+    INCLUDE (to_party_id, relationship_type_id, thru_date, id);
+CREATE INDEX IF NOT EXISTS idx_party_relationship_to_party_traversal
+    ON party_relationship (to_party_id, from_date DESC)
+    INCLUDE (from_party_id, relationship_type_id, thru_date, id);
+
+DROP INDEX IF EXISTS idx_party_relationship_from_party_id;
+DROP INDEX IF EXISTS idx_party_relationship_to_party_id;
@@ -0,0 +1,190 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.instrumentation;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.execution.CoercedVariables;
+import graphql.language.Document;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeRuntimeWiring;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCostInstrumentationTest {
+
+    private static final String SDL = """
+            type Query {
+                person(id: ID): Person
+                people(page: Int = 0, size: Int = 20): PersonPage
+                types: [Type]
+            }
+            type PersonPage { content: [Person] totalElements: Int }
+            type Person { id: ID name: String relationships(size: Int = 20): [Relationship] }
+            type Relationship { from: Person }
+            type Type { name: String }
+            """;
+
+    private GraphQLSchema schema;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SDL),
+                RuntimeWiring.newRuntimeWiring().build());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should cost scalar fields at one and multiply children by the page size")
+    void shouldMultiplyChildrenByPageSize() {
+        // Given
+        QueryCostCalculator calculator = new QueryCostCalculator(10);
+
+        // When
+        QueryCost single = cost(calculator, "{ person(id: \"1\") { id name } }");
+        QueryCost paged = cost(calculator, "{ people(size: 5) { totalElements content { id name } } }");
+        QueryCost defaulted = cost(calculator, "{ people { content { id } } }");
+        QueryCost unbounded = cost(calculator, "{ types { name } }");
+
+        // Then
+        assertThat(single).isEqualTo(new QueryCost(3, 2));
+        assertThat(paged).isEqualTo(new QueryCost(21, 3));
+        assertThat(defaulted).isEqualTo(new QueryCost(41, 3));
+        assertThat(unbounded).isEqualTo(new QueryCost(11, 2));
+    }
+
+    @Test
+    @DisplayName("Should not charge for introspection")
+    void shouldIgnoreIntrospection() {
+        // When
+        QueryCost queryCost = cost(new QueryCostCalculator(10),
+                "{ __schema { types { name fields { name type { name ofType { name } } } } } }");
+
+        // Then
+        assertThat(queryCost).isEqualTo(new QueryCost(0, 0));
+    }
+
+    @Test
+    @DisplayName("Should reject operations over the cost budget before executing them")
+    void shouldRejectOverBudgetOperation() {
+        // Given
+        QueryCostInstrumentation instrumentation = instrumentation(15, 100);
+
+        // When
+        ExecutionResult result = execute(instrumentation,
+                "{ people(size: 50) { content { id name relationships { from { id } } } } }");
+
+        // Then
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).contains("Query cost 2201 exceeds the maximum of 100"));
+        assertThat(meterRegistry.find(QueryCostInstrumentation.METER_NAME).tag("outcome", "rejected")
+                .summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject operations nested deeper than the limit")
+    void shouldRejectTooDeepOperation() {
+        // Given
+        QueryCostInstrumentation instrumentation = instrumentation(3, 1_000);
+
+        // When
+        ExecutionResult result = execute(instrumentation, "{ person { relationships { from { id } } } }");
+
+        // Then
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).contains("Query depth 4 exceeds the maximum of 3"));
+    }
+
+    @Test
+    @DisplayName("Should admit operations within budget and return their units when they complete")
+    void shouldReleaseBudgetAfterExecution() {
+        // Given
+        QueryCostInstrumentation instrumentation = instrumentation(15, 1_000);
+
+        // When
+        ExecutionResult result = execute(instrumentation, "{ people(size: 5) { content { id } } }");
+
+        // Then
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(instrumentation.availableBudget()).isEqualTo(instrumentation.concurrentCost());
+        assertThat(meterRegistry.find(QueryCostInstrumentation.METER_NAME).tag("outcome", "admitted")
+                .summary().totalAmount()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Should admit a cheap operation while an expensive one waits for the budget")
+    void shouldAdmitCheapOperationPastWaitingExpensiveOne() throws Exception {
+        // Given - the first operation holds 1501 of 2000 units until released, the second needs 1001
+        CountDownLatch release = new CountDownLatch(1);
+        GraphQLSchema blockingSchema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SDL),
+                RuntimeWiring.newRuntimeWiring()
+                        .type(TypeRuntimeWiring.newTypeWiring("Query").dataFetcher("people", environment -> {
+                            if (environment.<Integer>getArgument("size") > 100) {
+                                release.await();
+                            }
+                            return null;
+                        }))
+                        .build());
+        QueryCostInstrumentation instrumentation = new QueryCostInstrumentation(meterRegistry, 15, 2_000, 2_000,
+                Duration.ofSeconds(10), 10);
+        GraphQL graphQL = GraphQL.newGraphQL(blockingSchema).instrumentation(instrumentation).build();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ExecutionResult> holding = executor.submit(
+                    () -> graphQL.execute("{ people(size: 750) { content { id } } }"));
+            awaitUntil(() -> instrumentation.availableBudget() == 499);
+            Future<ExecutionResult> waiting = executor.submit(
+                    () -> graphQL.execute("{ people(size: 500) { content { id } } }"));
+            awaitUntil(() -> instrumentation.waitingOperations() == 1);
+
+            // When
+            ExecutionResult cheap = graphQL.execute("{ people(size: 5) { content { id } } }");
+
+            // Then
+            assertThat(cheap.getErrors()).isEmpty();
+            assertThat(instrumentation.waitingOperations()).isEqualTo(1);
+            release.countDown();
+            assertThat(holding.get().getErrors()).isEmpty();
+            assertThat(waiting.get().getErrors()).isEmpty();
+            assertThat(instrumentation.availableBudget()).isEqualTo(instrumentation.concurrentCost());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private QueryCost cost(QueryCostCalculator calculator, String query) {
+        Document document = Parser.parse(query);
+        return calculator.calculate(schema, document, null, CoercedVariables.emptyVariables());
+    }
+
+    private QueryCostInstrumentation instrumentation(int maxDepth, long maxCost) {
+        return new QueryCostInstrumentation(meterRegistry, maxDepth, maxCost, 2_000, Duration.ofMillis(10), 10);
+    }
+
+    private ExecutionResult execute(QueryCostInstrumentation instrumentation, String query) {
+        return GraphQL.newGraphQL(schema).instrumentation(instrumentation).build().execute(query);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("waited 5s for the condition").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.instrumentation;
+
+import graphql.GraphQL;
+import graphql.language.OperationDefinition;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlMetricsInstrumentationTest {
+
+    private static final String SDL = """
+            type Query { people: [Person] }
+            type Person { id: ID relationships: [Relationship] }
+            type Relationship { from: Person }
+            """;
+
+    @Test
+    @DisplayName("Should tag operations by name up to the cap and by operation type after it")
+    void shouldCapOperationNames() {
+        // Given
+        SqlMetricsInstrumentation instrumentation = new SqlMetricsInstrumentation(new SimpleMeterRegistry(), 2);
+
+        // When
+        String first = instrumentation.operationTag("People", OperationDefinition.Operation.QUERY);
+        String second = instrumentation.operationTag("Person", OperationDefinition.Operation.QUERY);
+        String overflow = instrumentation.operationTag("People123", OperationDefinition.Operation.QUERY);
+        String overflowMutation = instrumentation.operationTag("Rename", OperationDefinition.Operation.MUTATION);
+        String repeated = instrumentation.operationTag("People", OperationDefinition.Operation.QUERY);
+        String unnamed = instrumentation.operationTag(null, OperationDefinition.Operation.QUERY);
+
+        // Then
+        assertThat(first).isEqualTo("People");
+        assertThat(second).isEqualTo("Person");
+        assertThat(overflow).isEqualTo("query");
+        assertThat(overflowMutation).isEqualTo("mutation");
+        assertThat(repeated).isEqualTo("People");
+        assertThat(unnamed).isEqualTo(SqlMetricsInstrumentation.ANONYMOUS);
+    }
+
+    @Test
+    @DisplayName("Should name fields by schema coordinate whatever their position in the result")
+    void shouldUseSchemaCoordinates() {
+        // Given
+        List<String> coordinates = new CopyOnWriteArrayList<>();
+        RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", type -> type.dataFetcher("people", environment -> {
+                    coordinates.add(SqlMetricsInstrumentation.fieldCoordinate(environment));
+                    return List.of(Map.of("id", "1"), Map.of("id", "2"));
+                }))
+                .type("Person", type -> type.dataFetcher("relationships", environment -> {
+                    coordinates.add(SqlMetricsInstrumentation.fieldCoordinate(environment));
+                    return List.of();
+                }))
+                .build();
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SDL), wiring);
+        GraphQL graphQL = GraphQL.newGraphQL(schema)
+                .instrumentation(new SqlMetricsInstrumentation(new SimpleMeterRegistry(), 10))
+                .build();
+
+        // When
+        graphQL.execute("{ people { id relationships { from { id } } } }");
+
+        // Then
+        assertThat(coordinates).containsExactly("Query.people", "Person.relationships", "Person.relationships");
+    }
+}
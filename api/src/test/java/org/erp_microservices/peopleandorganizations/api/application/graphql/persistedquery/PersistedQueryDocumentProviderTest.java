@@ -0,0 +1,122 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.persistedquery;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.parser.Parser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistedQueryDocumentProviderTest {
+
+    private static final String QUERY = "query Person($id: ID!) { person(id: $id) { id fullName } }";
+
+    private PersistedQueryDocumentProvider provider;
+    private AtomicInteger parses;
+    private Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate;
+
+    @BeforeEach
+    void setUp() {
+        provider = new PersistedQueryDocumentProvider(Caffeine.newBuilder().maximumSize(10).build());
+        parses = new AtomicInteger();
+        parseAndValidate = input -> {
+            parses.incrementAndGet();
+            return new PreparsedDocumentEntry(Parser.parse(input.getQuery()));
+        };
+    }
+
+    @Test
+    @DisplayName("Should parse a repeated plain query only once")
+    void shouldCachePlainQueries() {
+        // When
+        PreparsedDocumentEntry first = document(ExecutionInput.newExecutionInput(QUERY).build());
+        PreparsedDocumentEntry second = document(ExecutionInput.newExecutionInput(QUERY).build());
+
+        // Then
+        assertThat(parses).hasValue(1);
+        assertThat(second.getDocument()).isSameAs(first.getDocument());
+    }
+
+    @Test
+    @DisplayName("Should ask for the query when the hash is not known yet")
+    void shouldReportUnknownHash() {
+        // When
+        PreparsedDocumentEntry entry = document(hashOnly(PersistedQueryDocumentProvider.sha256(QUERY)));
+
+        // Then
+        assertThat(entry.hasErrors()).isTrue();
+        assertThat(entry.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("PersistedQueryNotFound"));
+        assertThat(parses).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should serve a registered query by hash alone without parsing it again")
+    void shouldServeRegisteredQueryByHash() {
+        // Given
+        String hash = PersistedQueryDocumentProvider.sha256(QUERY);
+        PreparsedDocumentEntry registered = document(ExecutionInput.newExecutionInput(QUERY)
+                .extensions(persistedQuery(hash))
+                .build());
+
+        // When
+        PreparsedDocumentEntry entry = document(hashOnly(hash.toUpperCase()));
+
+        // Then
+        assertThat(entry.hasErrors()).isFalse();
+        assertThat(entry.getDocument()).isSameAs(registered.getDocument());
+        assertThat(parses).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should treat the marker Spring GraphQL sends for a request without a query as a hash-only request")
+    void shouldServeMarkerRequestByHash() {
+        // Given
+        String hash = PersistedQueryDocumentProvider.sha256(QUERY);
+        document(ExecutionInput.newExecutionInput(QUERY).extensions(persistedQuery(hash)).build());
+
+        // When
+        PreparsedDocumentEntry entry = document(ExecutionInput
+                .newExecutionInput(PersistedQuerySupport.PERSISTED_QUERY_MARKER)
+                .extensions(persistedQuery(hash))
+                .build());
+
+        // Then
+        assertThat(entry.hasErrors()).isFalse();
+        assertThat(parses).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse to register a query under a hash that does not match it")
+    void shouldRejectMismatchedHash() {
+        // When
+        PreparsedDocumentEntry entry = document(ExecutionInput.newExecutionInput(QUERY)
+                .extensions(persistedQuery(PersistedQueryDocumentProvider.sha256("{ other }")))
+                .build());
+
+        // Then
+        assertThat(entry.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("PersistedQueryIdInvalid"));
+        assertThat(parses).hasValue(0);
+    }
+
+    private PreparsedDocumentEntry document(ExecutionInput input) {
+        return provider.getDocumentAsync(input, parseAndValidate).join();
+    }
+
+    private static ExecutionInput hashOnly(String hash) {
+        return ExecutionInput.newExecutionInput("").extensions(persistedQuery(hash)).build();
+    }
+
+    private static Map<String, Object> persistedQuery(String hash) {
+        return Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+    }
+}
@@ -0,0 +1,105 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.resolver;
+
+import org.erp_microservices.peopleandorganizations.api.application.graphql.resolver.PartyHistoryResolver.PartyAsOf;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRole;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartyHistoryResolverTest {
+
+    private static final LocalDate MID_2020 = LocalDate.of(2020, 6, 1);
+    private static final LocalDate MID_2021 = LocalDate.of(2021, 6, 1);
+
+    @Mock
+    private PartyHistoryRepository partyHistoryRepository;
+
+    private Person jane;
+    private Person john;
+
+    @BeforeEach
+    void setUp() {
+        jane = person();
+        john = person();
+    }
+
+    @Test
+    @DisplayName("Should run one query per requested date and hand each party its own rows")
+    void shouldLoadOneQueryPerDate() {
+        // Given
+        PartyRole janeIn2020 = role(jane);
+        PartyRole johnIn2020 = role(john);
+        PartyRole janeIn2021 = role(jane);
+        when(partyHistoryRepository.findRolesAsOf(Set.of(jane.getId(), john.getId()), MID_2020))
+                .thenReturn(List.of(janeIn2020, johnIn2020));
+        when(partyHistoryRepository.findRolesAsOf(Set.of(jane.getId()), MID_2021))
+                .thenReturn(List.of(janeIn2021));
+
+        PartyAsOf jane2020 = new PartyAsOf(jane.getId(), MID_2020);
+        PartyAsOf john2020 = new PartyAsOf(john.getId(), MID_2020);
+        PartyAsOf jane2021 = new PartyAsOf(jane.getId(), MID_2021);
+
+        // When
+        Map<PartyAsOf, List<PartyRole>> result = PartyHistoryResolver.load(Set.of(jane2020, john2020, jane2021),
+                partyHistoryRepository::findRolesAsOf, PartyRole::getParty);
+
+        // Then
+        assertThat(result).containsOnlyKeys(jane2020, john2020, jane2021);
+        assertThat(result.get(jane2020)).containsExactly(janeIn2020);
+        assertThat(result.get(john2020)).containsExactly(johnIn2020);
+        assertThat(result.get(jane2021)).containsExactly(janeIn2021);
+        verify(partyHistoryRepository).findRolesAsOf(Set.of(jane.getId(), john.getId()), MID_2020);
+        verify(partyHistoryRepository).findRolesAsOf(Set.of(jane.getId()), MID_2021);
+        verifyNoMoreInteractions(partyHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("Should answer parties without rows on the date with an empty list")
+    void shouldDefaultToEmptyList() {
+        // Given
+        when(partyHistoryRepository.findRolesAsOf(Set.of(jane.getId()), MID_2020)).thenReturn(List.of());
+        PartyAsOf key = new PartyAsOf(jane.getId(), MID_2020);
+
+        // When
+        Map<PartyAsOf, List<PartyRole>> result = PartyHistoryResolver.load(Set.of(key),
+                partyHistoryRepository::findRolesAsOf, PartyRole::getParty);
+
+        // Then
+        assertThat(result.get(key)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read a party's details as of today when no date is given")
+    void shouldDefaultToToday() {
+        assertThat(PartyAsOf.of(jane, null)).isEqualTo(new PartyAsOf(jane.getId(), LocalDate.now()));
+        assertThat(PartyAsOf.of(jane, MID_2020).asOf()).isEqualTo(MID_2020);
+    }
+
+    private static Person person() {
+        Person person = Person.builder().lastName("Doe").build();
+        person.setId(UUID.randomUUID());
+        return person;
+    }
+
+    private static PartyRole role(Party party) {
+        return PartyRole.builder().party(party).build();
+    }
+}
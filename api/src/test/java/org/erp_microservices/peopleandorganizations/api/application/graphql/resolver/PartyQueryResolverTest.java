@@ -0,0 +1,70 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.resolver;
+
+import graphql.relay.Connection;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartyQueryResolverTest {
+
+    @Mock
+    private PartyRepository partyRepository;
+
+    private PartyQueryResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new PartyQueryResolver(partyRepository);
+    }
+
+    @Test
+    @DisplayName("Should cap a connection page and still report the next page")
+    void shouldCapConnectionSize() {
+        // Given
+        int size = PartyQueryResolver.MAX_CONNECTION_SIZE;
+        when(partyRepository.findByPartyTypeAfter("PERSON", null, size + 1)).thenReturn(people(size + 1));
+
+        // When
+        Connection<Person> connection = resolver.peopleConnection(Integer.MAX_VALUE, null);
+
+        // Then
+        assertThat(connection.getEdges()).hasSize(size);
+        assertThat(connection.getPageInfo().isHasNextPage()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should read one row past a page smaller than the cap")
+    void shouldReadOnePastRequestedPage() {
+        // Given
+        when(partyRepository.findByPartyTypeAfter("PERSON", null, 3)).thenReturn(people(2));
+
+        // When
+        Connection<Person> connection = resolver.peopleConnection(2, null);
+
+        // Then
+        assertThat(connection.getEdges()).hasSize(2);
+        assertThat(connection.getPageInfo().isHasNextPage()).isFalse();
+    }
+
+    private static List<Party> people(int count) {
+        return Stream.generate(() -> {
+            Person person = Person.builder().build();
+            person.setId(UUID.randomUUID());
+            return (Party) person;
+        }).limit(count).toList();
+    }
+}
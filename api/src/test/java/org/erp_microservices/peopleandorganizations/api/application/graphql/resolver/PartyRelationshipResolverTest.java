@@ -0,0 +1,155 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.resolver;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Organization;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRelationshipRepository;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRepository;
+import org.erp_microservices.peopleandorganizations.api.domain.service.OrganizationHierarchyService;
+import org.erp_microservices.peopleandorganizations.api.domain.service.PartyChangeRecorder;
+import org.erp_microservices.peopleandorganizations.api.domain.service.PartyHierarchyService;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.ReferenceDataRegistry;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.ReferenceIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartyRelationshipResolverTest {
+
+    @Mock
+    private PartyRepository partyRepository;
+
+    @Mock
+    private PartyRelationshipRepository partyRelationshipRepository;
+
+    @Mock
+    private ReferenceDataRegistry referenceData;
+
+    @Mock
+    private PartyChangeRecorder changeRecorder;
+
+    @Mock
+    private PartyHierarchyService partyHierarchyService;
+
+    @Mock
+    private OrganizationHierarchyService organizationHierarchyService;
+
+    @InjectMocks
+    private PartyRelationshipResolver resolver;
+
+    private Person employee;
+    private Person contractor;
+    private Organization employer;
+    private PartyRelationshipType employmentType;
+    private PartyRelationship employment;
+    private PartyRelationship contract;
+
+    @BeforeEach
+    void setUp() {
+        employee = Person.builder().firstName("John").lastName("Doe").build();
+        employee.setId(UUID.randomUUID());
+
+        contractor = Person.builder().firstName("Jane").lastName("Smith").build();
+        contractor.setId(UUID.randomUUID());
+
+        employer = Organization.builder().name("Acme Corporation").build();
+        employer.setId(UUID.randomUUID());
+
+        employmentType = PartyRelationshipType.builder()
+                .id(UUID.randomUUID())
+                .name("Employment")
+                .fromRoleType("Employee")
+                .toRoleType("Employer")
+                .build();
+
+        employment = relationship(employee, employer);
+        contract = relationship(contractor, employer);
+    }
+
+    @Test
+    @DisplayName("Should load all from parties of a batch with a single query")
+    void shouldBatchLoadFromParties() {
+        // Given
+        when(partyRepository.findAllById(any())).thenReturn(List.of(employee, contractor));
+
+        // When
+        Map<PartyRelationship, Party> result = resolver.fromParty(List.of(employment, contract));
+
+        // Then
+        assertThat(result).containsEntry(employment, employee).containsEntry(contract, contractor);
+        verify(partyRepository, times(1)).findAllById(Set.of(employee.getId(), contractor.getId()));
+    }
+
+    @Test
+    @DisplayName("Should load a shared to party only once for the whole batch")
+    void shouldBatchLoadSharedToParty() {
+        // Given
+        when(partyRepository.findAllById(any())).thenReturn(List.of(employer));
+
+        // When
+        Map<PartyRelationship, Party> result = resolver.toParty(List.of(employment, contract));
+
+        // Then
+        assertThat(result).containsEntry(employment, employer).containsEntry(contract, employer);
+        verify(partyRepository, times(1)).findAllById(Set.of(employer.getId()));
+    }
+
+    @Test
+    @DisplayName("Should resolve relationship types of a batch from the reference data registry")
+    void shouldResolveRelationshipTypesFromRegistry() {
+        // Given
+        when(referenceData.partyRelationshipTypes()).thenReturn(ReferenceIndex.of(
+                List.of(employmentType), PartyRelationshipType::getId, PartyRelationshipType::getName));
+
+        // When
+        Map<PartyRelationship, PartyRelationshipType> result =
+                resolver.relationshipType(List.of(employment, contract));
+
+        // Then
+        assertThat(result).hasSize(2).containsValues(employmentType);
+        verifyNoInteractions(partyRepository, partyRelationshipRepository);
+    }
+
+    @Test
+    @DisplayName("Should leave out relationships whose party no longer exists")
+    void shouldOmitMissingParties() {
+        // Given
+        when(partyRepository.findAllById(any())).thenReturn(List.of(employee));
+
+        // When
+        Map<PartyRelationship, Party> result = resolver.fromParty(List.of(employment, contract));
+
+        // Then
+        assertThat(result).containsOnlyKeys(employment);
+    }
+
+    private PartyRelationship relationship(Party from, Party to) {
+        return PartyRelationship.builder()
+                .id(UUID.randomUUID())
+                .fromParty(from)
+                .toParty(to)
+                .relationshipType(employmentType)
+                .fromDate(LocalDate.of(2024, 1, 1))
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package org.erp_microservices.peopleandorganizations.api.application.graphql.resolver;
+
+import org.erp_microservices.peopleandorganizations.api.application.dto.PartyChange;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.outbox.PartyChangeBroadcaster;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.outbox.PartyChangeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartySubscriptionResolverTest {
+
+    @Mock
+    private PartyChangeBroadcaster broadcaster;
+
+    @InjectMocks
+    private PartySubscriptionResolver resolver;
+
+    private UUID person;
+    private UUID organization;
+    private PartyChangeMessage personUpdated;
+    private PartyChangeMessage organizationCreated;
+    private PartyChangeMessage deleted;
+    private PartyChangeMessage employment;
+
+    @BeforeEach
+    void setUp() {
+        person = UUID.randomUUID();
+        organization = UUID.randomUUID();
+        personUpdated = message(1, "PARTY", person, "PARTY_UPDATED", Map.of("partyType", "PERSON"));
+        organizationCreated = message(2, "PARTY", organization, "PARTY_CREATED", Map.of("partyType", "ORGANIZATION"));
+        deleted = message(3, "PARTY", UUID.randomUUID(), "PARTY_DELETED", Map.of());
+        employment = message(4, "PARTY_RELATIONSHIP", UUID.randomUUID(), "RELATIONSHIP_CREATED",
+                Map.of("fromPartyId", person.toString(), "toPartyId", organization.toString()));
+        when(broadcaster.changes()).thenReturn(Flux.just(personUpdated, organizationCreated, deleted, employment));
+    }
+
+    @Test
+    @DisplayName("Should only deliver changes of the subscribed party")
+    void shouldFilterByParty() {
+        // When
+        List<PartyChange> changes = resolver.partyChanged(person.toString()).collectList().block();
+
+        // Then
+        assertThat(changes).extracting(PartyChange::sequence).containsExactly("1");
+        assertThat(changes.get(0).partyType()).isEqualTo("PERSON");
+    }
+
+    @Test
+    @DisplayName("Should deliver changes of the requested party types and untyped deletions")
+    void shouldFilterByPartyType() {
+        // When
+        List<PartyChange> changes = resolver.partiesChanged(List.of("organization")).collectList().block();
+
+        // Then
+        assertThat(changes).extracting(PartyChange::sequence).containsExactly("2", "3");
+    }
+
+    @Test
+    @DisplayName("Should deliver every party change when no types are given")
+    void shouldDeliverAllPartyChanges() {
+        // When
+        List<PartyChange> changes = resolver.partiesChanged(null).collectList().block();
+
+        // Then
+        assertThat(changes).extracting(PartyChange::sequence).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    @DisplayName("Should deliver relationship changes on either side of the party")
+    void shouldFilterRelationshipsByEitherParty() {
+        // When
+        List<PartyChange> fromSide = resolver.relationshipChanged(person.toString()).collectList().block();
+        List<PartyChange> toSide = resolver.relationshipChanged(organization.toString()).collectList().block();
+        List<PartyChange> unrelated = resolver.relationshipChanged(UUID.randomUUID().toString()).collectList().block();
+
+        // Then
+        assertThat(fromSide).extracting(PartyChange::sequence).containsExactly("4");
+        assertThat(toSide).extracting(PartyChange::fromPartyId).containsExactly(person.toString());
+        assertThat(unrelated).isEmpty();
+    }
+
+    private static PartyChangeMessage message(long sequence, String aggregateType, UUID aggregateId,
+                                              String changeType, Map<String, Object> payload) {
+        return new PartyChangeMessage(sequence, aggregateType, aggregateId, changeType, payload,
+                Instant.parse("2024-05-01T10:15:30Z"));
+    }
+}
@@ -143,7 +143,8 @@ class PartyRelationshipTest {
         // Then
         assertThat(relationship.isActiveOn(testDate)).isTrue();
         assertThat(relationship.isActiveOn(startDate)).isTrue();
-        assertThat(relationship.isActiveOn(endDate)).isTrue();
+        assertThat(relationship.isActiveOn(endDate.minusDays(1))).isTrue();
+        assertThat(relationship.isActiveOn(endDate)).isFalse();
         assertThat(relationship.isActiveOn(beforeStart)).isFalse();
         assertThat(relationship.isActiveOn(afterEnd)).isFalse();
     }
@@ -0,0 +1,152 @@
+package org.erp_microservices.peopleandorganizations.api.domain.service;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Organization;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.OrganizationHierarchyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrganizationHierarchyServiceTest {
+
+    private static final String ROLLUP = "Organization Rollup";
+
+    @Mock
+    private OrganizationHierarchyRepository organizationHierarchyRepository;
+
+    private OrganizationHierarchyService organizationHierarchyService;
+
+    private Organization acme;
+    private Organization emea;
+    private Organization sales;
+    private PartyRelationshipType rollup;
+
+    @BeforeEach
+    void setUp() {
+        organizationHierarchyService = new OrganizationHierarchyService(organizationHierarchyRepository, ROLLUP);
+        acme = organization();
+        emea = organization();
+        sales = organization();
+        rollup = PartyRelationshipType.builder().id(UUID.randomUUID()).name(ROLLUP).build();
+    }
+
+    @Test
+    @DisplayName("Should attach the child organization's subtree when a rollup starts")
+    void shouldAttachOnActiveRollup() {
+        // Given
+        when(organizationHierarchyRepository.findPath(emea.getId())).thenReturn(Optional.of(List.of(emea.getId())));
+        when(organizationHierarchyRepository.findPath(acme.getId())).thenReturn(Optional.of(List.of(acme.getId())));
+
+        // When
+        organizationHierarchyService.relationshipChanged(relationship(acme, emea, rollup, null));
+
+        // Then
+        verify(organizationHierarchyRepository).lock();
+        verify(organizationHierarchyRepository).attach(emea.getId(), acme.getId());
+    }
+
+    @Test
+    @DisplayName("Should move the child organization's subtree back to the top when its rollup ends")
+    void shouldDetachOnEndedRollup() {
+        // Given
+        when(organizationHierarchyRepository.findPath(emea.getId()))
+                .thenReturn(Optional.of(List.of(acme.getId(), emea.getId())));
+
+        // When
+        organizationHierarchyService.relationshipChanged(relationship(acme, emea, rollup, LocalDate.now()));
+
+        // Then
+        verify(organizationHierarchyRepository).detach(emea.getId());
+    }
+
+    @Test
+    @DisplayName("Should reject a second parent for an organization")
+    void shouldRejectSecondParent() {
+        // Given
+        when(organizationHierarchyRepository.findPath(sales.getId()))
+                .thenReturn(Optional.of(List.of(acme.getId(), sales.getId())));
+
+        // When / Then
+        assertThatThrownBy(() -> organizationHierarchyService.relationshipChanged(relationship(emea, sales, rollup, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("already rolls up");
+        verify(organizationHierarchyRepository, never()).attach(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a rollup into the organization's own subtree")
+    void shouldRejectCycle() {
+        // Given - sales already rolls up into emea, which is at the top
+        when(organizationHierarchyRepository.findPath(emea.getId())).thenReturn(Optional.of(List.of(emea.getId())));
+        when(organizationHierarchyRepository.findPath(sales.getId()))
+                .thenReturn(Optional.of(List.of(emea.getId(), sales.getId())));
+
+        // When / Then
+        assertThatThrownBy(() -> organizationHierarchyService.relationshipChanged(relationship(sales, emea, rollup, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot be its parent");
+        verify(organizationHierarchyRepository, never()).attach(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should ignore other relationship types and relationships involving people")
+    void shouldIgnoreOtherRelationships() {
+        // Given
+        PartyRelationshipType partnership = PartyRelationshipType.builder().id(UUID.randomUUID()).name("Partnership").build();
+        Person person = Person.builder().build();
+        person.setId(UUID.randomUUID());
+
+        // When
+        organizationHierarchyService.relationshipChanged(relationship(acme, emea, partnership, null));
+        organizationHierarchyService.relationshipChanged(relationship(acme, person, rollup, null));
+
+        // Then
+        verifyNoInteractions(organizationHierarchyRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a subtree depth outside the supported range")
+    void shouldRejectInvalidDepth() {
+        // When / Then
+        assertThatThrownBy(() -> organizationHierarchyService.subtree(acme.getId(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(organizationHierarchyRepository);
+    }
+
+    private static Organization organization() {
+        Organization organization = Organization.builder().build();
+        organization.setId(UUID.randomUUID());
+        return organization;
+    }
+
+    private static PartyRelationship relationship(Party from, Party to, PartyRelationshipType type,
+                                                  LocalDate thruDate) {
+        return PartyRelationship.builder()
+                .id(UUID.randomUUID())
+                .fromParty(from)
+                .toParty(to)
+                .relationshipType(type)
+                .fromDate(LocalDate.now().minusYears(1))
+                .thruDate(thruDate)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package org.erp_microservices.peopleandorganizations.api.domain.service;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeEvent;
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Organization;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyChangeEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PartyChangeRecorderTest {
+
+    @Mock
+    private PartyChangeEventRepository eventRepository;
+
+    @InjectMocks
+    private PartyChangeRecorder recorder;
+
+    @Test
+    @DisplayName("Should record a created party with its type")
+    void shouldRecordCreatedParty() {
+        // Given
+        Person person = Person.builder().firstName("Jane").lastName("Roe").build();
+        person.setId(UUID.randomUUID());
+
+        // When
+        recorder.partyCreated(person);
+
+        // Then
+        PartyChangeEvent event = savedEvent();
+        assertThat(event.getAggregateType()).isEqualTo(PartyChangeEvent.PARTY);
+        assertThat(event.getAggregateId()).isEqualTo(person.getId());
+        assertThat(event.getChangeType()).isEqualTo(PartyChangeType.PARTY_CREATED);
+        assertThat(event.getPayload()).containsEntry("partyType", "PERSON");
+        assertThat(event.getOccurredAt()).isNotNull();
+        assertThat(event.getPublishedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should name both parties of a terminated relationship")
+    void shouldRecordTerminatedRelationship() {
+        // Given
+        Person employee = Person.builder().firstName("John").lastName("Doe").build();
+        employee.setId(UUID.randomUUID());
+        Organization employer = Organization.builder().name("Acme Corporation").build();
+        employer.setId(UUID.randomUUID());
+        PartyRelationship relationship = PartyRelationship.builder()
+                .id(UUID.randomUUID())
+                .fromParty(employee)
+                .toParty(employer)
+                .relationshipType(PartyRelationshipType.builder().id(UUID.randomUUID()).name("Employment").build())
+                .fromDate(LocalDate.of(2020, 1, 1))
+                .thruDate(LocalDate.of(2024, 6, 30))
+                .build();
+
+        // When
+        recorder.relationshipTerminated(relationship);
+
+        // Then
+        PartyChangeEvent event = savedEvent();
+        assertThat(event.getAggregateType()).isEqualTo(PartyChangeEvent.PARTY_RELATIONSHIP);
+        assertThat(event.getAggregateId()).isEqualTo(relationship.getId());
+        assertThat(event.getChangeType()).isEqualTo(PartyChangeType.RELATIONSHIP_TERMINATED);
+        assertThat(event.getPayload())
+                .containsEntry("fromPartyId", employee.getId())
+                .containsEntry("toPartyId", employer.getId())
+                .containsEntry("thruDate", "2024-06-30");
+    }
+
+    @Test
+    @DisplayName("Should refuse to record a change to an unsaved party")
+    void shouldRejectUnsavedParty() {
+        // Given
+        Person person = Person.builder().firstName("Jane").lastName("Roe").build();
+
+        // When / Then
+        assertThatThrownBy(() -> recorder.partyUpdated(person)).isInstanceOf(IllegalStateException.class);
+        verify(eventRepository, never()).save(any());
+    }
+
+    private PartyChangeEvent savedEvent() {
+        ArgumentCaptor<PartyChangeEvent> captor = ArgumentCaptor.forClass(PartyChangeEvent.class);
+        verify(eventRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
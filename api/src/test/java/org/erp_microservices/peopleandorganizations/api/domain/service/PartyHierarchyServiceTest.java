@@ -0,0 +1,121 @@
+package org.erp_microservices.peopleandorganizations.api.domain.service;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Organization;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRelationshipClosureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartyHierarchyServiceTest {
+
+    @Mock
+    private PartyRelationshipClosureRepository closureRepository;
+
+    private PartyHierarchyService partyHierarchyService;
+
+    private Organization parent;
+    private Organization subsidiary;
+    private PartyRelationshipType ownership;
+
+    @BeforeEach
+    void setUp() {
+        parent = Organization.builder().build();
+        parent.setId(UUID.randomUUID());
+        subsidiary = Organization.builder().build();
+        subsidiary.setId(UUID.randomUUID());
+        ownership = PartyRelationshipType.builder().id(UUID.randomUUID()).name("OWNS").build();
+        partyHierarchyService = new PartyHierarchyService(closureRepository, Set.of("OWNS"));
+    }
+
+    @Test
+    @DisplayName("Should add an active relationship to the closure")
+    void shouldAddActiveRelationship() {
+        // Given
+        PartyRelationship relationship = relationship(null);
+
+        // When
+        partyHierarchyService.relationshipChanged(relationship);
+
+        // Then
+        verify(closureRepository).addRelationship(parent.getId(), subsidiary.getId(), ownership.getId());
+    }
+
+    @Test
+    @DisplayName("Should remove a terminated relationship from the closure")
+    void shouldRemoveTerminatedRelationship() {
+        // Given
+        PartyRelationship relationship = relationship(LocalDate.now());
+        when(closureRepository.removeRelationship(relationship.getId(), parent.getId(), subsidiary.getId(),
+                ownership.getId())).thenReturn(1);
+
+        // When
+        partyHierarchyService.relationshipChanged(relationship);
+
+        // Then
+        verify(closureRepository).removeRelationship(relationship.getId(), parent.getId(), subsidiary.getId(),
+                ownership.getId());
+    }
+
+    @Test
+    @DisplayName("Should ignore a relationship of a party with itself")
+    void shouldIgnoreSelfRelationship() {
+        // Given
+        PartyRelationship relationship = relationship(null);
+        relationship.setToParty(parent);
+
+        // When
+        partyHierarchyService.relationshipChanged(relationship);
+
+        // Then
+        verifyNoInteractions(closureRepository);
+    }
+
+    @Test
+    @DisplayName("Should leave relationships that are not a hierarchy out of the closure")
+    void shouldIgnoreOtherRelationshipTypes() {
+        // Given
+        PartyRelationship relationship = relationship(null);
+        relationship.setRelationshipType(PartyRelationshipType.builder().id(UUID.randomUUID()).name("SUPPLIES").build());
+
+        // When
+        partyHierarchyService.relationshipChanged(relationship);
+
+        // Then
+        verifyNoInteractions(closureRepository);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the hierarchy relationship types")
+    void shouldRebuildHierarchyTypes() {
+        // When
+        partyHierarchyService.rebuild();
+
+        // Then
+        verify(closureRepository).rebuild(Set.of("OWNS"));
+    }
+
+    private PartyRelationship relationship(LocalDate thruDate) {
+        return PartyRelationship.builder()
+                .id(UUID.randomUUID())
+                .fromParty(parent)
+                .toParty(subsidiary)
+                .relationshipType(ownership)
+                .fromDate(LocalDate.now().minusYears(1))
+                .thruDate(thruDate)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package org.erp_microservices.peopleandorganizations.api.domain.service;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartySearchHit;
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartyTextSearchHit;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartySearchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartySearchServiceTest {
+
+    @Mock
+    private PartySearchRepository partySearchRepository;
+
+    @InjectMocks
+    private PartySearchService partySearchService;
+
+    @Test
+    @DisplayName("Should normalize the search text to match the lower-cased indexes")
+    void shouldNormalizeSearchText() {
+        // Given
+        PartySearchHit hit = new PartySearchHit(UUID.randomUUID(), "Acme Corporation", 0.8);
+        when(partySearchRepository.searchByName("acme", 10)).thenReturn(List.of(hit));
+
+        // When
+        List<PartySearchHit> result = partySearchService.searchByName("  ACME ", null);
+
+        // Then
+        assertThat(result).containsExactly(hit);
+    }
+
+    @Test
+    @DisplayName("Should cap the number of hits a client can request")
+    void shouldClampLimit() {
+        // When
+        partySearchService.searchByName("acme", 10_000);
+
+        // Then
+        verify(partySearchRepository).searchByName("acme", PartySearchService.MAX_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Should pass web search syntax through to the full-text search")
+    void shouldPassQuerySyntaxToFullTextSearch() {
+        // Given
+        PartyTextSearchHit hit = new PartyTextSearchHit(UUID.randomUUID(), "<b>Acme</b> Corporation", 0.4);
+        when(partySearchRepository.searchFullText("\"Acme Corp\" -Widgets", 5)).thenReturn(List.of(hit));
+
+        // When
+        List<PartyTextSearchHit> result = partySearchService.searchFullText(" \"Acme Corp\" -Widgets ", 5);
+
+        // Then
+        assertThat(result).containsExactly(hit);
+    }
+
+    @Test
+    @DisplayName("Should reject blank search text without querying")
+    void shouldRejectBlankText() {
+        // When / Then
+        assertThatThrownBy(() -> partySearchService.searchByName("   ", 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(partySearchRepository);
+    }
+
+    @Test
+    @DisplayName("Should only log a failed scheduled refresh")
+    void shouldLogFailedScheduledRefresh() {
+        // Given
+        when(partySearchRepository.refreshDocumentsChangedByDate()).thenThrow(new IllegalStateException("down"));
+
+        // When
+        partySearchService.scheduledRefresh();
+
+        // Then
+        verify(partySearchRepository).refreshDocumentsChangedByDate();
+    }
+}
@@ -0,0 +1,128 @@
+package org.erp_microservices.peopleandorganizations.api.domain.service;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraph;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraphEdge;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraphNode;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.TraversalDirection;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.RelationshipGraphRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RelationshipGraphServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2024, 6, 1);
+
+    @Mock
+    private RelationshipGraphRepository relationshipGraphRepository;
+
+    @InjectMocks
+    private RelationshipGraphService relationshipGraphService;
+
+    @Test
+    @DisplayName("Should report each relationship once at its shallowest depth")
+    void shouldDeduplicateEdges() {
+        // Given - a diamond: root -> a -> c and root -> b -> c -> d, with c -> d reached along both paths
+        UUID root = UUID.randomUUID();
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UUID c = UUID.randomUUID();
+        UUID d = UUID.randomUUID();
+        RelationshipGraphEdge rootA = edge(root, a, 1);
+        RelationshipGraphEdge rootB = edge(root, b, 1);
+        RelationshipGraphEdge aC = edge(a, c, 2);
+        RelationshipGraphEdge bC = edge(b, c, 2);
+        RelationshipGraphEdge cD = edge(c, d, 3);
+        when(relationshipGraphRepository.walk(root, List.of(), TraversalDirection.OUTGOING,
+                RelationshipGraphService.DEFAULT_MAX_DEPTH, AS_OF, RelationshipGraphService.MAX_PATH_STEPS + 1))
+                .thenReturn(List.of(rootA, rootB, aC, bC, cD, cD));
+
+        // When
+        RelationshipGraph graph = relationshipGraphService.traverse(root, null, null, null, AS_OF);
+
+        // Then
+        assertThat(graph.edges()).containsExactly(rootA, rootB, aC, bC, cD);
+        assertThat(graph.nodes()).containsExactly(
+                new RelationshipGraphNode(root, 0),
+                new RelationshipGraphNode(a, 1),
+                new RelationshipGraphNode(b, 1),
+                new RelationshipGraphNode(c, 2),
+                new RelationshipGraphNode(d, 3));
+        assertThat(graph.truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return only the root party when it has no relationships")
+    void shouldReturnRootOnly() {
+        // Given
+        UUID root = UUID.randomUUID();
+        when(relationshipGraphRepository.walk(eq(root), any(), any(), anyInt(), any(), anyInt()))
+                .thenReturn(List.of());
+
+        // When
+        RelationshipGraph graph = relationshipGraphService.traverse(root, List.of(), TraversalDirection.BOTH, 3, AS_OF);
+
+        // Then
+        assertThat(graph.nodes()).containsExactly(new RelationshipGraphNode(root, 0));
+        assertThat(graph.edges()).isEmpty();
+        verify(relationshipGraphRepository).walk(root, List.of(), TraversalDirection.BOTH, 3, AS_OF,
+                RelationshipGraphService.MAX_PATH_STEPS + 1);
+    }
+
+    @Test
+    @DisplayName("Should flag the graph as truncated when the walk exceeds its size limit")
+    void shouldFlagTruncatedGraph() {
+        // Given
+        UUID root = UUID.randomUUID();
+        List<RelationshipGraphEdge> steps = new ArrayList<>();
+        for (int i = 0; i <= RelationshipGraphService.MAX_PATH_STEPS; i++) {
+            steps.add(edge(root, UUID.randomUUID(), 1));
+        }
+        when(relationshipGraphRepository.walk(eq(root), any(), any(), anyInt(), any(), anyInt()))
+                .thenReturn(Collections.unmodifiableList(steps));
+
+        // When
+        RelationshipGraph graph = relationshipGraphService.traverse(root, null, null, null, AS_OF);
+
+        // Then
+        assertThat(graph.truncated()).isTrue();
+        assertThat(graph.edges()).hasSize(RelationshipGraphService.MAX_PATH_STEPS);
+    }
+
+    @Test
+    @DisplayName("Should reject a depth outside the supported range")
+    void shouldRejectInvalidDepth() {
+        // When / Then
+        assertThatThrownBy(() -> relationshipGraphService.traverse(UUID.randomUUID(), null, null,
+                RelationshipGraphService.MAX_DEPTH + 1, AS_OF))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Max depth");
+        assertThatThrownBy(() -> relationshipGraphService.traverse(UUID.randomUUID(), null, null, 0, AS_OF))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(relationshipGraphRepository);
+    }
+
+    private static RelationshipGraphEdge edge(UUID from, UUID to, int depth) {
+        return new RelationshipGraphEdge(UUID.randomUUID(), from, to, UUID.randomUUID(),
+                AS_OF.minusYears(1), null, depth);
+    }
+}
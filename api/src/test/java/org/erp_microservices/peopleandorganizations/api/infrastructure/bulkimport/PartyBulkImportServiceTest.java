@@ -0,0 +1,171 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.bulkimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRoleType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.ReferenceDataRegistry;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.ReferenceIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartyBulkImportServiceTest {
+
+    @Mock
+    private PartyCopyLoader loader;
+
+    @Mock
+    private ReferenceDataRegistry referenceData;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final PartyImportReader reader = new PartyImportReader(new ObjectMapper().findAndRegisterModules());
+    private final List<List<StagedParty>> loadedBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        PartyType personType = new PartyType(UUID.randomUUID(), "Person", null);
+        PartyType organizationType = new PartyType(UUID.randomUUID(), "Organization", null);
+        when(referenceData.partyTypes()).thenReturn(ReferenceIndex.of(
+                List.of(personType, organizationType), PartyType::getId, PartyType::getDescription));
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows and report invalid ones by record number")
+    void shouldImportCsvAndReportInvalidRows() throws Exception {
+        // Given
+        PartyRoleType customer = new PartyRoleType(UUID.randomUUID(), "Customer", null);
+        when(referenceData.partyRoleTypes()).thenReturn(ReferenceIndex.of(
+                List.of(customer), PartyRoleType::getId, PartyRoleType::getDescription));
+        acceptAllBatches();
+        String csv = """
+                party_type,first_name,last_name,birth_date,gender,organization_name,registration_number,roles
+                PERSON,John,Doe,1990-01-15,male,,,Customer
+                ORGANIZATION,,,,,Acme Corporation,REG123,
+                ROBOT,R2,D2,,,,,
+                """;
+
+        // When
+        PartyImportReport report = service(100).importParties(stream(csv), PartyImportFormat.CSV);
+
+        // Then
+        assertThat(report.getTotalRecords()).isEqualTo(3);
+        assertThat(report.getImportedRecords()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(PartyImportError::recordNumber).containsExactly(3L);
+        assertThat(loadedBatches).hasSize(1);
+
+        StagedParty person = loadedBatches.get(0).get(0);
+        assertThat(person.gender()).isEqualTo("MALE");
+        assertThat(person.roleTypeIds()).containsExactly(customer.getId());
+        assertThat(person.source().getBirthDate()).hasToString("1990-01-15");
+    }
+
+    @Test
+    @DisplayName("Should write NDJSON in batches and keep going past malformed lines")
+    void shouldBatchNdjsonAndSkipMalformedLines() throws Exception {
+        // Given
+        acceptAllBatches();
+        String ndjson = """
+                {"party_type":"PERSON","first_name":"John","last_name":"Doe"}
+                {"party_type":"PERSON","first_name":
+                {"party_type":"PERSON","first_name":"Jane","last_name":"Smith"}
+
+                {"party_type":"ORGANIZATION","organization_name":"Acme Corporation"}
+                """;
+
+        // When
+        PartyImportReport report = service(2).importParties(stream(ndjson), PartyImportFormat.NDJSON);
+
+        // Then
+        assertThat(report.getTotalRecords()).isEqualTo(4);
+        assertThat(report.getImportedRecords()).isEqualTo(3);
+        assertThat(report.getErrors()).extracting(PartyImportError::recordNumber).containsExactly(2L);
+        assertThat(loadedBatches).extracting(List::size).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("Should count rows rejected during the merge as failed")
+    void shouldReportRowsRejectedByMerge() throws Exception {
+        // Given
+        when(loader.load(anyList())).thenReturn(List.of(new PartyImportError(2, "Duplicate registration number: REG123")));
+        String ndjson = """
+                {"party_type":"ORGANIZATION","organization_name":"Acme Corporation","registration_number":"REG123"}
+                {"party_type":"ORGANIZATION","organization_name":"Acme Again","registration_number":"REG123"}
+                """;
+
+        // When
+        PartyImportReport report = service(100).importParties(stream(ndjson), PartyImportFormat.NDJSON);
+
+        // Then
+        assertThat(report.getImportedRecords()).isEqualTo(1);
+        assertThat(report.getFailedRecords()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(PartyImportError::message)
+                .containsExactly("Duplicate registration number: REG123");
+    }
+
+    @Test
+    @DisplayName("Should retry a batch the database rejects in halves and import all but the offending row")
+    void shouldIsolateRowsRejectedByDatabase() throws Exception {
+        // Given
+        when(loader.load(anyList())).thenAnswer(invocation -> {
+            List<StagedParty> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(party -> party.recordNumber() == 3)) {
+                throw new DataIntegrityViolationException("value too long for type character varying(255)");
+            }
+            loadedBatches.add(List.copyOf(batch));
+            return List.of();
+        });
+        String ndjson = """
+                {"party_type":"PERSON","last_name":"One"}
+                {"party_type":"PERSON","last_name":"Two"}
+                {"party_type":"PERSON","last_name":"Three"}
+                {"party_type":"PERSON","last_name":"Four"}
+                {"party_type":"PERSON","last_name":"Five"}
+                """;
+
+        // When
+        PartyImportReport report = service(100).importParties(stream(ndjson), PartyImportFormat.NDJSON);
+
+        // Then
+        assertThat(report.getImportedRecords()).isEqualTo(4);
+        assertThat(report.getErrors()).extracting(PartyImportError::recordNumber).containsExactly(3L);
+        assertThat(report.getErrors()).extracting(PartyImportError::message)
+                .containsExactly("Rejected by the database: value too long for type character varying(255)");
+        assertThat(loadedBatches).flatExtracting(batch -> batch.stream().map(StagedParty::recordNumber).toList())
+                .containsExactlyInAnyOrder(1L, 2L, 4L, 5L);
+    }
+
+    private PartyBulkImportService service(int batchSize) {
+        return new PartyBulkImportService(reader, loader, referenceData, transactionManager, batchSize);
+    }
+
+    private void acceptAllBatches() {
+        when(loader.load(anyList())).thenAnswer(invocation -> {
+            List<StagedParty> batch = invocation.getArgument(0);
+            loadedBatches.add(List.copyOf(batch));
+            return List.of();
+        });
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,129 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationListenerTest {
+
+    private static final String THIS_NODE = "node-a";
+    private static final String OTHER_NODE = "node-b";
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    @Mock
+    private PartyCacheInvalidator partyCache;
+
+    @Mock
+    private ReferenceDataRegistry referenceData;
+
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("partyCacheInvalidator", partyCache);
+        beans.addBean("referenceDataRegistry", referenceData);
+        listener = new CacheInvalidationListener(publisher,
+                beans.getBeanProvider(PartyCacheInvalidator.class),
+                beans.getBeanProvider(ReferenceDataRegistry.class));
+    }
+
+    @Test
+    @DisplayName("Should evict the parties another node wrote")
+    void shouldEvictPartiesFromOtherNode() {
+        // Given
+        when(publisher.nodeId()).thenReturn(THIS_NODE);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        // When
+        listener.onNotification(OTHER_NODE + "|party|" + first + "," + second);
+
+        // Then
+        verify(partyCache).evictLocally(List.of(first, second));
+        verifyNoInteractions(referenceData);
+    }
+
+    @Test
+    @DisplayName("Should clear the party cache when another node invalidated every party")
+    void shouldEvictAllParties() {
+        // Given
+        when(publisher.nodeId()).thenReturn(THIS_NODE);
+
+        // When
+        listener.onNotification(OTHER_NODE + "|party|*");
+
+        // Then
+        verify(partyCache).evictAllLocally();
+        verify(partyCache, never()).evictLocally(any());
+    }
+
+    @Test
+    @DisplayName("Should reload reference data another node changed")
+    void shouldRefreshReferenceData() {
+        // Given
+        when(publisher.nodeId()).thenReturn(THIS_NODE);
+
+        // When
+        listener.onNotification(OTHER_NODE + "|reference-data|*");
+
+        // Then
+        verify(referenceData).refresh();
+        verifyNoInteractions(partyCache);
+    }
+
+    @Test
+    @DisplayName("Should skip invalidations this node sent itself")
+    void shouldSkipOwnNotifications() {
+        // Given
+        when(publisher.nodeId()).thenReturn(THIS_NODE);
+
+        // When
+        listener.onNotification(THIS_NODE + "|party|" + UUID.randomUUID());
+        listener.onNotification(THIS_NODE + "|reference-data|*");
+
+        // Then
+        verifyNoInteractions(partyCache, referenceData);
+    }
+
+    @Test
+    @DisplayName("Should drop every cached party and reload reference data after a reconnect")
+    void shouldResetCachesAfterReconnect() {
+        // When
+        listener.onReconnect();
+
+        // Then
+        verify(partyCache).evictAllLocally();
+        verify(referenceData).refresh();
+    }
+
+    @Test
+    @DisplayName("Should ignore malformed payloads and keys")
+    void shouldIgnoreMalformedPayloads() {
+        // Given
+        when(publisher.nodeId()).thenReturn(THIS_NODE);
+
+        // When
+        listener.onNotification("garbage");
+        listener.onNotification(OTHER_NODE + "|party|not-a-uuid");
+
+        // Then
+        verifyNoInteractions(partyCache, referenceData);
+    }
+}
@@ -0,0 +1,75 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationPublisherTest {
+
+    private static final String CHANNEL = "cache_invalidation";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CacheInvalidationPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new CacheInvalidationPublisher(jdbcTemplate, true, CHANNEL);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Should send the keys of a transaction together before it commits")
+    void shouldSendBeforeCommit() {
+        // Given
+        publisher.partyChanged(UUID.randomUUID());
+        publisher.partyChanged(UUID.randomUUID());
+        verifyNoInteractions(jdbcTemplate);
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false));
+
+        // Then - one notification, on the transaction's own connection
+        verify(jdbcTemplate).queryForObject(anyString(), eq(Integer.class), eq(CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("Should send keys written by the commit-time flush straight away")
+    void shouldSendKeysAfterBeforeCommit() {
+        // Given
+        publisher.partyChanged(UUID.randomUUID());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false));
+
+        // When
+        publisher.referenceDataChanged();
+
+        // Then
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Integer.class), eq(CHANNEL), anyString());
+    }
+}
@@ -0,0 +1,65 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationMessageTest {
+
+    @Test
+    @DisplayName("Should round-trip a message through its payload")
+    void shouldRoundTrip() {
+        // Given
+        InvalidationMessage message = new InvalidationMessage("node-1", "party",
+                List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+
+        // When
+        List<String> payloads = message.encode();
+
+        // Then
+        assertThat(payloads).hasSize(1);
+        assertThat(InvalidationMessage.parse(payloads.get(0))).contains(message);
+    }
+
+    @Test
+    @DisplayName("Should split many keys into payloads under the NOTIFY limit")
+    void shouldSplitLargeMessages() {
+        // Given
+        List<String> keys = IntStream.range(0, 1000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        // When
+        List<String> payloads = new InvalidationMessage("node-1", "party", keys).encode();
+
+        // Then
+        assertThat(payloads).hasSizeGreaterThan(1)
+                .allSatisfy(payload -> assertThat(payload.length()).isLessThanOrEqualTo(InvalidationMessage.MAX_PAYLOAD_LENGTH));
+        assertThat(payloads.stream()
+                .flatMap(payload -> InvalidationMessage.parse(payload).orElseThrow().keys().stream())
+                .toList()).isEqualTo(keys);
+    }
+
+    @Test
+    @DisplayName("Should collapse keys to the wildcard when every entry is invalidated")
+    void shouldCollapseToWildcard() {
+        // When
+        List<String> payloads = new InvalidationMessage("node-1", "party",
+                List.of(UUID.randomUUID().toString(), InvalidationMessage.ALL)).encode();
+
+        // Then
+        assertThat(payloads).containsExactly("node-1|party|*");
+        assertThat(InvalidationMessage.parse(payloads.get(0)).orElseThrow().isAll()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject payloads without node and topic")
+    void shouldRejectMalformedPayloads() {
+        assertThat(InvalidationMessage.parse(null)).isEmpty();
+        assertThat(InvalidationMessage.parse("party")).isEmpty();
+        assertThat(InvalidationMessage.parse("|party|x")).isEmpty();
+    }
+}
@@ -0,0 +1,153 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRole;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRoleType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyRepositoryImpl;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyRoleTypeRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyTypeRepository;
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs outside the usual rolled-back test transaction: the second-level cache is only populated and
+ * evicted around commits.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PartyRepositoryImpl.class, PartyCacheInvalidator.class, CacheInvalidationPublisher.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartyCacheTest {
+
+    @Autowired
+    private PartyRepositoryImpl partyRepository;
+
+    @Autowired
+    private PartyTypeRepository partyTypeRepository;
+
+    @Autowired
+    private PartyRoleTypeRepository partyRoleTypeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Cache cache;
+    private UUID partyId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        cache = sessionFactory.getCache();
+
+        partyId = transaction.execute(status -> {
+            PartyType personType = new PartyType();
+            personType.setDescription("PERSON");
+            PartyRoleType customer = new PartyRoleType();
+            customer.setDescription("CUSTOMER");
+
+            Person person = Person.builder()
+                    .firstName("Jane")
+                    .lastName("Roe")
+                    .build();
+            person.setPartyType("PERSON");
+            person.setPartyTypeRef(partyTypeRepository.save(personType));
+            person.addPartyRole(PartyRole.builder().roleType(partyRoleTypeRepository.save(customer)).build());
+            return partyRepository.save(person).getId();
+        });
+        cache.evictAllRegions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> partyRepository.deleteAll());
+        partyRoleTypeRepository.deleteAll();
+        partyTypeRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated read of a party and its roles from the second-level cache")
+    void shouldReadPartyThroughCache() {
+        // Given
+        loadPartyWithRoles();
+        statistics.clear();
+
+        // When
+        loadPartyWithRoles();
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict a saved party once the transaction commits")
+    void shouldEvictSavedPartyAfterCommit() {
+        // Given
+        loadPartyWithRoles();
+        assertThat(cache.containsEntity(Party.class, partyId)).isTrue();
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            Party party = partyRepository.findById(partyId).orElseThrow();
+            party.setComment("Preferred supplier");
+            partyRepository.save(party);
+            assertThat(cache.containsEntity(Party.class, partyId)).isTrue();
+        });
+
+        // Then
+        assertThat(cache.containsEntity(Party.class, partyId)).isFalse();
+        assertThat(cache.containsCollection(Party.class.getName() + ".roles", partyId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should evict a deleted party")
+    void shouldEvictDeletedParty() {
+        // Given
+        loadPartyWithRoles();
+
+        // When
+        transaction.executeWithoutResult(status -> partyRepository.deleteById(partyId));
+
+        // Then
+        assertThat(cache.containsEntity(Party.class, partyId)).isFalse();
+        assertThat(partyRepository.findById(partyId)).isEmpty();
+    }
+
+    private void loadPartyWithRoles() {
+        transaction.executeWithoutResult(status -> {
+            Party party = partyRepository.findById(partyId).orElseThrow();
+            Hibernate.initialize(party.getRoles());
+        });
+    }
+}
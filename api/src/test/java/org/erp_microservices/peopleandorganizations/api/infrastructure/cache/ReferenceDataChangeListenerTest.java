@@ -0,0 +1,71 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRoleType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataChangeListenerTest {
+
+    @Mock
+    private ReferenceDataRegistry referenceData;
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    private ReferenceDataChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("referenceDataRegistry", referenceData);
+        beans.addBean("cacheInvalidationPublisher", publisher);
+        listener = new ReferenceDataChangeListener(
+                beans.getBeanProvider(ReferenceDataRegistry.class),
+                beans.getBeanProvider(CacheInvalidationPublisher.class));
+    }
+
+    @Test
+    @DisplayName("Should invalidate the registry and notify other nodes when a type is written")
+    void shouldInvalidateOnTypeChange() {
+        // When
+        listener.onChange(new PartyRoleType(UUID.randomUUID(), "Employee", null));
+
+        // Then
+        verify(referenceData).invalidate();
+        verify(publisher).referenceDataChanged();
+    }
+
+    @Test
+    @DisplayName("Should cover relationship types as well as the party types")
+    void shouldInvalidateOnRelationshipTypeChange() {
+        // When
+        listener.onChange(PartyRelationshipType.builder().name("Employment").build());
+
+        // Then
+        verify(referenceData).invalidate();
+        verify(publisher).referenceDataChanged();
+    }
+
+    @Test
+    @DisplayName("Should ignore writes to entities that are not reference data")
+    void shouldIgnoreOtherEntities() {
+        // When
+        listener.onChange(Person.builder().lastName("Smith").build());
+
+        // Then
+        verifyNoInteractions(referenceData, publisher);
+    }
+}
@@ -0,0 +1,149 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.cache;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRoleType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.IdentificationTypeRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.NameTypeRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyClassificationTypeRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyRelationshipTypeJpaRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyRoleTypeRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+
+    @Mock
+    private PartyTypeRepository partyTypeRepository;
+
+    @Mock
+    private PartyRoleTypeRepository partyRoleTypeRepository;
+
+    @Mock
+    private NameTypeRepository nameTypeRepository;
+
+    @Mock
+    private IdentificationTypeRepository identificationTypeRepository;
+
+    @Mock
+    private PartyClassificationTypeRepository partyClassificationTypeRepository;
+
+    @Mock
+    private PartyRelationshipTypeJpaRepository partyRelationshipTypeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReferenceDataRegistry registry;
+    private PartyType personType;
+    private PartyRoleType employeeRole;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ReferenceDataRegistry(partyTypeRepository, partyRoleTypeRepository, nameTypeRepository,
+                identificationTypeRepository, partyClassificationTypeRepository, partyRelationshipTypeRepository,
+                transactionManager, Runnable::run);
+
+        personType = new PartyType(UUID.randomUUID(), "Person", null);
+        employeeRole = new PartyRoleType(UUID.randomUUID(), "Employee", null);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups by description and id from a single load")
+    void shouldServeLookupsFromSnapshot() {
+        // Given
+        when(partyTypeRepository.findAll()).thenReturn(List.of(personType));
+        when(partyRoleTypeRepository.findAll()).thenReturn(List.of(employeeRole));
+
+        // When
+        registry.partyTypes().find("Person");
+        registry.partyTypes().find(personType.getId());
+        registry.partyRoleTypes().find("Employee");
+
+        // Then
+        assertThat(registry.partyTypes().find("Person")).contains(personType);
+        assertThat(registry.partyTypes().find(personType.getId())).contains(personType);
+        assertThat(registry.partyRoleTypes().find("Employee")).contains(employeeRole);
+        verify(partyTypeRepository, times(1)).findAll();
+        verify(partyRoleTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown reference data")
+    void shouldReturnEmptyForUnknownKey() {
+        // Given
+        when(partyTypeRepository.findAll()).thenReturn(List.of(personType));
+
+        // When / Then
+        assertThat(registry.partyTypes().find("Unknown")).isEmpty();
+        assertThat(registry.partyTypes().find(UUID.randomUUID())).isEmpty();
+        assertThat(registry.nameTypes().all()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should pick up new rows when invalidated")
+    void shouldReloadWhenInvalidated() {
+        // Given
+        PartyType organizationType = new PartyType(UUID.randomUUID(), "Organization", null);
+        when(partyTypeRepository.findAll())
+                .thenReturn(List.of(personType))
+                .thenReturn(List.of(personType, organizationType));
+        assertThat(registry.partyTypes().find("Organization")).isEmpty();
+
+        // When
+        registry.invalidate();
+
+        // Then
+        assertThat(registry.partyTypes().find("Organization")).contains(organizationType);
+        verify(partyTypeRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should hand the reload after a commit to the task executor")
+    void shouldReloadOffTheCommittingThread() {
+        // Given
+        List<Runnable> tasks = new ArrayList<>();
+        registry = new ReferenceDataRegistry(partyTypeRepository, partyRoleTypeRepository, nameTypeRepository,
+                identificationTypeRepository, partyClassificationTypeRepository, partyRelationshipTypeRepository,
+                transactionManager, tasks::add);
+        when(partyTypeRepository.findAll()).thenReturn(List.of(personType));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            registry.invalidate();
+            registry.invalidate();
+
+            // When
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then - nothing was loaded on the committing thread, and one reload was queued
+        verifyNoInteractions(partyTypeRepository);
+        assertThat(tasks).hasSize(1);
+        tasks.forEach(Runnable::run);
+        assertThat(registry.partyTypes().find("Person")).contains(personType);
+        verify(partyTypeRepository, times(1)).findAll();
+    }
+}
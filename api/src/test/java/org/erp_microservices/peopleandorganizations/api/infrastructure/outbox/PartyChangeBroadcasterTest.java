@@ -0,0 +1,113 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartyChangeBroadcasterTest {
+
+    private static final int BUFFER = 4;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObjectMapper objectMapper;
+    private PartyChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        broadcaster = new PartyChangeBroadcaster(objectMapper, meterRegistry, "party_changes", BUFFER);
+    }
+
+    @Test
+    @DisplayName("Should deliver every change to every subscriber")
+    void shouldMulticastChanges() {
+        // Given
+        List<PartyChangeMessage> first = new CopyOnWriteArrayList<>();
+        List<PartyChangeMessage> second = new CopyOnWriteArrayList<>();
+        broadcaster.changes().subscribe(first::add);
+        broadcaster.changes().subscribe(second::add);
+
+        // When
+        broadcaster.broadcast(change(1));
+        broadcaster.broadcast(change(2));
+
+        // Then
+        assertThat(first).extracting(PartyChangeMessage::sequence).containsExactly(1L, 2L);
+        assertThat(second).extracting(PartyChangeMessage::sequence).containsExactly(1L, 2L);
+        assertThat(meterRegistry.get(PartyChangeBroadcaster.SUBSCRIBERS_METER).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest changes of a subscriber that stops requesting")
+    void shouldDropOldestForSlowSubscriber() {
+        // Given
+        SlowSubscriber slow = new SlowSubscriber();
+        List<PartyChangeMessage> fast = new CopyOnWriteArrayList<>();
+        broadcaster.changes().subscribe(slow);
+        broadcaster.changes().subscribe(fast::add);
+
+        // When
+        LongStream.rangeClosed(1, BUFFER + 2).forEach(sequence -> broadcaster.broadcast(change(sequence)));
+        slow.requestAll();
+
+        // Then
+        assertThat(fast).hasSize(BUFFER + 2);
+        assertThat(slow.received).extracting(PartyChangeMessage::sequence).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(meterRegistry.get(PartyChangeBroadcaster.DROPPED_METER).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should broadcast changes announced as JSON notifications and skip malformed ones")
+    void shouldBroadcastNotifications() throws Exception {
+        // Given
+        List<PartyChangeMessage> received = new CopyOnWriteArrayList<>();
+        broadcaster.changes().subscribe(received::add);
+        PartyChangeMessage change = change(7);
+
+        // When
+        broadcaster.onNotification("not json");
+        broadcaster.onNotification(objectMapper.writeValueAsString(change));
+
+        // Then
+        assertThat(received).containsExactly(change);
+    }
+
+    private static PartyChangeMessage change(long sequence) {
+        return new PartyChangeMessage(sequence, "PARTY", UUID.randomUUID(), "PARTY_UPDATED",
+                Map.of("partyType", "PERSON"), Instant.parse("2024-05-01T10:15:30Z"));
+    }
+
+    private static class SlowSubscriber extends BaseSubscriber<PartyChangeMessage> {
+
+        private final List<PartyChangeMessage> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            // request nothing until told to
+        }
+
+        @Override
+        protected void hookOnNext(PartyChangeMessage value) {
+            received.add(value);
+        }
+
+        void requestAll() {
+            request(Long.MAX_VALUE);
+        }
+    }
+}
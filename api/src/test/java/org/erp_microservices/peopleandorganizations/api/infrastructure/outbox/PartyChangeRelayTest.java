@@ -0,0 +1,129 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeEvent;
+import org.erp_microservices.peopleandorganizations.api.domain.model.outbox.PartyChangeType;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyChangeEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartyChangeRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private PartyChangeEventRepository eventRepository;
+
+    @Mock
+    private PartyChangeSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PartyChangeRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new PartyChangeRelay(eventRepository, sink, transactionManager, meterRegistry,
+                BATCH_SIZE, 10, Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("Should publish a claimed batch and mark exactly those events published")
+    void shouldPublishAndMarkBatch() {
+        // Given
+        List<PartyChangeEvent> batch = events(1, 2);
+        when(eventRepository.lockUnpublished(BATCH_SIZE)).thenReturn(batch, List.of());
+
+        // When
+        int published = relay.relayPending();
+
+        // Then
+        assertThat(published).isEqualTo(2);
+        verify(sink).publish(List.of(PartyChangeMessage.from(batch.get(0)), PartyChangeMessage.from(batch.get(1))));
+        verify(eventRepository).markPublished(eq(List.of(1L, 2L)), any(Instant.class));
+        assertThat(meterRegistry.counter(PartyChangeRelay.PUBLISHED_METER, "sink", sink.getClass().getSimpleName())
+                .count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep draining while batches come back full")
+    void shouldDrainBacklog() {
+        // Given
+        when(eventRepository.lockUnpublished(BATCH_SIZE)).thenReturn(events(1, 2), events(3, 4), events(5));
+
+        // When
+        int published = relay.relayPending();
+
+        // Then
+        assertThat(published).isEqualTo(5);
+        verify(sink, times(3)).publish(anyList());
+        verify(eventRepository, times(3)).lockUnpublished(BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should leave a batch unpublished when the sink rejects it")
+    void shouldNotMarkRejectedBatch() {
+        // Given
+        when(eventRepository.lockUnpublished(BATCH_SIZE)).thenReturn(events(1));
+        doThrow(new IllegalStateException("webhook down")).when(sink).publish(anyList());
+
+        // When / Then
+        assertThatThrownBy(() -> relay.relayPending()).isInstanceOf(IllegalStateException.class);
+        verify(eventRepository, never()).markPublished(anyList(), any(Instant.class));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when the outbox is empty")
+    void shouldSkipEmptyOutbox() {
+        // Given
+        when(eventRepository.lockUnpublished(BATCH_SIZE)).thenReturn(List.of());
+
+        // When
+        int published = relay.relayPending();
+
+        // Then
+        assertThat(published).isZero();
+        verify(sink, never()).publish(anyList());
+    }
+
+    private static List<PartyChangeEvent> events(long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> PartyChangeEvent.builder()
+                        .id(id)
+                        .aggregateType(PartyChangeEvent.PARTY)
+                        .aggregateId(UUID.randomUUID())
+                        .changeType(PartyChangeType.PARTY_UPDATED)
+                        .payload(Map.of("partyType", "PERSON"))
+                        .occurredAt(Instant.now())
+                        .build())
+                .toList();
+    }
+}
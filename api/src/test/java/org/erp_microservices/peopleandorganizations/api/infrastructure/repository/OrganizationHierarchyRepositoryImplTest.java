@@ -0,0 +1,206 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import org.erp_microservices.peopleandorganizations.api.TestcontainersConfiguration;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.OrganizationHierarchyNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the ltree path SQL against PostgreSQL with the extensions (V1.0.0) and the hierarchy path migration
+ * (V1.11.0) applied on top of the schema from the entity mappings. Organizations start out as roots, as
+ * the insert trigger makes them.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrganizationHierarchyRepositoryImpl.class, TestcontainersConfiguration.class})
+class OrganizationHierarchyRepositoryImplTest {
+
+    private static final String ROLLUP = "Organization Rollup";
+
+    private static final String[] HIERARCHY_MIGRATIONS = {
+            "db/migration/V1.0.0__Install_extensions.sql",
+            "db/migration/V1.11.0__Add_organization_hierarchy_path.sql"
+    };
+
+    private static final UUID HOLDING = organization("holding");
+    private static final UUID EUROPE = organization("europe");
+    private static final UUID FRANCE = organization("france");
+    private static final UUID PARIS = organization("paris");
+    private static final UUID AMERICAS = organization("americas");
+
+    @Autowired
+    private OrganizationHierarchyRepositoryImpl organizationHierarchyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        // The path functions are dollar-quoted; PostgreSQL splits the scripts itself
+        populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        for (String migration : HIERARCHY_MIGRATIONS) {
+            populator.addScript(new ClassPathResource(migration));
+        }
+        DatabasePopulatorUtils.execute(populator, dataSource);
+
+        jdbcTemplate.update("INSERT INTO party_type (id, description) "
+                + "VALUES (md5('party-type-organization')::uuid, 'Organization')");
+        jdbcTemplate.update("INSERT INTO party_relationship_type (id, name, from_role_type, to_role_type) "
+                + "VALUES (md5('relationship-type-rollup')::uuid, ?, 'PARENT_ORGANIZATION', 'SUBSIDIARY')", ROLLUP);
+
+        insertOrganization(HOLDING, "Holding");
+        insertOrganization(EUROPE, "Europe");
+        insertOrganization(FRANCE, "France");
+        insertOrganization(PARIS, "Paris");
+        insertOrganization(AMERICAS, "Americas");
+    }
+
+    @Test
+    @DisplayName("Should give a new organization a path of its own")
+    void shouldStartAsRoot() {
+        // When / Then
+        assertThat(organizationHierarchyRepository.findPath(FRANCE)).contains(List.of(FRANCE));
+        assertThat(organizationHierarchyRepository.findPath(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should attach an organization under its parent")
+    void shouldAttach() {
+        // When
+        organizationHierarchyRepository.attach(EUROPE, HOLDING);
+        organizationHierarchyRepository.attach(FRANCE, EUROPE);
+
+        // Then
+        assertThat(organizationHierarchyRepository.findPath(FRANCE)).contains(List.of(HOLDING, EUROPE, FRANCE));
+        assertThat(organizationHierarchyRepository.findSubtree(HOLDING, 10)).containsExactly(
+                new OrganizationHierarchyNode(EUROPE, HOLDING, 1),
+                new OrganizationHierarchyNode(FRANCE, EUROPE, 2));
+    }
+
+    @Test
+    @DisplayName("Should move a whole subtree when its top is attached elsewhere")
+    void shouldMoveSubtree() {
+        // Given
+        organizationHierarchyRepository.attach(EUROPE, HOLDING);
+        organizationHierarchyRepository.attach(FRANCE, EUROPE);
+        organizationHierarchyRepository.attach(PARIS, FRANCE);
+
+        // When
+        organizationHierarchyRepository.attach(FRANCE, AMERICAS);
+
+        // Then
+        assertThat(organizationHierarchyRepository.findPath(PARIS)).contains(List.of(AMERICAS, FRANCE, PARIS));
+        assertThat(organizationHierarchyRepository.findSubtree(AMERICAS, 10)).containsExactly(
+                new OrganizationHierarchyNode(FRANCE, AMERICAS, 1),
+                new OrganizationHierarchyNode(PARIS, FRANCE, 2));
+        assertThat(organizationHierarchyRepository.findSubtree(HOLDING, 10)).containsExactly(
+                new OrganizationHierarchyNode(EUROPE, HOLDING, 1));
+    }
+
+    @Test
+    @DisplayName("Should make a detached organization the top of its own subtree")
+    void shouldDetach() {
+        // Given
+        organizationHierarchyRepository.attach(EUROPE, HOLDING);
+        organizationHierarchyRepository.attach(FRANCE, EUROPE);
+        organizationHierarchyRepository.attach(PARIS, FRANCE);
+
+        // When
+        organizationHierarchyRepository.detach(FRANCE);
+        organizationHierarchyRepository.detach(HOLDING);
+
+        // Then - detaching a root changes nothing
+        assertThat(organizationHierarchyRepository.findPath(FRANCE)).contains(List.of(FRANCE));
+        assertThat(organizationHierarchyRepository.findPath(PARIS)).contains(List.of(FRANCE, PARIS));
+        assertThat(organizationHierarchyRepository.findPath(EUROPE)).contains(List.of(HOLDING, EUROPE));
+    }
+
+    @Test
+    @DisplayName("Should list a subtree no deeper than the maximum depth")
+    void shouldLimitSubtreeDepth() {
+        // Given
+        organizationHierarchyRepository.attach(EUROPE, HOLDING);
+        organizationHierarchyRepository.attach(FRANCE, EUROPE);
+
+        // When
+        List<OrganizationHierarchyNode> subtree = organizationHierarchyRepository.findSubtree(HOLDING, 1);
+
+        // Then
+        assertThat(subtree).containsExactly(new OrganizationHierarchyNode(EUROPE, HOLDING, 1));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the paths from the rollups active today")
+    void shouldRebuildFromActiveRollups() {
+        // Given - the paths are stale and the France/Paris rollup ended today
+        rollup(HOLDING, EUROPE, LocalDate.now().minusYears(1), null);
+        rollup(EUROPE, FRANCE, LocalDate.now().minusYears(1), null);
+        rollup(FRANCE, PARIS, LocalDate.now().minusYears(1), LocalDate.now());
+        organizationHierarchyRepository.attach(PARIS, FRANCE);
+
+        // When
+        int changed = organizationHierarchyRepository.rebuild(ROLLUP);
+
+        // Then
+        assertThat(changed).isEqualTo(3);
+        assertThat(organizationHierarchyRepository.findPath(FRANCE)).contains(List.of(HOLDING, EUROPE, FRANCE));
+        assertThat(organizationHierarchyRepository.findPath(PARIS)).contains(List.of(PARIS));
+        assertThat(organizationHierarchyRepository.rebuild(ROLLUP)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the earliest parent of an organization with two active rollups")
+    void shouldRebuildWithEarliestOfTwoParents() {
+        // Given
+        rollup(AMERICAS, FRANCE, LocalDate.now().minusYears(1), null);
+        rollup(HOLDING, FRANCE, LocalDate.now().minusYears(2), null);
+        rollup(FRANCE, PARIS, LocalDate.now().minusYears(2), null);
+
+        // When
+        int changed = organizationHierarchyRepository.rebuild(ROLLUP);
+
+        // Then
+        assertThat(changed).isEqualTo(2);
+        assertThat(organizationHierarchyRepository.findPath(PARIS)).contains(List.of(HOLDING, FRANCE, PARIS));
+        assertThat(organizationHierarchyRepository.findSubtree(AMERICAS, 10)).isEmpty();
+    }
+
+    private void insertOrganization(UUID id, String name) {
+        jdbcTemplate.update("INSERT INTO party (id, party_type_id, party_type) "
+                + "VALUES (?, md5('party-type-organization')::uuid, 'ORGANIZATION')", id);
+        jdbcTemplate.update("INSERT INTO organization (id, organization_name) VALUES (?, ?)", id, name);
+    }
+
+    private void rollup(UUID parentId, UUID childId, LocalDate fromDate, LocalDate thruDate) {
+        jdbcTemplate.update("INSERT INTO party_relationship (id, from_party_id, to_party_id, relationship_type_id, "
+                + "from_date, thru_date) VALUES (gen_random_uuid(), ?, ?, md5('relationship-type-rollup')::uuid, ?, ?)",
+                parentId, childId, fromDate, thruDate);
+    }
+
+    private static UUID organization(String name) {
+        return UUID.nameUUIDFromBytes(name.getBytes());
+    }
+}
@@ -0,0 +1,146 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.*;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.CacheInvalidationPublisher;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.PartyCacheInvalidator;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements Hibernate prepares when the party aggregate is written. With ordered,
+ * batched inserts every table touched by the aggregate costs one prepared statement, however many
+ * child rows it receives.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PartyRepositoryImpl.class, PartyCacheInvalidator.class, CacheInvalidationPublisher.class})
+class PartyAggregateBatchingTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PartyRepositoryImpl partyRepository;
+
+    private Statistics statistics;
+    private PartyType personType;
+    private PartyRoleType customerRoleType;
+    private PartyRoleType employeeRoleType;
+    private NameType legalNameType;
+    private IdentificationType passportType;
+    private PartyClassificationType industryType;
+
+    @BeforeEach
+    void setUp() {
+        personType = new PartyType();
+        personType.setDescription("PERSON");
+        personType = entityManager.persist(personType);
+
+        customerRoleType = new PartyRoleType();
+        customerRoleType.setDescription("CUSTOMER");
+        customerRoleType = entityManager.persist(customerRoleType);
+
+        employeeRoleType = new PartyRoleType();
+        employeeRoleType.setDescription("EMPLOYEE");
+        employeeRoleType = entityManager.persist(employeeRoleType);
+
+        legalNameType = new NameType();
+        legalNameType.setDescription("Legal");
+        legalNameType = entityManager.persist(legalNameType);
+
+        passportType = new IdentificationType();
+        passportType.setDescription("Passport");
+        passportType = entityManager.persist(passportType);
+
+        industryType = new PartyClassificationType();
+        industryType.setDescription("Industry");
+        industryType = entityManager.persist(industryType);
+
+        entityManager.flush();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should write a new person aggregate with one statement per table")
+    void shouldBatchInsertsOfNewAggregate() {
+        // Given
+        Person person = Person.builder()
+                .firstName("Jane")
+                .lastName("Roe")
+                .birthDate(LocalDate.of(1985, 3, 2))
+                .build();
+        person.setPartyType("PERSON");
+        person.setPartyTypeRef(personType);
+
+        person.addPartyRole(PartyRole.builder().roleType(customerRoleType).build());
+        person.addPartyRole(PartyRole.builder().roleType(employeeRoleType).build());
+        person.getNames().add(PartyName.builder().party(person).name("Jane Roe").nameType(legalNameType).build());
+        person.getNames().add(PartyName.builder().party(person).name("J. Roe").nameType(legalNameType).build());
+        person.addPartyIdentification(PartyIdentification.builder()
+                .identifier("P-100").identificationType(passportType).build());
+        person.addPartyIdentification(PartyIdentification.builder()
+                .identifier("P-200").identificationType(passportType).build());
+        person.addPartyClassification(PartyClassification.builder()
+                .value("Retail").classificationType(industryType).build());
+        person.addPartyClassification(PartyClassification.builder()
+                .value("Wholesale").classificationType(industryType).build());
+
+        statistics.clear();
+
+        // When
+        partyRepository.save(person);
+        entityManager.flush();
+
+        // Then - party, person, party_role, party_name, party_id and party_classification
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(9);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should add children to a loaded party without merging or per-row statements")
+    void shouldBatchInsertsOfChildrenAddedToManagedParty() {
+        // Given
+        Person person = Person.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .build();
+        person.setPartyType("PERSON");
+        person.setPartyTypeRef(personType);
+        entityManager.persistAndFlush(person);
+        entityManager.clear();
+
+        Party loaded = entityManager.find(Party.class, person.getId());
+        Hibernate.initialize(loaded.getRoles());
+        PartyRoleType customer = entityManager.find(PartyRoleType.class, customerRoleType.getId());
+        PartyRoleType employee = entityManager.find(PartyRoleType.class, employeeRoleType.getId());
+        statistics.clear();
+
+        // When
+        loaded.addPartyRole(PartyRole.builder().roleType(customer).build());
+        loaded.addPartyRole(PartyRole.builder().roleType(employee).build());
+        partyRepository.save(loaded);
+        entityManager.flush();
+
+        // Then
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
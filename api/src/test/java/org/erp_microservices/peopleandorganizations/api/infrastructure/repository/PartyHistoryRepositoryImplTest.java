@@ -0,0 +1,204 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.ActivePartyRole;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.CurrentPartyName;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.IdentificationType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.NameType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyClassification;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyClassificationType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyIdentification;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyName;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRole;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRoleType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PartyHistoryRepositoryImpl.class)
+class PartyHistoryRepositoryImplTest {
+
+    private static final LocalDate JAN_2020 = LocalDate.of(2020, 1, 1);
+    private static final LocalDate JAN_2021 = LocalDate.of(2021, 1, 1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PartyHistoryRepositoryImpl partyHistoryRepository;
+
+    private PartyType personType;
+    private PartyRoleType customerRoleType;
+    private PartyRoleType supplierRoleType;
+    private NameType legalNameType;
+    private IdentificationType passportType;
+    private PartyClassificationType industryType;
+    private Person jane;
+    private Person john;
+
+    @BeforeEach
+    void setUp() {
+        personType = new PartyType();
+        personType.setDescription("PERSON");
+        personType = entityManager.persist(personType);
+
+        customerRoleType = new PartyRoleType();
+        customerRoleType.setDescription("CUSTOMER");
+        customerRoleType = entityManager.persist(customerRoleType);
+
+        supplierRoleType = new PartyRoleType();
+        supplierRoleType.setDescription("SUPPLIER");
+        supplierRoleType = entityManager.persist(supplierRoleType);
+
+        legalNameType = new NameType();
+        legalNameType.setDescription("Legal");
+        legalNameType = entityManager.persist(legalNameType);
+
+        passportType = new IdentificationType();
+        passportType.setDescription("Passport");
+        passportType = entityManager.persist(passportType);
+
+        industryType = new PartyClassificationType();
+        industryType.setDescription("Industry");
+        industryType = entityManager.persist(industryType);
+
+        // Jane was a customer during 2020 and has been a supplier since; she changed her name at the turn of the year
+        jane = person("Roe");
+        jane.addPartyRole(PartyRole.builder().roleType(customerRoleType).fromDate(JAN_2020).thruDate(JAN_2021).build());
+        jane.addPartyRole(PartyRole.builder().roleType(supplierRoleType).fromDate(JAN_2021).build());
+        jane.getNames().add(PartyName.builder().party(jane).name("Jane Doe").nameType(legalNameType)
+                .fromDate(JAN_2020).thruDate(LocalDate.of(2020, 12, 31)).build());
+        jane.getNames().add(PartyName.builder().party(jane).name("Jane Roe").nameType(legalNameType)
+                .fromDate(JAN_2021).build());
+        jane.addPartyIdentification(PartyIdentification.builder().identifier("P-100")
+                .identificationType(passportType).fromDate(JAN_2020).thruDate(JAN_2021).build());
+        jane.addPartyClassification(PartyClassification.builder().value("Retail")
+                .classificationType(industryType).fromDate(JAN_2020).build());
+
+        john = person("Doe");
+        john.addPartyRole(PartyRole.builder().roleType(customerRoleType).fromDate(JAN_2020).build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should read only the roles in effect on the date, ending the day before the thru date")
+    void shouldFindRolesAsOf() {
+        // When
+        List<PartyRole> in2020 = partyHistoryRepository.findRolesAsOf(Set.of(jane.getId()), LocalDate.of(2020, 6, 1));
+        List<PartyRole> onThruDate = partyHistoryRepository.findRolesAsOf(Set.of(jane.getId()), JAN_2021);
+        List<PartyRole> before = partyHistoryRepository.findRolesAsOf(Set.of(jane.getId()), LocalDate.of(2019, 12, 31));
+
+        // Then
+        assertThat(in2020).extracting(role -> role.getRoleType().getDescription()).containsExactly("CUSTOMER");
+        assertThat(onThruDate).extracting(role -> role.getRoleType().getDescription()).containsExactly("SUPPLIER");
+        assertThat(before).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep names, identifications and classifications in effect on their thru date")
+    void shouldFindNamesIdentificationsAndClassificationsAsOf() {
+        // When
+        LocalDate lastDayOf2020 = LocalDate.of(2020, 12, 31);
+        List<PartyName> namesOnLastDay = partyHistoryRepository.findNamesAsOf(Set.of(jane.getId()), lastDayOf2020);
+        List<PartyName> namesAfter = partyHistoryRepository.findNamesAsOf(Set.of(jane.getId()), JAN_2021);
+        List<PartyIdentification> identifications =
+                partyHistoryRepository.findIdentificationsAsOf(Set.of(jane.getId()), JAN_2021);
+        List<PartyClassification> classifications =
+                partyHistoryRepository.findClassificationsAsOf(Set.of(jane.getId()), LocalDate.of(2030, 1, 1));
+
+        // Then
+        assertThat(namesOnLastDay).extracting(PartyName::getName).containsExactly("Jane Doe");
+        assertThat(namesAfter).extracting(PartyName::getName).containsExactly("Jane Roe");
+        assertThat(identifications).extracting(PartyIdentification::getIdentifier).containsExactly("P-100");
+        assertThat(classifications).extracting(PartyClassification::getValue).containsExactly("Retail");
+    }
+
+    @Test
+    @DisplayName("Should read a batch of parties in one query with the type references already loaded")
+    void shouldFindRolesOfSeveralParties() {
+        // When
+        List<PartyRole> roles = partyHistoryRepository.findRolesAsOf(Set.of(jane.getId(), john.getId()),
+                LocalDate.of(2020, 6, 1));
+
+        // Then
+        assertThat(roles).hasSize(2)
+                .allSatisfy(role -> assertThat(Hibernate.isInitialized(role.getRoleType())).isTrue());
+        assertThat(roles).extracting(role -> role.getParty().getId())
+                .containsExactlyInAnyOrder(jane.getId(), john.getId());
+        assertThat(partyHistoryRepository.findRolesAsOf(Set.of(), JAN_2021)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should check a role on a date without loading the party's roles")
+    void shouldCheckRoleAsOf() {
+        // When / Then
+        assertThat(partyHistoryRepository.hasRole(jane.getId(), customerRoleType.getId(), LocalDate.of(2020, 6, 1)))
+                .isTrue();
+        assertThat(partyHistoryRepository.hasRole(jane.getId(), customerRoleType.getId(), JAN_2021)).isFalse();
+        assertThat(partyHistoryRepository.hasRole(jane.getId(), supplierRoleType.getId(), JAN_2021)).isTrue();
+        assertThat(partyHistoryRepository.hasRole(john.getId(), supplierRoleType.getId(), JAN_2021)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should project the active roles and the current name of a party")
+    void shouldProjectActiveRolesAndCurrentName() {
+        // When
+        List<ActivePartyRole> roles = partyHistoryRepository.findActiveRoles(jane.getId(), LocalDate.of(2021, 6, 1));
+        Optional<CurrentPartyName> name = partyHistoryRepository.findCurrentName(jane.getId(), legalNameType.getId(),
+                LocalDate.of(2021, 6, 1));
+        Optional<CurrentPartyName> before = partyHistoryRepository.findCurrentName(jane.getId(), legalNameType.getId(),
+                LocalDate.of(2019, 6, 1));
+
+        // Then
+        assertThat(roles).extracting(ActivePartyRole::roleType).containsExactly("SUPPLIER");
+        assertThat(roles.get(0).roleTypeId()).isEqualTo(supplierRoleType.getId());
+        assertThat(name).map(CurrentPartyName::name).contains("Jane Roe");
+        assertThat(before).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should end only the roles of the type in effect on the date")
+    void shouldExpireRoles() {
+        // Given
+        LocalDate today = LocalDate.of(2022, 3, 1);
+
+        // When
+        int expired = partyHistoryRepository.expireRoles(jane.getId(), supplierRoleType.getId(), today);
+        int expiredAgain = partyHistoryRepository.expireRoles(jane.getId(), supplierRoleType.getId(), today);
+        entityManager.clear();
+
+        // Then
+        assertThat(expired).isEqualTo(1);
+        assertThat(expiredAgain).isZero();
+        assertThat(partyHistoryRepository.hasRole(jane.getId(), supplierRoleType.getId(), today)).isFalse();
+        assertThat(partyHistoryRepository.hasRole(jane.getId(), supplierRoleType.getId(), today.minusDays(1))).isTrue();
+        assertThat(partyHistoryRepository.hasRole(john.getId(), customerRoleType.getId(), today)).isTrue();
+    }
+
+    private Person person(String lastName) {
+        Person person = Person.builder().lastName(lastName).build();
+        person.setPartyType("PERSON");
+        person.setPartyTypeRef(personType);
+        return entityManager.persist(person);
+    }
+}
@@ -0,0 +1,278 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.erp_microservices.peopleandorganizations.api.TestcontainersConfiguration;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL Hibernate generates for each PartyJpaRepository finder, against a seeded
+ * PostgreSQL, and fails when a plan reads a large table with a sequential scan. The schema comes from
+ * the entity mappings as in the other repository tests, with the index migrations applied on top, so a
+ * finder that loses its index support fails here rather than in production.
+ *
+ * <p>The plans are built for the actual parameter values, as they are when the finder runs. Finders that
+ * read most of a party type by design (findByPartyType, countByPartyType) are not checked.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.erp_microservices.peopleandorganizations.api.infrastructure.repository."
+        + "PartyJpaRepositoryQueryPlanTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+class PartyJpaRepositoryQueryPlanTest {
+
+    private static final long SEQUENTIAL_SCAN_ROW_LIMIT = 5_000;
+    private static final int PERSONS = 40_000;
+    private static final int PARTIES = 50_000;
+    private static final LocalDate AS_OF = LocalDate.of(2024, 1, 1);
+
+    private static final String[] INDEX_MIGRATIONS = {
+            "db/migration/V1.5.0__Add_party_type_keyset_index.sql",
+            "db/migration/V1.6.0__Add_party_name_trigram_indexes.sql",
+            "db/migration/V1.12.0__Add_party_effective_date_indexes.sql",
+            "db/migration/V1.13.0__Add_open_party_role_and_name_indexes.sql",
+            "db/migration/V1.14.0__Add_party_finder_indexes.sql"
+    };
+
+    // Parties 1..40000 are people and the rest organizations. Every party has an open role, a role that
+    // ended in 2014, a current and a former name, one identification and one classification, spread over
+    // enough types and values that each finder matches a few dozen parties at most.
+    private static final String[] SEED = {
+            """
+            INSERT INTO party_type (id, description)
+            VALUES (md5('party-type-PERSON')::uuid, 'PERSON'),
+                   (md5('party-type-ORGANIZATION')::uuid, 'ORGANIZATION')
+            """,
+            """
+            INSERT INTO party_role_type (id, description)
+            SELECT md5('role-type-' || n)::uuid, 'ROLE_' || n FROM generate_series(0, 999) n
+            """,
+            "INSERT INTO name_type (id, description) VALUES (md5('name-type-legal')::uuid, 'Legal')",
+            """
+            INSERT INTO id_type (id, description)
+            SELECT md5('id-type-' || n)::uuid, 'ID_TYPE_' || n FROM generate_series(0, 9) n
+            """,
+            """
+            INSERT INTO party_classification_type (id, description)
+            SELECT md5('classification-type-' || n)::uuid, 'CLASS_' || n FROM generate_series(0, 99) n
+            """,
+            """
+            INSERT INTO party (id, party_type_id, party_type)
+            SELECT md5('party-' || i)::uuid,
+                   md5('party-type-' || CASE WHEN i <= :persons THEN 'PERSON' ELSE 'ORGANIZATION' END)::uuid,
+                   CASE WHEN i <= :persons THEN 'PERSON' ELSE 'ORGANIZATION' END
+              FROM generate_series(1, :parties) i
+            """,
+            """
+            INSERT INTO person (id, first_name, last_name)
+            SELECT md5('party-' || i)::uuid, 'Given' || (i % 500), 'Surname' || (i % 10000)
+              FROM generate_series(1, :persons) i
+            """,
+            """
+            INSERT INTO organization (id, organization_name)
+            SELECT md5('party-' || i)::uuid, 'Company ' || i
+              FROM generate_series(:persons + 1, :parties) i
+            """,
+            """
+            INSERT INTO party_role (id, party_id, party_role_type_id, from_date, thru_date)
+            SELECT gen_random_uuid(), md5('party-' || i)::uuid, md5('role-type-' || (i % 1000))::uuid,
+                   DATE '2015-01-01', NULL
+              FROM generate_series(1, :parties) i
+            UNION ALL
+            SELECT gen_random_uuid(), md5('party-' || i)::uuid, md5('role-type-' || ((i * 7 + 3) % 1000))::uuid,
+                   DATE '2010-01-01', DATE '2014-12-31'
+              FROM generate_series(1, :parties) i
+            """,
+            """
+            INSERT INTO party_name (id, party_id, name_type_id, name, from_date, thru_date)
+            SELECT gen_random_uuid(), md5('party-' || i)::uuid, md5('name-type-legal')::uuid,
+                   'Name ' || i, DATE '2015-01-01', NULL
+              FROM generate_series(1, :parties) i
+            UNION ALL
+            SELECT gen_random_uuid(), md5('party-' || i)::uuid, md5('name-type-legal')::uuid,
+                   'Former ' || i, DATE '2010-01-01', DATE '2014-12-31'
+              FROM generate_series(1, :parties) i
+            """,
+            """
+            INSERT INTO party_id (id, party_id, id_type_id, ident, from_date, thru_date)
+            SELECT gen_random_uuid(), md5('party-' || i)::uuid, md5('id-type-' || (i % 10))::uuid,
+                   'ID-' || i, DATE '2015-01-01', NULL
+              FROM generate_series(1, :parties) i
+            """,
+            """
+            INSERT INTO party_classification (id, party_id, party_classification_type_id, value, from_date, thru_date)
+            SELECT gen_random_uuid(), md5('party-' || i)::uuid, md5('classification-type-' || (i % 100))::uuid,
+                   'V' || (i / 100 % 50), DATE '2015-01-01', NULL
+              FROM generate_series(1, :parties) i
+            """,
+            "ANALYZE party_type, party_role_type, name_type, id_type, party_classification_type",
+            "ANALYZE party, person, organization, party_role, party_name, party_id, party_classification"
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired
+    private PartyJpaRepository partyJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        for (String migration : INDEX_MIGRATIONS) {
+            populator.addScript(new ClassPathResource(migration));
+        }
+        DatabasePopulatorUtils.execute(populator, dataSource);
+
+        for (String statement : SEED) {
+            jdbcTemplate.execute(statement
+                    .replace(":persons", String.valueOf(PERSONS))
+                    .replace(":parties", String.valueOf(PARTIES)));
+        }
+    }
+
+    @Test
+    @DisplayName("findByActiveRole should find the role holders through an index")
+    void findByActiveRole() {
+        assertIndexedPlan(() -> partyJpaRepository.findByActiveRole("ROLE_42", AS_OF),
+                "ROLE_42", AS_OF, AS_OF);
+    }
+
+    @Test
+    @DisplayName("findByNameContaining should find the names through the trigram index")
+    void findByNameContaining() {
+        assertIndexedPlan(() -> partyJpaRepository.findByNameContaining("Name 4242", AS_OF),
+                "Name 4242", AS_OF, AS_OF);
+    }
+
+    @Test
+    @DisplayName("findPersonsByLastName should use the lower-cased last name index")
+    void findPersonsByLastName() {
+        assertIndexedPlan(() -> partyJpaRepository.findPersonsByLastName("SURNAME42"),
+                "SURNAME42");
+    }
+
+    @Test
+    @DisplayName("findOrganizationsByName should find the organizations through the trigram index")
+    void findOrganizationsByName() {
+        assertIndexedPlan(() -> partyJpaRepository.findOrganizationsByName("Company 4242"),
+                "Company 4242");
+    }
+
+    @Test
+    @DisplayName("findByIdentification should look the identifier up through an index")
+    void findByIdentification() {
+        assertIndexedPlan(() -> partyJpaRepository.findByIdentification("ID-4242", "ID_TYPE_2", AS_OF),
+                "ID-4242", "ID_TYPE_2", AS_OF, AS_OF);
+    }
+
+    @Test
+    @DisplayName("findByClassification should look the classification value up through an index")
+    void findByClassification() {
+        assertIndexedPlan(() -> partyJpaRepository.findByClassification("CLASS_42", "V7", AS_OF),
+                "CLASS_42", "V7", AS_OF, AS_OF);
+    }
+
+    @Test
+    @DisplayName("findByPartyTypeAfter should seek to the cursor through the keyset index")
+    void findByPartyTypeAfter() {
+        UUID after = UUID.nameUUIDFromBytes("cursor".getBytes());
+        assertIndexedPlan(() -> partyJpaRepository.findByPartyTypeAfter("PERSON", after, PageRequest.ofSize(20)),
+                "PERSON", after, 20);
+    }
+
+    /**
+     * Runs the finder to capture its SQL, checks that it found something, then explains the same SQL with
+     * the same values bound, in the order the placeholders appear in the statement.
+     */
+    private void assertIndexedPlan(Supplier<?> finder, Object... parameters) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        Object result = finder.get();
+        if (result instanceof Optional<?> optional) {
+            assertThat(optional).isPresent();
+        } else {
+            assertThat((Collection<?>) result).isNotEmpty();
+        }
+
+        String sql = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(statement -> statement.stripLeading().toLowerCase().startsWith("select"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("The finder did not run a query"));
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("Placeholders in %s", sql)
+                .isEqualTo(parameters.length);
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, parameters);
+
+        List<String> sequentialScans = new ArrayList<>();
+        collectLargeSequentialScans(readPlan(plan), sequentialScans);
+        assertThat(sequentialScans)
+                .as("Sequential scans over more than %d rows in the plan of%n%s%n%s", SEQUENTIAL_SCAN_ROW_LIMIT, sql, plan)
+                .isEmpty();
+    }
+
+    private void collectLargeSequentialScans(JsonNode node, List<String> sequentialScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            String relation = node.path("Relation Name").asText();
+            Long rows = jdbcTemplate.queryForObject("SELECT count(*) FROM \"" + relation + "\"", Long.class);
+            if (rows != null && rows > SEQUENTIAL_SCAN_ROW_LIMIT) {
+                sequentialScans.add(relation + " (" + rows + " rows)");
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectLargeSequentialScans(child, sequentialScans);
+        }
+    }
+
+    private static JsonNode readPlan(String plan) {
+        try {
+            return OBJECT_MAPPER.readTree(plan).get(0).get("Plan");
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan: " + plan, e);
+        }
+    }
+
+    /**
+     * Records the SQL Hibernate prepares, so the test explains exactly what the finder runs.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
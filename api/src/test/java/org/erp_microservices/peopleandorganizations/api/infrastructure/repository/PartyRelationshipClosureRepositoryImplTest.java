@@ -0,0 +1,270 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipClosure;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PartyRelationshipClosureRepositoryImpl.class)
+class PartyRelationshipClosureRepositoryImplTest {
+
+    private static final Set<String> HIERARCHIES = Set.of("PARENT_OF");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PartyRelationshipClosureRepositoryImpl closureRepository;
+
+    private PartyType personType;
+    private PartyRelationshipType parentOf;
+    private Person group;
+    private Person division;
+    private Person department;
+    private Person team;
+
+    @BeforeEach
+    void setUp() {
+        personType = new PartyType();
+        personType.setDescription("PERSON");
+        personType = entityManager.persist(personType);
+
+        parentOf = entityManager.persist(PartyRelationshipType.builder()
+                .name("PARENT_OF")
+                .fromRoleType("PARENT")
+                .toRoleType("SUBSIDIARY")
+                .build());
+
+        group = person("Group");
+        division = person("Division");
+        department = person("Department");
+        team = person("Team");
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should connect every ancestor to every descendant when a relationship is added")
+    void shouldAddTransitivePairs() {
+        // Given - group -> division and department -> team already exist
+        closureRepository.addRelationship(group.getId(), division.getId(), parentOf.getId());
+        closureRepository.addRelationship(department.getId(), team.getId(), parentOf.getId());
+
+        // When - division -> department joins the two chains
+        closureRepository.addRelationship(division.getId(), department.getId(), parentOf.getId());
+
+        // Then
+        assertThat(depths(group.getId())).containsOnly(
+                entry(division.getId(), 1), entry(department.getId(), 2), entry(team.getId(), 3));
+        assertThat(closureRepository.isDescendant(group.getId(), team.getId(), parentOf.getId())).isTrue();
+        assertThat(closureRepository.isDescendant(team.getId(), group.getId(), null)).isFalse();
+        assertThat(closureRepository.findAncestors(team.getId(), null))
+                .extracting(PartyRelationshipClosure::getAncestorPartyId)
+                .containsExactly(department.getId(), division.getId(), group.getId());
+    }
+
+    @Test
+    @DisplayName("Should disconnect only the pairs that depended on a removed relationship")
+    void shouldRemoveDependentPairs() {
+        // Given
+        relate(group, division);
+        UUID divisionDepartment = relate(division, department);
+        relate(department, team);
+        closureRepository.rebuild(HIERARCHIES);
+
+        // When
+        int removed = closureRepository.removeRelationship(
+                divisionDepartment, division.getId(), department.getId(), parentOf.getId());
+
+        // Then - group/division and department/team stay connected
+        assertThat(removed).isEqualTo(4);
+        assertThat(depths(group.getId())).containsOnly(entry(division.getId(), 1));
+        assertThat(depths(department.getId())).containsOnly(entry(team.getId(), 1));
+    }
+
+    @Test
+    @DisplayName("Should keep a pair that is still reachable along another path, at its new depth")
+    void shouldKeepPairsReachableAnotherWay() {
+        // Given - group reaches team directly and through division
+        relate(group, division);
+        relate(division, team);
+        UUID groupTeam = relate(group, team);
+        closureRepository.rebuild(HIERARCHIES);
+        assertThat(depths(group.getId())).containsEntry(team.getId(), 1);
+
+        // When
+        int removed = closureRepository.removeRelationship(groupTeam, group.getId(), team.getId(), parentOf.getId());
+        entityManager.clear();
+
+        // Then
+        assertThat(removed).isZero();
+        assertThat(depths(group.getId())).containsOnly(entry(division.getId(), 1), entry(team.getId(), 2));
+    }
+
+    @Test
+    @DisplayName("Should keep a pair reachable through a party that is neither an ancestor nor a descendant")
+    void shouldKeepPairsReachableThroughSiblings() {
+        // Given - group reaches team through division and through department
+        relate(group, division);
+        relate(group, department);
+        UUID divisionTeam = relate(division, team);
+        relate(department, team);
+        closureRepository.rebuild(HIERARCHIES);
+
+        // When
+        int removed = closureRepository.removeRelationship(
+                divisionTeam, division.getId(), team.getId(), parentOf.getId());
+        entityManager.clear();
+
+        // Then
+        assertThat(removed).isEqualTo(1);
+        assertThat(depths(division.getId())).isEmpty();
+        assertThat(depths(group.getId())).containsOnly(
+                entry(division.getId(), 1), entry(department.getId(), 1), entry(team.getId(), 2));
+    }
+
+    @Test
+    @DisplayName("Should not lock the hierarchy for a relationship that is not in it")
+    void shouldSkipRelationshipsOutsideTheClosure() {
+        // Given - never added to the closure
+        UUID groupDivision = relate(group, division);
+
+        // When
+        int removed = closureRepository.removeRelationship(
+                groupDivision, group.getId(), division.getId(), parentOf.getId());
+
+        // Then
+        assertThat(removed).isZero();
+        assertThat(advisoryLocksHeld()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should lock only the hierarchy being changed, not the closure table")
+    void shouldLockHierarchyOnly() {
+        // Given
+        relate(group, division);
+
+        // When
+        closureRepository.addRelationship(group.getId(), division.getId(), parentOf.getId());
+
+        // Then
+        assertThat(advisoryLocksHeld()).isEqualTo(1);
+        assertThat(((Number) entityManager.getEntityManager().createNativeQuery("""
+                SELECT count(*) FROM pg_locks
+                 WHERE relation = 'party_relationship_closure'::regclass
+                   AND mode IN ('ShareRowExclusiveLock', 'ExclusiveLock', 'AccessExclusiveLock')
+                   AND pid = pg_backend_pid()
+                """).getSingleResult()).intValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should rebuild only the hierarchy relationship types")
+    void shouldRebuildHierarchyTypesOnly() {
+        // Given
+        PartyRelationshipType employs = entityManager.persist(PartyRelationshipType.builder()
+                .name("EMPLOYS")
+                .fromRoleType("EMPLOYER")
+                .toRoleType("EMPLOYEE")
+                .build());
+        relate(group, division);
+        entityManager.persistAndFlush(PartyRelationship.builder()
+                .fromParty(division)
+                .toParty(team)
+                .relationshipType(employs)
+                .fromDate(LocalDate.now().minusYears(1))
+                .build());
+
+        // When
+        int rows = closureRepository.rebuild(HIERARCHIES);
+
+        // Then
+        assertThat(rows).isEqualTo(1);
+        assertThat(closureRepository.findDescendants(division.getId(), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rebuild layered diamonds at the shortest depth of every pair")
+    void shouldRebuildLayeredDiamonds() {
+        // Given - group reaches each of two parties per layer, each of which reaches both parties of the next
+        // layer, so there are 2^layers paths to the bottom
+        int layers = 12;
+        List<List<Person>> levels = new ArrayList<>();
+        levels.add(List.of(group));
+        for (int layer = 1; layer <= layers; layer++) {
+            List<Person> level = List.of(person("Left " + layer), person("Right " + layer));
+            for (Person above : levels.get(layer - 1)) {
+                for (Person below : level) {
+                    relate(above, below);
+                }
+            }
+            levels.add(level);
+        }
+
+        // When
+        int rows = closureRepository.rebuild(HIERARCHIES);
+
+        // Then - every party reaches the two parties of every layer below it
+        int expected = 0;
+        for (int layer = 0; layer < layers; layer++) {
+            expected += levels.get(layer).size() * 2 * (layers - layer);
+        }
+        assertThat(rows).isEqualTo(expected);
+        Map<UUID, Integer> fromGroup = depths(group.getId());
+        assertThat(fromGroup).hasSize(2 * layers);
+        for (int layer = 1; layer <= layers; layer++) {
+            for (Person party : levels.get(layer)) {
+                assertThat(fromGroup).containsEntry(party.getId(), layer);
+            }
+        }
+    }
+
+    private int advisoryLocksHeld() {
+        return ((Number) entityManager.getEntityManager().createNativeQuery(
+                "SELECT count(*) FROM pg_locks WHERE locktype = 'advisory' AND pid = pg_backend_pid()")
+                .getSingleResult()).intValue();
+    }
+
+    private Map<UUID, Integer> depths(UUID ancestorPartyId) {
+        return closureRepository.findDescendants(ancestorPartyId, parentOf.getId()).stream()
+                .collect(Collectors.toMap(PartyRelationshipClosure::getDescendantPartyId, PartyRelationshipClosure::getDepth));
+    }
+
+    private Person person(String lastName) {
+        Person person = Person.builder().lastName(lastName).build();
+        person.setPartyType("PERSON");
+        person.setPartyTypeRef(personType);
+        return entityManager.persist(person);
+    }
+
+    private UUID relate(Person from, Person to) {
+        return entityManager.persistAndFlush(PartyRelationship.builder()
+                .fromParty(from)
+                .toParty(to)
+                .relationshipType(parentOf)
+                .fromDate(LocalDate.now().minusYears(1))
+                .build()).getId();
+    }
+}
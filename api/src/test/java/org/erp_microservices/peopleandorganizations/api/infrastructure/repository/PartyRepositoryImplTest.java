@@ -1,6 +1,8 @@
 package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
 
+import jakarta.persistence.EntityManager;
 import org.erp_microservices.peopleandorganizations.api.domain.model.party.*;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.cache.PartyCacheInvalidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,12 @@ class PartyRepositoryImplTest {
     @Mock
     private PartyJpaRepository partyJpaRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PartyCacheInvalidator cacheInvalidator;
+
     @InjectMocks
     private PartyRepositoryImpl partyRepository;
 
@@ -64,6 +72,21 @@ class PartyRepositoryImplTest {
         verify(partyJpaRepository).save(testPerson);
     }
 
+    @Test
+    @DisplayName("Should not merge a party that is already managed")
+    void shouldNotMergeManagedParty() {
+        // Given
+        when(entityManager.contains(testPerson)).thenReturn(true);
+
+        // When
+        Party savedParty = partyRepository.save(testPerson);
+
+        // Then
+        assertThat(savedParty).isSameAs(testPerson);
+        verify(partyJpaRepository, never()).save(any(Party.class));
+        verify(cacheInvalidator).evict(personId);
+    }
+
     @Test
     @DisplayName("Should find party by ID")
     void shouldFindPartyById() {
@@ -246,6 +269,7 @@ class PartyRepositoryImplTest {
 
         // Then
         verify(partyJpaRepository).deleteById(personId);
+        verify(cacheInvalidator).evict(personId);
     }
 
     @Test
@@ -338,5 +362,6 @@ class PartyRepositoryImplTest {
 
         // Then
         verify(partyJpaRepository).deleteAll();
+        verify(cacheInvalidator).evictAll();
     }
 }
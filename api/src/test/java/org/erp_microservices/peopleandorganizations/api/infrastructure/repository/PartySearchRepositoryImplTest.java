@@ -0,0 +1,280 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.erp_microservices.peopleandorganizations.api.TestcontainersConfiguration;
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartySearchHit;
+import org.erp_microservices.peopleandorganizations.api.domain.model.search.PartyTextSearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the native search SQL against PostgreSQL with the trigram (V1.6.0) and full-text (V1.7.0)
+ * migrations, and the dated refresh (V1.15.0), applied on top of the schema from the entity mappings.
+ * Enough filler parties are seeded that the planner only picks the GIN indexes because they are
+ * selective, as it would in production.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PartySearchRepositoryImpl.class, TestcontainersConfiguration.class})
+class PartySearchRepositoryImplTest {
+
+    private static final int FILLER_PARTIES = 10_000;
+
+    private static final String[] SEARCH_MIGRATIONS = {
+            "db/migration/V1.6.0__Add_party_name_trigram_indexes.sql",
+            "db/migration/V1.7.0__Add_party_search_vector.sql",
+            "db/migration/V1.15.0__Refresh_party_search_documents_by_date.sql"
+    };
+
+    private static final UUID ADA = party("ada");
+    private static final UUID ADELE = party("adele");
+    private static final UUID LOVELACE_TRADING = party("lovelace-trading");
+
+    // Filler: half people, half organizations, each with a party name, none of them close to "lovelace"
+    private static final String[] SEED = {
+            """
+            INSERT INTO party_type (id, description)
+            VALUES (md5('party-type-person')::uuid, 'Person'),
+                   (md5('party-type-organization')::uuid, 'Organization')
+            """,
+            "INSERT INTO name_type (id, description) VALUES (md5('name-type-alias')::uuid, 'Alias')",
+            """
+            INSERT INTO party (id, party_type_id, party_type)
+            SELECT md5('party-' || i)::uuid,
+                   md5('party-type-' || CASE WHEN i % 2 = 0 THEN 'person' ELSE 'organization' END)::uuid,
+                   CASE WHEN i % 2 = 0 THEN 'PERSON' ELSE 'ORGANIZATION' END
+              FROM generate_series(1, :parties) i
+            """,
+            """
+            INSERT INTO person (id, first_name, last_name)
+            SELECT md5('party-' || i)::uuid, 'Given' || i, 'Surname' || i
+              FROM generate_series(2, :parties, 2) i
+            """,
+            """
+            INSERT INTO organization (id, organization_name)
+            SELECT md5('party-' || i)::uuid, 'Company ' || i
+              FROM generate_series(1, :parties, 2) i
+            """,
+            """
+            INSERT INTO party_name (id, party_id, name_type_id, name, from_date)
+            SELECT gen_random_uuid(), md5('party-' || i)::uuid, md5('name-type-alias')::uuid, 'Alias ' || i,
+                   DATE '2015-01-01'
+              FROM generate_series(1, :parties) i
+            """
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Autowired
+    private PartySearchRepositoryImpl partySearchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        // The trigger functions are dollar-quoted; PostgreSQL splits the scripts itself
+        populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        for (String migration : SEARCH_MIGRATIONS) {
+            populator.addScript(new ClassPathResource(migration));
+        }
+        DatabasePopulatorUtils.execute(populator, dataSource);
+
+        for (String statement : SEED) {
+            jdbcTemplate.execute(statement.replace(":parties", String.valueOf(FILLER_PARTIES)));
+        }
+
+        person(ADA, "Ada", "Lovelace");
+        person(ADELE, "Adele", "Lovelacey");
+        organization(LOVELACE_TRADING, "Analytical Engines");
+        partyName(LOVELACE_TRADING, "Lovelace Trading");
+
+        jdbcTemplate.execute("ANALYZE party, person, organization, party_name");
+    }
+
+    @Test
+    @DisplayName("Should rank the closest name first and return each party once")
+    void shouldRankNameMatches() {
+        // When
+        List<PartySearchHit> hits = partySearchRepository.searchByName("lovelace", 10);
+
+        // Then
+        assertThat(hits).extracting(PartySearchHit::partyId)
+                .doesNotHaveDuplicates()
+                .contains(ADA, ADELE, LOVELACE_TRADING);
+        assertThat(hits).extracting(PartySearchHit::score).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+        assertThat(positionOf(hits, ADA)).isLessThan(positionOf(hits, ADELE));
+        assertThat(hits.get(positionOf(hits, ADA)).score()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should rank a match in the person or organization name above one in a party name")
+    void shouldRankPrimaryNamesAboveAliases() {
+        // When
+        List<PartyTextSearchHit> hits = partySearchRepository.searchFullText("lovelace", 10);
+
+        // Then
+        assertThat(hits).extracting(PartyTextSearchHit::partyId).containsExactly(ADA, LOVELACE_TRADING);
+        assertThat(hits.get(0).rank()).isGreaterThan(hits.get(1).rank());
+        assertThat(hits.get(0).headline()).contains("<b>Lovelace</b>");
+    }
+
+    @Test
+    @DisplayName("Should return no more hits than the limit")
+    void shouldApplyLimit() {
+        // When
+        List<PartySearchHit> byName = partySearchRepository.searchByName("company", 5);
+        List<PartyTextSearchHit> fullText = partySearchRepository.searchFullText("alias", 7);
+
+        // Then
+        assertThat(byName).hasSize(5);
+        assertThat(fullText).hasSize(7);
+    }
+
+    @Test
+    @DisplayName("Should find full-text matches through the search vector GIN index")
+    void shouldUseSearchVectorIndex() {
+        // When
+        List<String> indexes = indexesUsed(PartySearchRepositoryImpl.SEARCH_FULL_TEXT,
+                new MapSqlParameterSource().addValue("query", "lovelace").addValue("limit", 10));
+
+        // Then
+        assertThat(indexes).contains("idx_party_search_vector");
+    }
+
+    @Test
+    @DisplayName("Should probe every name source through its trigram GIN index")
+    void shouldUseTrigramIndexes() {
+        // When
+        List<String> indexes = indexesUsed(PartySearchRepositoryImpl.SEARCH_BY_NAME,
+                new MapSqlParameterSource().addValue("text", "lovelace").addValue("limit", 10));
+
+        // Then
+        assertThat(indexes).contains("idx_party_name_name_trgm", "idx_organization_name_trgm",
+                "idx_person_full_name_trgm");
+    }
+
+    @Test
+    @DisplayName("Should leave names out of the search document until they start")
+    void shouldExcludeFutureNames() {
+        // When
+        partyName(ADA, "Countess", LocalDate.now().plusDays(1), null);
+
+        // Then
+        assertThat(partySearchRepository.searchFullText("countess", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should refresh only the documents of parties with a name that ended since the last refresh")
+    void shouldRefreshDocumentsOfEndedNames() {
+        // Given: a name that ended two days ago, still in the document as computed before it ended
+        partyName(ADA, "Babbage", LocalDate.of(2015, 1, 1), LocalDate.now().minusDays(2));
+        jdbcTemplate.update("UPDATE party SET search_vector = search_vector || to_tsvector('simple', 'babbage') "
+                + "WHERE id = ?", ADA);
+        jdbcTemplate.update("UPDATE party_search_refresh SET refreshed_on = CURRENT_DATE - 5");
+        assertThat(partySearchRepository.searchFullText("babbage", 10)).extracting(PartyTextSearchHit::partyId)
+                .containsExactly(ADA);
+
+        // When
+        int refreshed = partySearchRepository.refreshDocumentsChangedByDate();
+
+        // Then
+        assertThat(refreshed).isEqualTo(1);
+        assertThat(partySearchRepository.searchFullText("babbage", 10)).isEmpty();
+        assertThat(partySearchRepository.searchFullText("lovelace", 10)).extracting(PartyTextSearchHit::partyId)
+                .contains(ADA);
+        assertThat(jdbcTemplate.queryForObject("SELECT refreshed_on FROM party_search_refresh", LocalDate.class))
+                .isEqualTo(LocalDate.now());
+        assertThat(partySearchRepository.refreshDocumentsChangedByDate()).isZero();
+    }
+
+    private List<String> indexesUsed(String sql, MapSqlParameterSource parameters) {
+        String plan = namedParameterJdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, parameters,
+                String.class);
+        List<String> indexes = new ArrayList<>();
+        collectIndexes(readPlan(plan), indexes);
+        return indexes;
+    }
+
+    private static void collectIndexes(JsonNode node, List<String> indexes) {
+        if (node.hasNonNull("Index Name")) {
+            indexes.add(node.get("Index Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectIndexes(child, indexes);
+        }
+    }
+
+    private static JsonNode readPlan(String plan) {
+        try {
+            return OBJECT_MAPPER.readTree(plan).get(0).get("Plan");
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan: " + plan, e);
+        }
+    }
+
+    private static int positionOf(List<PartySearchHit> hits, UUID partyId) {
+        for (int i = 0; i < hits.size(); i++) {
+            if (hits.get(i).partyId().equals(partyId)) {
+                return i;
+            }
+        }
+        throw new AssertionError("No hit for " + partyId);
+    }
+
+    private void person(UUID id, String firstName, String lastName) {
+        jdbcTemplate.update("INSERT INTO party (id, party_type_id, party_type) "
+                + "VALUES (?, md5('party-type-person')::uuid, 'PERSON')", id);
+        jdbcTemplate.update("INSERT INTO person (id, first_name, last_name) VALUES (?, ?, ?)", id, firstName, lastName);
+    }
+
+    private void organization(UUID id, String name) {
+        jdbcTemplate.update("INSERT INTO party (id, party_type_id, party_type) "
+                + "VALUES (?, md5('party-type-organization')::uuid, 'ORGANIZATION')", id);
+        jdbcTemplate.update("INSERT INTO organization (id, organization_name) VALUES (?, ?)", id, name);
+    }
+
+    private void partyName(UUID partyId, String name) {
+        partyName(partyId, name, LocalDate.of(2015, 1, 1), null);
+    }
+
+    private void partyName(UUID partyId, String name, LocalDate fromDate, LocalDate thruDate) {
+        jdbcTemplate.update("INSERT INTO party_name (id, party_id, name_type_id, name, from_date, thru_date) "
+                + "VALUES (gen_random_uuid(), ?, md5('name-type-alias')::uuid, ?, ?, ?)",
+                partyId, name, fromDate, thruDate);
+    }
+
+    private static UUID party(String name) {
+        return UUID.nameUUIDFromBytes(name.getBytes());
+    }
+}
@@ -0,0 +1,182 @@
+package org.erp_microservices.peopleandorganizations.api.infrastructure.repository;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.RelationshipGraphEdge;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.TraversalDirection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(RelationshipGraphRepositoryImpl.class)
+class RelationshipGraphRepositoryImplTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RelationshipGraphRepositoryImpl relationshipGraphRepository;
+
+    private PartyType personType;
+    private PartyRelationshipType reportsTo;
+    private PartyRelationshipType mentors;
+    private Person ceo;
+    private Person manager;
+    private Person lead;
+    private Person engineer;
+
+    @BeforeEach
+    void setUp() {
+        personType = new PartyType();
+        personType.setDescription("PERSON");
+        personType = entityManager.persist(personType);
+
+        reportsTo = entityManager.persist(relationshipType("MANAGES"));
+        mentors = entityManager.persist(relationshipType("MENTORS"));
+
+        ceo = person("Chief");
+        manager = person("Manager");
+        lead = person("Lead");
+        engineer = person("Engineer");
+
+        // ceo -> manager -> lead -> engineer, plus a mentoring loop back to the top
+        relate(ceo, manager, reportsTo, null);
+        relate(manager, lead, reportsTo, null);
+        relate(lead, engineer, reportsTo, null);
+        relate(engineer, ceo, mentors, null);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should walk every level of the hierarchy in one query, shallowest first")
+    void shouldWalkHierarchy() {
+        // When
+        List<RelationshipGraphEdge> edges = relationshipGraphRepository.walk(
+                ceo.getId(), List.of(reportsTo.getId()), TraversalDirection.OUTGOING, 6, TODAY, 100);
+
+        // Then
+        assertThat(edges).extracting(RelationshipGraphEdge::toPartyId)
+                .containsExactly(manager.getId(), lead.getId(), engineer.getId());
+        assertThat(edges).extracting(RelationshipGraphEdge::depth).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should stop at a party already on the path when the graph has a cycle")
+    void shouldNotLoopOnCycles() {
+        // When
+        List<RelationshipGraphEdge> edges = relationshipGraphRepository.walk(
+                ceo.getId(), List.of(), TraversalDirection.OUTGOING, 10, TODAY, 100);
+
+        // Then
+        assertThat(edges).hasSize(3);
+        assertThat(edges).extracting(RelationshipGraphEdge::toPartyId).doesNotContain(ceo.getId());
+    }
+
+    @Test
+    @DisplayName("Should respect the depth limit")
+    void shouldLimitDepth() {
+        // When
+        List<RelationshipGraphEdge> edges = relationshipGraphRepository.walk(
+                ceo.getId(), List.of(), TraversalDirection.OUTGOING, 2, TODAY, 100);
+
+        // Then
+        assertThat(edges).extracting(RelationshipGraphEdge::toPartyId)
+                .containsExactly(manager.getId(), lead.getId());
+    }
+
+    @Test
+    @DisplayName("Should walk against the relationships for incoming traversal")
+    void shouldWalkIncoming() {
+        // When
+        List<RelationshipGraphEdge> edges = relationshipGraphRepository.walk(
+                lead.getId(), List.of(reportsTo.getId()), TraversalDirection.INCOMING, 6, TODAY, 100);
+
+        // Then
+        assertThat(edges).extracting(RelationshipGraphEdge::fromPartyId)
+                .containsExactly(manager.getId(), ceo.getId());
+    }
+
+    @Test
+    @DisplayName("Should only follow relationships active on the given date")
+    void shouldFilterByDate() {
+        // Given
+        Person contractor = person("Contractor");
+        relate(lead, contractor, reportsTo, TODAY.minusDays(1));
+        entityManager.flush();
+
+        // When
+        List<RelationshipGraphEdge> current = relationshipGraphRepository.walk(
+                lead.getId(), List.of(reportsTo.getId()), TraversalDirection.OUTGOING, 6, TODAY, 100);
+        List<RelationshipGraphEdge> past = relationshipGraphRepository.walk(
+                lead.getId(), List.of(reportsTo.getId()), TraversalDirection.OUTGOING, 6, TODAY.minusDays(2), 100);
+
+        // Then
+        assertThat(current).extracting(RelationshipGraphEdge::toPartyId).containsExactly(engineer.getId());
+        assertThat(past).extracting(RelationshipGraphEdge::toPartyId)
+                .containsExactlyInAnyOrder(engineer.getId(), contractor.getId());
+    }
+
+    @Test
+    @DisplayName("Should not follow a relationship on its thru date")
+    void shouldTreatThruDateAsExclusive() {
+        // Given
+        Person contractor = person("Contractor");
+        relate(lead, contractor, reportsTo, TODAY);
+        entityManager.flush();
+
+        // When
+        List<RelationshipGraphEdge> onThruDate = relationshipGraphRepository.walk(
+                lead.getId(), List.of(reportsTo.getId()), TraversalDirection.OUTGOING, 6, TODAY, 100);
+        List<RelationshipGraphEdge> dayBefore = relationshipGraphRepository.walk(
+                lead.getId(), List.of(reportsTo.getId()), TraversalDirection.OUTGOING, 6, TODAY.minusDays(1), 100);
+
+        // Then
+        assertThat(onThruDate).extracting(RelationshipGraphEdge::toPartyId).containsExactly(engineer.getId());
+        assertThat(dayBefore).extracting(RelationshipGraphEdge::toPartyId)
+                .containsExactlyInAnyOrder(engineer.getId(), contractor.getId());
+    }
+
+    private PartyRelationshipType relationshipType(String name) {
+        return PartyRelationshipType.builder()
+                .name(name)
+                .fromRoleType("FROM")
+                .toRoleType("TO")
+                .build();
+    }
+
+    private Person person(String lastName) {
+        Person person = Person.builder().lastName(lastName).build();
+        person.setPartyType("PERSON");
+        person.setPartyTypeRef(personType);
+        return entityManager.persist(person);
+    }
+
+    private UUID relate(Person from, Person to, PartyRelationshipType type, LocalDate thruDate) {
+        return entityManager.persist(PartyRelationship.builder()
+                .fromParty(from)
+                .toParty(to)
+                .relationshipType(type)
+                .fromDate(TODAY.minusYears(1))
+                .thruDate(thruDate)
+                .build()).getId();
+    }
+}
@@ -183,6 +183,86 @@ public class GraphQLPartyIntegrationTest {
                 .path("organizations.size").entity(Integer.class).isEqualTo(10);
     }
 
+    @Test
+    void peopleConnection_ShouldWalkPagesWithCursors() {
+        for (int i = 0; i < 3; i++) {
+            graphQlTester
+                    .document("mutation CreatePerson($input: CreatePersonInput!) { createPerson(input: $input) { id } }")
+                    .variable("input", createPersonInput())
+                    .execute()
+                    .path("createPerson.id").hasValue();
+        }
+
+        String query = """
+            query PeopleConnection($first: Int, $after: String) {
+                peopleConnection(first: $first, after: $after) {
+                    edges {
+                        cursor
+                        node {
+                            id
+                            firstName
+                        }
+                    }
+                    pageInfo {
+                        hasNextPage
+                        hasPreviousPage
+                        endCursor
+                    }
+                    totalCount
+                }
+            }
+            """;
+
+        String endCursor = graphQlTester
+                .document(query)
+                .variable("first", 2)
+                .execute()
+                .path("peopleConnection.edges").entityList(Object.class).hasSize(2)
+                .path("peopleConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(true)
+                .path("peopleConnection.pageInfo.hasPreviousPage").entity(Boolean.class).isEqualTo(false)
+                .path("peopleConnection.totalCount").entity(Integer.class).isEqualTo(3)
+                .path("peopleConnection.pageInfo.endCursor").entity(String.class).get();
+
+        graphQlTester
+                .document(query)
+                .variable("first", 2)
+                .variable("after", endCursor)
+                .execute()
+                .path("peopleConnection.edges").entityList(Object.class).hasSize(1)
+                .path("peopleConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false)
+                .path("peopleConnection.pageInfo.hasPreviousPage").entity(Boolean.class).isEqualTo(true);
+    }
+
+    @Test
+    void organizationsConnection_ShouldReturnEmptyConnection() {
+        String query = """
+            query OrganizationsConnection($first: Int) {
+                organizationsConnection(first: $first) {
+                    edges {
+                        cursor
+                        node {
+                            id
+                            name
+                        }
+                    }
+                    pageInfo {
+                        hasNextPage
+                        startCursor
+                        endCursor
+                    }
+                }
+            }
+            """;
+
+        graphQlTester
+                .document(query)
+                .variable("first", 10)
+                .execute()
+                .path("organizationsConnection.edges").entityList(Object.class).hasSize(0)
+                .path("organizationsConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false)
+                .path("organizationsConnection.pageInfo.endCursor").valueIsNull();
+    }
+
     @Test
     void updatePerson_ShouldReturnUpdatedPerson() {
         String mutation = """
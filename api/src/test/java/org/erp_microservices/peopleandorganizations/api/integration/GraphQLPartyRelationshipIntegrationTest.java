@@ -138,20 +138,26 @@ public class GraphQLPartyRelationshipIntegrationTest {
     @Test
     void getPartyRelationships_ShouldReturnRelationshipsForParty() {
         String query = """
-            query GetPartyRelationships($partyId: ID!) {
-                partyRelationships(partyId: $partyId) {
-                    id
-                    fromParty {
-                        id
-                    }
-                    toParty {
+            query GetPartyRelationships($partyId: ID!, $page: Int, $size: Int) {
+                partyRelationships(partyId: $partyId, page: $page, size: $size) {
+                    content {
                         id
+                        fromParty {
+                            id
+                        }
+                        toParty {
+                            id
+                        }
+                        relationshipType {
+                            name
+                        }
+                        fromDate
+                        thruDate
                     }
-                    relationshipType {
-                        name
-                    }
-                    fromDate
-                    thruDate
+                    totalElements
+                    totalPages
+                    number
+                    size
                 }
             }
             """;
@@ -161,9 +167,13 @@ public class GraphQLPartyRelationshipIntegrationTest {
         graphQlTester
                 .document(query)
                 .variable("partyId", partyId)
+                .variable("page", 0)
+                .variable("size", 10)
                 .execute()
-                .errors()
-                .expect(error -> error.getMessage() != null); // Expecting error for UUID validation or similar issue
+                .path("partyRelationships.content").entityList(Object.class).hasSize(0)
+                .path("partyRelationships.totalElements").entity(Integer.class).isEqualTo(0)
+                .path("partyRelationships.number").entity(Integer.class).isEqualTo(0)
+                .path("partyRelationships.size").entity(Integer.class).isEqualTo(10);
     }
 
     @Test
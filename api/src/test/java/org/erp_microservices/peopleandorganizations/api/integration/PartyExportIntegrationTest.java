@@ -0,0 +1,104 @@
+package org.erp_microservices.peopleandorganizations.api.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Organization;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.erp_microservices.peopleandorganizations.api.domain.repository.PartyRepository;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.export.PartyExportFormat;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.export.PartyExportService;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.repository.PartyTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.cloud.vault.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "spring.profiles.active=test",
+        "spring.graphql.graphiql.enabled=false"
+    })
+@Transactional
+@Tag("integration")
+public class PartyExportIntegrationTest {
+
+    @Autowired
+    private PartyExportService partyExportService;
+
+    @Autowired
+    private PartyRepository partyRepository;
+
+    @Autowired
+    private PartyTypeRepository partyTypeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        partyRepository.deleteAll();
+
+        PartyType personType = partyTypeRepository.save(new PartyType(null, "Person", null));
+        PartyType organizationType = partyTypeRepository.save(new PartyType(null, "Organization", null));
+
+        Person person = Person.builder().firstName("John").lastName("Doe").build();
+        person.setPartyTypeRef(personType);
+        partyRepository.save(person);
+
+        Organization organization = Organization.builder().name("Acme Corporation").numberOfEmployees(250).build();
+        organization.setPartyTypeRef(organizationType);
+        partyRepository.save(organization);
+
+        entityManager.flush();
+    }
+
+    @Test
+    void exportNdjson_ShouldWriteOnePartyPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = partyExportService.export(out, PartyExportFormat.NDJSON);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(exported).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines).anySatisfy(party -> {
+            assertThat(party.get("party_type").asText()).isEqualTo("PERSON");
+            assertThat(party.get("last_name").asText()).isEqualTo("Doe");
+            assertThat(party.get("roles").isArray()).isTrue();
+        });
+        assertThat(lines).anySatisfy(party -> {
+            assertThat(party.get("organization_name").asText()).isEqualTo("Acme Corporation");
+            assertThat(party.get("number_of_employees").asInt()).isEqualTo(250);
+        });
+    }
+
+    @Test
+    void exportCsv_ShouldWriteHeaderAndOneRowPerParty() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = partyExportService.export(out, PartyExportFormat.CSV);
+
+        String[] rows = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(2);
+        assertThat(rows).hasSize(3);
+        assertThat(rows[0]).startsWith("id,party_type,comment,first_name");
+    }
+}
@@ -0,0 +1,111 @@
+package org.erp_microservices.peopleandorganizations.api.integration;
+
+import org.erp_microservices.peopleandorganizations.api.infrastructure.outbox.PartyChangeMessage;
+import org.erp_microservices.peopleandorganizations.api.infrastructure.outbox.PartyChangeRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.graphql.test.tester.HttpGraphQlTester;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.cloud.vault.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "spring.profiles.active=test",
+        "spring.graphql.graphiql.enabled=false",
+        "party-outbox.sink=in-process",
+        "party-outbox.poll-interval=PT1H"
+    })
+@AutoConfigureHttpGraphQlTester
+@Tag("integration")
+@WithMockUser
+public class PartyOutboxIntegrationTest {
+
+    @Autowired
+    private HttpGraphQlTester graphQlTester;
+
+    @Autowired
+    private PartyChangeRelay relay;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @BeforeEach
+    void setUp() {
+        relay.relayPending();
+        listener.messages.clear();
+    }
+
+    @Test
+    void mutations_ShouldPublishChangeEventsInCommitOrder() {
+        String id = graphQlTester
+                .document("mutation CreatePerson($input: CreatePersonInput!) { createPerson(input: $input) { id } }")
+                .variable("input", Map.of("firstName", "Outbox", "lastName", "Person"))
+                .execute()
+                .path("createPerson.id").entity(String.class).get();
+
+        graphQlTester
+                .document("mutation DeletePerson($id: ID!) { deletePerson(id: $id) }")
+                .variable("id", id)
+                .execute()
+                .path("deletePerson").entity(Boolean.class).isEqualTo(true);
+
+        assertThat(relay.relayPending()).isEqualTo(2);
+
+        List<PartyChangeMessage> messages = listener.messages;
+        assertThat(messages).extracting(PartyChangeMessage::changeType)
+                .containsExactly("PARTY_CREATED", "PARTY_DELETED");
+        assertThat(messages).extracting(PartyChangeMessage::aggregateId)
+                .containsOnly(UUID.fromString(id));
+        assertThat(messages.get(0).sequence()).isLessThan(messages.get(1).sequence());
+        assertThat(messages.get(0).payload()).containsEntry("partyType", "PERSON");
+
+        assertThat(relay.relayPending()).isZero();
+    }
+
+    @Test
+    void failedMutation_ShouldNotPublishAnEvent() {
+        graphQlTester
+                .document("mutation DeletePerson($id: ID!) { deletePerson(id: $id) }")
+                .variable("id", UUID.randomUUID().toString())
+                .execute()
+                .errors()
+                .satisfy(errors -> assertThat(errors).isNotEmpty());
+
+        assertThat(relay.relayPending()).isZero();
+        assertThat(listener.messages).isEmpty();
+    }
+
+    @TestConfiguration
+    static class OutboxListenerConfiguration {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    static class RecordingListener {
+
+        private final List<PartyChangeMessage> messages = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onPartyChange(PartyChangeMessage message) {
+            messages.add(message);
+        }
+    }
+}
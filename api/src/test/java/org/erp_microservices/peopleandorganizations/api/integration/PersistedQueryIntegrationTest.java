@@ -0,0 +1,82 @@
+package org.erp_microservices.peopleandorganizations.api.integration;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sends automatic persisted queries through {@code /graphql} the way an Apollo client does: the hash
+ * alone first, then the hash with the query once the server asks for it, then the hash alone again.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.cloud.vault.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "spring.profiles.active=test",
+        "spring.graphql.graphiql.enabled=false"
+    })
+@AutoConfigureHttpGraphQlTester
+@Tag("integration")
+@WithMockUser
+public class PersistedQueryIntegrationTest {
+
+    private static final String QUERY = """
+        query PersistedPeople {
+            people(page: 0, size: 1) {
+                totalElements
+            }
+        }
+        """;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void hashOnlyRequest_ShouldBeAnsweredOnceTheQueryIsRegistered() throws Exception {
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(QUERY.getBytes(StandardCharsets.UTF_8)));
+
+        post(request(null, hash))
+                .jsonPath("$.errors[0].message").isEqualTo("PersistedQueryNotFound")
+                .jsonPath("$.data").doesNotExist();
+
+        post(request(QUERY, hash))
+                .jsonPath("$.errors").doesNotExist()
+                .jsonPath("$.data.people.totalElements").exists();
+
+        post(request(null, hash))
+                .jsonPath("$.errors").doesNotExist()
+                .jsonPath("$.data.people.totalElements").exists();
+    }
+
+    private WebTestClient.BodyContentSpec post(Map<String, Object> body) {
+        return webTestClient.post()
+                .uri("/graphql")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody();
+    }
+
+    private static Map<String, Object> request(String query, String hash) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (query != null) {
+            body.put("query", query);
+        }
+        body.put("extensions", Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash)));
+        return body;
+    }
+}
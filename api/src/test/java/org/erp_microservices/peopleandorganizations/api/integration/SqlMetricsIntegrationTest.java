@@ -0,0 +1,66 @@
+package org.erp_microservices.peopleandorganizations.api.integration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureHttpGraphQlTester;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.test.tester.HttpGraphQlTester;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.cloud.vault.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "spring.profiles.active=test",
+        "spring.graphql.graphiql.enabled=false"
+    })
+@AutoConfigureHttpGraphQlTester
+@Tag("integration")
+@WithMockUser
+public class SqlMetricsIntegrationTest {
+
+    @Autowired
+    private HttpGraphQlTester graphQlTester;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void query_ShouldRecordSqlStatementsByOperationAndField() {
+        String query = """
+            query SqlMetricsPeople {
+                people(page: 0, size: 5) {
+                    content { id }
+                    totalElements
+                }
+            }
+            """;
+
+        graphQlTester.document(query).execute().path("people.totalElements").hasValue();
+
+        DistributionSummary operationStatements = meterRegistry.find("graphql.operation.sql.statements")
+                .tag("operation", "SqlMetricsPeople")
+                .summary();
+        assertThat(operationStatements).isNotNull();
+        assertThat(operationStatements.count()).isEqualTo(1);
+        assertThat(operationStatements.totalAmount()).isGreaterThanOrEqualTo(1);
+
+        Timer operationTime = meterRegistry.find("graphql.operation.sql.time")
+                .tag("operation", "SqlMetricsPeople")
+                .timer();
+        assertThat(operationTime).isNotNull();
+        assertThat(operationTime.count()).isEqualTo(1);
+
+        DistributionSummary fieldStatements = meterRegistry.find("graphql.field.sql.statements")
+                .tags("operation", "SqlMetricsPeople", "field", "Query.people")
+                .summary();
+        assertThat(fieldStatements).isNotNull();
+        assertThat(fieldStatements.totalAmount()).isGreaterThanOrEqualTo(1);
+    }
+}
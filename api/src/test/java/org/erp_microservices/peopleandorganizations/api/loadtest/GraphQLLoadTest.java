@@ -0,0 +1,58 @@
+package org.erp_microservices.peopleandorganizations.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.erp_microservices.peopleandorganizations.api.TestcontainersConfiguration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of the GraphQL endpoint against a Testcontainers PostgreSQL; see {@link LoadTestRunner}
+ * for what a run does.
+ *
+ * <p>Run with {@code ./gradlew :api:loadTest}; see {@link LoadTestSettings} for the knobs.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.cloud.vault.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "spring.profiles.active=test",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.erp_microservices=WARN"
+    })
+@Import(TestcontainersConfiguration.class)
+@Tag("loadtest")
+public class GraphQLLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void mixedWorkload() throws Exception {
+        LoadTestReport report = new LoadTestRunner(entityManager, entityManagerFactory, transactionManager,
+                objectMapper, port).run(LoadTestSettings.fromSystemProperties());
+
+        assertThat(report.totals().requests()).isPositive();
+        assertThat(report.totals().errors()).isZero();
+    }
+}
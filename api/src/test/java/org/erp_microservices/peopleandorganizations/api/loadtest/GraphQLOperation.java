@@ -0,0 +1,16 @@
+package org.erp_microservices.peopleandorganizations.api.loadtest;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * A named GraphQL document in the workload mix. The variables function picks the arguments of each
+ * request, so every execution can target a different seeded row.
+ */
+record GraphQLOperation(
+    String name,
+    int weight,
+    String document,
+    Function<SplittableRandom, Map<String, Object>> variables
+) {}
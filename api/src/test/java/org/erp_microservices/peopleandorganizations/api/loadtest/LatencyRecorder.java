@@ -0,0 +1,53 @@
+package org.erp_microservices.peopleandorganizations.api.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples of one operation, recorded by a single worker thread and merged once the run ends.
+ */
+final class LatencyRecorder {
+
+    private long[] nanos = new long[1_024];
+    private int count;
+    private long errors;
+
+    void record(long elapsedNanos, boolean failed) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = elapsedNanos;
+        if (failed) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > nanos.length) {
+            nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+        }
+        System.arraycopy(other.nanos, 0, nanos, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * Nearest-rank percentile in milliseconds, {@code percentile} in (0, 1].
+     */
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.max(0, rank)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,108 @@
+package org.erp_microservices.peopleandorganizations.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drives the /graphql endpoint over HTTP with a fixed number of closed-loop workers: each worker sends
+ * its next request as soon as the previous one answers, so concurrency stays constant for the whole run.
+ * A request fails when the status is not 200 or the response carries GraphQL errors.
+ */
+class LoadTestDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI endpoint;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    LoadTestDriver(URI endpoint, ObjectMapper objectMapper) {
+        this.endpoint = endpoint;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    Map<String, LatencyRecorder> run(LoadTestWorkload workload, int concurrency, Duration duration, long seed)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        // Virtual threads keep a thousand blocked clients cheap, so the driver is not what saturates
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<Map<String, LatencyRecorder>>> results = new ArrayList<>();
+            for (int worker = 0; worker < concurrency; worker++) {
+                SplittableRandom random = new SplittableRandom(seed + worker);
+                results.add(workers.submit(() -> runWorker(workload, random, deadline)));
+            }
+
+            Map<String, LatencyRecorder> merged = new HashMap<>();
+            for (Future<Map<String, LatencyRecorder>> result : results) {
+                result.get().forEach((name, recorder) ->
+                        merged.computeIfAbsent(name, key -> new LatencyRecorder()).merge(recorder));
+            }
+            return merged;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load test worker failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Sends one request for {@code operation} and returns whether it succeeded.
+     */
+    boolean execute(GraphQLOperation operation, SplittableRandom random) {
+        try {
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "query", operation.document(),
+                    "variables", operation.variables().apply(random)));
+            HttpRequest request = HttpRequest.newBuilder(endpoint)
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return false;
+            }
+            JsonNode errors = objectMapper.readTree(response.body()).get("errors");
+            return errors == null || errors.isEmpty();
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Map<String, LatencyRecorder> runWorker(LoadTestWorkload workload, SplittableRandom random, long deadline) {
+        Map<String, LatencyRecorder> recorders = new HashMap<>();
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            GraphQLOperation operation = workload.next(random);
+            long start = System.nanoTime();
+            boolean succeeded = execute(operation, random);
+            recorders.computeIfAbsent(operation.name(), name -> new LatencyRecorder())
+                    .record(System.nanoTime() - start, !succeeded);
+        }
+        return recorders;
+    }
+}
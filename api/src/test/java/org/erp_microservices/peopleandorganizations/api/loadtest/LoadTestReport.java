@@ -0,0 +1,63 @@
+package org.erp_microservices.peopleandorganizations.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SortedMap;
+
+/**
+ * The baseline written after a run. Operations are keyed by name in sorted order and values are
+ * rounded, so two baselines can be compared with a plain diff.
+ */
+record LoadTestReport(
+    Settings settings,
+    Totals totals,
+    SortedMap<String, OperationResult> operations
+) {
+
+    record Settings(
+        int parties,
+        int relationships,
+        int contactMechanisms,
+        int concurrency,
+        long durationSeconds,
+        long seed
+    ) {
+        static Settings of(LoadTestSettings settings) {
+            return new Settings(settings.parties(), settings.relationships(), settings.contactMechanisms(),
+                    settings.concurrency(), settings.duration().toSeconds(), settings.seed());
+        }
+    }
+
+    record Totals(
+        long requests,
+        long errors,
+        double throughputPerSecond
+    ) {}
+
+    record OperationResult(
+        long requests,
+        long errors,
+        double throughputPerSecond,
+        double p50Millis,
+        double p99Millis,
+        double sqlStatementsPerRequest
+    ) {}
+
+    void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), this);
+    }
+
+    static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,99 @@
+package org.erp_microservices.peopleandorganizations.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.erp_microservices.peopleandorganizations.api.loadtest.LoadTestReport.OperationResult;
+import org.erp_microservices.peopleandorganizations.api.loadtest.LoadTestSeeder.SeedData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * One load-test run against a started application: seeds the configured volumes, warms up, runs the
+ * mixed workload at fixed concurrency, then replays each operation on its own to count the SQL
+ * statements it issues, and writes everything to the JSON baseline.
+ */
+class LoadTestRunner {
+
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final URI endpoint;
+
+    LoadTestRunner(EntityManager entityManager, EntityManagerFactory entityManagerFactory,
+                   PlatformTransactionManager transactionManager, ObjectMapper objectMapper, int port) {
+        this.entityManager = entityManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionManager = transactionManager;
+        this.objectMapper = objectMapper;
+        this.endpoint = URI.create("http://localhost:" + port + "/graphql");
+    }
+
+    LoadTestReport run(LoadTestSettings settings) throws Exception {
+        SeedData seed = new LoadTestSeeder(entityManager, transactionManager).seed(settings);
+
+        LoadTestWorkload workload = LoadTestWorkload.mixed(seed);
+        LoadTestDriver driver = new LoadTestDriver(endpoint, objectMapper);
+
+        driver.run(workload, settings.concurrency(), settings.warmup(), settings.seed());
+
+        long start = System.nanoTime();
+        Map<String, LatencyRecorder> recorders =
+                driver.run(workload, settings.concurrency(), settings.duration(), settings.seed());
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Map<String, Double> statementsPerRequest = profileStatements(workload, driver, settings);
+
+        SortedMap<String, OperationResult> operations = new TreeMap<>();
+        long requests = 0;
+        long errors = 0;
+        for (GraphQLOperation operation : workload.operations()) {
+            LatencyRecorder recorder = recorders.getOrDefault(operation.name(), new LatencyRecorder());
+            requests += recorder.count();
+            errors += recorder.errors();
+            operations.put(operation.name(), new OperationResult(
+                    recorder.count(),
+                    recorder.errors(),
+                    LoadTestReport.round(recorder.count() / elapsedSeconds),
+                    LoadTestReport.round(recorder.percentileMillis(0.50)),
+                    LoadTestReport.round(recorder.percentileMillis(0.99)),
+                    LoadTestReport.round(statementsPerRequest.get(operation.name()))));
+        }
+
+        LoadTestReport report = new LoadTestReport(
+                LoadTestReport.Settings.of(settings),
+                new LoadTestReport.Totals(requests, errors, LoadTestReport.round(requests / elapsedSeconds)),
+                operations);
+        report.write(settings.report());
+        return report;
+    }
+
+    /**
+     * Replays each operation sequentially with statistics cleared first, so the statement count is
+     * attributable to that operation alone rather than to whatever ran concurrently.
+     */
+    private Map<String, Double> profileStatements(LoadTestWorkload workload, LoadTestDriver driver,
+                                                  LoadTestSettings settings) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        SplittableRandom random = new SplittableRandom(settings.seed());
+
+        Map<String, Double> statementsPerRequest = new TreeMap<>();
+        for (GraphQLOperation operation : workload.operations()) {
+            statistics.clear();
+            for (int i = 0; i < settings.profileSamples(); i++) {
+                driver.execute(operation, random);
+            }
+            statementsPerRequest.put(operation.name(),
+                    statistics.getPrepareStatementCount() / (double) settings.profileSamples());
+        }
+        return statementsPerRequest;
+    }
+}
@@ -0,0 +1,164 @@
+package org.erp_microservices.peopleandorganizations.api.loadtest;
+
+import jakarta.persistence.EntityManager;
+import org.erp_microservices.peopleandorganizations.api.domain.model.contactmechanism.EmailAddress;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Organization;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Party;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRole;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRoleType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationship;
+import org.erp_microservices.peopleandorganizations.api.domain.model.partyrelationship.PartyRelationshipType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Seeds the reference data and the configured volumes of parties, relationships and contact mechanisms.
+ * Rows are written in chunks, each in its own transaction, so large volumes neither hold one long
+ * transaction nor grow the persistence context without bound.
+ */
+class LoadTestSeeder {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    LoadTestSeeder(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    SeedData seed(LoadTestSettings settings) {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+
+        ReferenceData reference = transactionTemplate.execute(status -> persistReferenceData());
+
+        List<UUID> personIds = new ArrayList<>();
+        List<UUID> organizationIds = new ArrayList<>();
+        for (int start = 0; start < settings.parties(); start += CHUNK_SIZE) {
+            int end = Math.min(start + CHUNK_SIZE, settings.parties());
+            int from = start;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = from; i < end; i++) {
+                    Party party = i % 2 == 0 ? person(i, reference) : organization(i, reference);
+                    PartyRoleType roleType = i % 2 == 0 ? reference.employee() : reference.employer();
+                    party.addPartyRole(PartyRole.builder()
+                            .roleType(entityManager.getReference(PartyRoleType.class, roleType.getId()))
+                            .fromDate(LocalDate.now().minusYears(1))
+                            .build());
+                    entityManager.persist(party);
+                    (i % 2 == 0 ? personIds : organizationIds).add(party.getId());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+
+        for (int start = 0; start < settings.relationships() && !personIds.isEmpty() && !organizationIds.isEmpty();
+                start += CHUNK_SIZE) {
+            int end = Math.min(start + CHUNK_SIZE, settings.relationships());
+            int count = end - start;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < count; i++) {
+                    UUID personId = personIds.get(random.nextInt(personIds.size()));
+                    UUID organizationId = organizationIds.get(random.nextInt(organizationIds.size()));
+                    entityManager.persist(PartyRelationship.builder()
+                            .fromParty(entityManager.getReference(Party.class, personId))
+                            .toParty(entityManager.getReference(Party.class, organizationId))
+                            .relationshipType(entityManager.getReference(PartyRelationshipType.class,
+                                    reference.employment().getId()))
+                            .fromDate(LocalDate.now().minusDays(random.nextInt(1, 3_650)))
+                            .build());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+
+        for (int start = 0; start < settings.contactMechanisms(); start += CHUNK_SIZE) {
+            int end = Math.min(start + CHUNK_SIZE, settings.contactMechanisms());
+            int from = start;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = from; i < end; i++) {
+                    entityManager.persist(EmailAddress.builder()
+                            .emailAddress("party" + i + "@loadtest.example.com")
+                            .build());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+
+        List<UUID> partyIds = new ArrayList<>(personIds);
+        partyIds.addAll(organizationIds);
+        return new SeedData(List.copyOf(personIds), List.copyOf(partyIds), reference.employment().getId());
+    }
+
+    private ReferenceData persistReferenceData() {
+        PartyType personType = new PartyType(null, "Person", null);
+        PartyType organizationType = new PartyType(null, "Organization", null);
+        entityManager.persist(personType);
+        entityManager.persist(organizationType);
+
+        PartyRoleType employee = new PartyRoleType();
+        employee.setDescription("Employee");
+        entityManager.persist(employee);
+        PartyRoleType employer = new PartyRoleType();
+        employer.setDescription("Employer");
+        entityManager.persist(employer);
+
+        PartyRelationshipType employment = PartyRelationshipType.builder()
+                .name("Employment")
+                .description("Employment of a person by an organization")
+                .fromRoleType("Employee")
+                .toRoleType("Employer")
+                .build();
+        entityManager.persist(employment);
+
+        return new ReferenceData(personType, organizationType, employee, employer, employment);
+    }
+
+    private Person person(int index, ReferenceData reference) {
+        Person person = Person.builder()
+                .firstName("First" + index)
+                .lastName("Last" + index)
+                .birthDate(LocalDate.of(1950, 1, 1).plusDays(index % 18_000))
+                .build();
+        person.setPartyTypeRef(entityManager.getReference(PartyType.class, reference.personType().getId()));
+        return person;
+    }
+
+    private Organization organization(int index, ReferenceData reference) {
+        Organization organization = Organization.builder()
+                .name("Organization " + index)
+                .numberOfEmployees(10 + index % 5_000)
+                .build();
+        organization.setPartyTypeRef(entityManager.getReference(PartyType.class, reference.organizationType().getId()));
+        return organization;
+    }
+
+    private record ReferenceData(
+        PartyType personType,
+        PartyType organizationType,
+        PartyRoleType employee,
+        PartyRoleType employer,
+        PartyRelationshipType employment
+    ) {}
+
+    /**
+     * Ids of the seeded rows that the workload picks its arguments from.
+     */
+    record SeedData(
+        List<UUID> personIds,
+        List<UUID> partyIds,
+        UUID relationshipTypeId
+    ) {}
+}
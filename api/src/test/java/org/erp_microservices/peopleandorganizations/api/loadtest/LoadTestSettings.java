@@ -0,0 +1,47 @@
+package org.erp_microservices.peopleandorganizations.api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Data volumes and run shape of a load test. Every value can be overridden with a {@code loadtest.*}
+ * system property, which the {@code loadTest} Gradle task forwards from {@code -Ploadtest.*}.
+ */
+public record LoadTestSettings(
+    int parties,
+    int relationships,
+    int contactMechanisms,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    int profileSamples,
+    long seed,
+    Path report
+) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.parties", 2_000),
+                Integer.getInteger("loadtest.relationships", 2_000),
+                Integer.getInteger("loadtest.contactMechanisms", 1_000),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10L)),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60L)),
+                Integer.getInteger("loadtest.profileSamples", 20),
+                Long.getLong("loadtest.seed", 42L),
+                Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/baseline.json")));
+    }
+
+    public LoadTestSettings withConcurrency(int concurrency) {
+        return new LoadTestSettings(parties, relationships, contactMechanisms, concurrency, warmup, duration,
+                profileSamples, seed, report);
+    }
+
+    /**
+     * The same settings reporting to {@code fileName} next to the configured baseline.
+     */
+    public LoadTestSettings withReportFile(String fileName) {
+        return new LoadTestSettings(parties, relationships, contactMechanisms, concurrency, warmup, duration,
+                profileSamples, seed, report.resolveSibling(fileName));
+    }
+}
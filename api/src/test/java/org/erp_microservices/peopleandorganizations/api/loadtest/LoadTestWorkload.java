@@ -0,0 +1,100 @@
+package org.erp_microservices.peopleandorganizations.api.loadtest;
+
+import org.erp_microservices.peopleandorganizations.api.loadtest.LoadTestSeeder.SeedData;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * The mixed read/write workload: mostly single-party and list reads, with a share of mutations that
+ * create, update and attach data to the seeded parties. Operations are picked at random by weight.
+ */
+final class LoadTestWorkload {
+
+    private final List<GraphQLOperation> operations;
+    private final int totalWeight;
+
+    private LoadTestWorkload(List<GraphQLOperation> operations) {
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(GraphQLOperation::weight).sum();
+    }
+
+    List<GraphQLOperation> operations() {
+        return operations;
+    }
+
+    GraphQLOperation next(SplittableRandom random) {
+        int pick = random.nextInt(totalWeight);
+        for (GraphQLOperation operation : operations) {
+            pick -= operation.weight();
+            if (pick < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Workload weights are inconsistent");
+    }
+
+    static LoadTestWorkload mixed(SeedData seed) {
+        return new LoadTestWorkload(List.of(
+                new GraphQLOperation("person", 30, """
+                        query Person($id: ID!) {
+                            person(id: $id) { id fullName birthDate }
+                        }
+                        """, random -> Map.of("id", pick(seed.personIds(), random))),
+                new GraphQLOperation("peopleConnection", 15, """
+                        query People {
+                            peopleConnection(first: 20) {
+                                totalCount
+                                edges { cursor node { id fullName } }
+                                pageInfo { hasNextPage endCursor }
+                            }
+                        }
+                        """, random -> Map.of()),
+                new GraphQLOperation("organizations", 10, """
+                        query Organizations($page: Int) {
+                            organizations(page: $page, size: 20) { totalElements content { id name } }
+                        }
+                        """, random -> Map.of("page", random.nextInt(10))),
+                new GraphQLOperation("partyRelationships", 20, """
+                        query Relationships($partyId: ID!) {
+                            partyRelationships(partyId: $partyId, size: 20) {
+                                totalElements
+                                content {
+                                    id fromDate isActive
+                                    fromParty { id }
+                                    toParty { id }
+                                    relationshipType { name }
+                                }
+                            }
+                        }
+                        """, random -> Map.of("partyId", pick(seed.partyIds(), random))),
+                new GraphQLOperation("createPerson", 10, """
+                        mutation CreatePerson($input: CreatePersonInput!) {
+                            createPerson(input: $input) { id }
+                        }
+                        """, random -> Map.of("input", Map.of(
+                                "firstName", "Load",
+                                "lastName", "Test" + random.nextInt(1_000_000),
+                                "birthDate", "1980-06-15"))),
+                new GraphQLOperation("updatePerson", 10, """
+                        mutation UpdatePerson($id: ID!, $input: UpdatePersonInput!) {
+                            updatePerson(id: $id, input: $input) { id comment }
+                        }
+                        """, random -> Map.of(
+                                "id", pick(seed.personIds(), random),
+                                "input", Map.of("comment", "Updated " + random.nextInt(1_000_000)))),
+                new GraphQLOperation("addEmailToParty", 5, """
+                        mutation AddEmail($input: AddEmailInput!) {
+                            addEmailToParty(input: $input) { id }
+                        }
+                        """, random -> Map.of("input", Map.of(
+                                "partyId", pick(seed.partyIds(), random),
+                                "emailAddress", "load" + random.nextInt(1_000_000) + "@loadtest.example.com")))));
+    }
+
+    private static String pick(List<UUID> ids, SplittableRandom random) {
+        return ids.get(random.nextInt(ids.size())).toString();
+    }
+}
@@ -0,0 +1,26 @@
+package org.erp_microservices.peopleandorganizations.api.loadtest;
+
+import org.erp_microservices.peopleandorganizations.api.TestcontainersConfiguration;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.cloud.vault.enabled=false",
+        "spring.cloud.config.enabled=false",
+        "spring.profiles.active=test",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.erp_microservices=WARN",
+        "spring.threads.virtual.enabled=false",
+        ThroughputLoadTest.UNLIMITED_ADMISSION
+    })
+@Import(TestcontainersConfiguration.class)
+@Tag("loadtest")
+public class PlatformThreadThroughputLoadTest extends ThroughputLoadTest {
+
+    @Override
+    String threads() {
+        return "platform-threads";
+    }
+}
@@ -0,0 +1,51 @@
+package org.erp_microservices.peopleandorganizations.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of the mixed workload at a thousand concurrent clients ({@code loadtest.throughputConcurrency}).
+ * Subclasses start the application with platform or virtual threads and report to
+ * {@code throughput-<threads>.json} next to the baseline, so the two runs can be compared side by side.
+ * Admission control is given an effectively unlimited budget so it does not mask the threading model.
+ */
+abstract class ThroughputLoadTest {
+
+    static final String UNLIMITED_ADMISSION = "query-limits.concurrent-cost=1000000000";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    abstract String threads();
+
+    @Test
+    void throughputAtThousandClients() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties()
+                .withConcurrency(Integer.getInteger("loadtest.throughputConcurrency", 1_000))
+                .withReportFile("throughput-" + threads() + ".json");
+
+        LoadTestReport report = new LoadTestRunner(entityManager, entityManagerFactory, transactionManager,
+                objectMapper, port).run(settings);
+
+        assertThat(report.totals().requests()).isPositive();
+    }
+}
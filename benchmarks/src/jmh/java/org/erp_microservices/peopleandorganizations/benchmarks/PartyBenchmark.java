@@ -0,0 +1,109 @@
+package org.erp_microservices.peopleandorganizations.benchmarks;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.NameType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyName;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRole;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyRoleType;
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The party accessors that GraphQL field resolution calls for every party in a response. The person
+ * carries {@code roleCount} roles and names, half of them expired, and the role or name type being
+ * looked up is the last one added so the whole collection is scanned.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PartyBenchmark {
+
+    @Param({"2", "8", "32"})
+    private int roleCount;
+
+    private Person person;
+    private PartyRoleType lastRoleType;
+    private NameType lastNameType;
+    private PartyRole activeRole;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate today = LocalDate.now();
+        person = Person.builder()
+                .id(UUID.randomUUID())
+                .title("Dr.")
+                .firstName("Jane")
+                .middleName("Q.")
+                .lastName("Public")
+                .suffix("PhD")
+                .build();
+
+        for (int i = 0; i < roleCount; i++) {
+            boolean expired = i % 2 == 1;
+
+            PartyRoleType roleType = new PartyRoleType();
+            roleType.setId(UUID.randomUUID());
+            roleType.setDescription("Role " + i);
+            person.addPartyRole(PartyRole.builder()
+                    .id(UUID.randomUUID())
+                    .roleType(roleType)
+                    .fromDate(today.minusYears(1))
+                    .thruDate(expired ? today.minusDays(1) : null)
+                    .build());
+
+            NameType nameType = NameType.builder()
+                    .id(UUID.randomUUID())
+                    .description("Name " + i)
+                    .build();
+            person.getNames().add(PartyName.builder()
+                    .id(UUID.randomUUID())
+                    .party(person)
+                    .name("Name " + i)
+                    .nameType(nameType)
+                    .fromDate(today.minusYears(1))
+                    .thruDate(expired ? today.minusDays(1) : null)
+                    .build());
+
+            lastRoleType = roleType;
+            lastNameType = nameType;
+        }
+        activeRole = person.getRoles().get(0);
+    }
+
+    @Benchmark
+    public boolean hasRole() {
+        return person.hasRole(lastRoleType);
+    }
+
+    @Benchmark
+    public PartyName getCurrentName() {
+        return person.getCurrentName(lastNameType);
+    }
+
+    @Benchmark
+    public List<PartyRole> getActiveRoles() {
+        return person.getActiveRoles();
+    }
+
+    @Benchmark
+    public String getFullName() {
+        return person.getFullName();
+    }
+
+    @Benchmark
+    public boolean partyRoleIsActive() {
+        return activeRole.isActive();
+    }
+}
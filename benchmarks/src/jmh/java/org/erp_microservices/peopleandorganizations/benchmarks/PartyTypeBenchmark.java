@@ -0,0 +1,50 @@
+package org.erp_microservices.peopleandorganizations.benchmarks;
+
+import org.erp_microservices.peopleandorganizations.api.domain.model.party.PartyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PartyType#isPerson()} and {@link PartyType#isOrganization()} walk the parent chain recursively.
+ * The leaf type sits {@code depth} levels below "Person", so isPerson matches at the root and
+ * isOrganization is the worst case that walks the whole chain without matching.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PartyTypeBenchmark {
+
+    @Param({"0", "2", "8"})
+    private int depth;
+
+    private PartyType leaf;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PartyType type = new PartyType(UUID.randomUUID(), "Person", null);
+        for (int i = 0; i < depth; i++) {
+            type = new PartyType(UUID.randomUUID(), "Person subtype " + i, type);
+        }
+        leaf = type;
+    }
+
+    @Benchmark
+    public boolean isPerson() {
+        return leaf.isPerson();
+    }
+
+    @Benchmark
+    public boolean isOrganization() {
+        return leaf.isOrganization();
+    }
+}
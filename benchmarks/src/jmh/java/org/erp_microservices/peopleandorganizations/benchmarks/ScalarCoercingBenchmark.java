@@ -0,0 +1,87 @@
+package org.erp_microservices.peopleandorganizations.benchmarks;
+
+import graphql.GraphQLContext;
+import graphql.execution.CoercedVariables;
+import graphql.language.StringValue;
+import graphql.schema.Coercing;
+import org.erp_microservices.peopleandorganizations.api.application.graphql.scalar.GraphQLScalarConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The UUID and Date coercers from {@link GraphQLScalarConfiguration}. Serialize runs for every id and
+ * date field in a response; parseValue and parseLiteral run for every argument in a request.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ScalarCoercingBenchmark {
+
+    private Coercing<?, ?> uuidCoercing;
+    private Coercing<?, ?> dateCoercing;
+
+    private UUID uuid;
+    private String uuidText;
+    private StringValue uuidLiteral;
+    private LocalDate date;
+    private String dateText;
+    private StringValue dateLiteral;
+
+    private final CoercedVariables variables = CoercedVariables.emptyVariables();
+    private final GraphQLContext context = GraphQLContext.getDefault();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GraphQLScalarConfiguration configuration = new GraphQLScalarConfiguration();
+        uuidCoercing = configuration.uuidScalar().getCoercing();
+        dateCoercing = configuration.dateScalar().getCoercing();
+
+        uuid = UUID.randomUUID();
+        uuidText = uuid.toString();
+        uuidLiteral = StringValue.of(uuidText);
+        date = LocalDate.of(2024, 2, 29);
+        dateText = date.toString();
+        dateLiteral = StringValue.of(dateText);
+    }
+
+    @Benchmark
+    public Object serializeUuid() {
+        return uuidCoercing.serialize(uuid);
+    }
+
+    @Benchmark
+    public Object parseUuidValue() {
+        return uuidCoercing.parseValue(uuidText);
+    }
+
+    @Benchmark
+    public Object parseUuidLiteral() {
+        return uuidCoercing.parseLiteral(uuidLiteral, variables, context, Locale.ROOT);
+    }
+
+    @Benchmark
+    public Object serializeDate() {
+        return dateCoercing.serialize(date);
+    }
+
+    @Benchmark
+    public Object parseDateValue() {
+        return dateCoercing.parseValue(dateText);
+    }
+
+    @Benchmark
+    public Object parseDateLiteral() {
+        return dateCoercing.parseLiteral(dateLiteral, variables, context, Locale.ROOT);
+    }
+}
@@ -0,0 +1,14 @@
+-- Support the "does the party hold this role" and "current name" checks
+-- Most roles and names are open-ended, and a party's history accumulates closed rows that these checks
+-- never want. The partial indexes hold only the open rows (thru_date IS NULL), keyed by party and type, so
+-- a check touches the party's current rows alone. Rows closed on a future date are found through the
+-- V1.12.0 (party_id, from_date, thru_date) indexes.
+
+CREATE INDEX IF NOT EXISTS idx_party_role_open
+    ON party_role (party_id, party_role_type_id)
+    INCLUDE (from_date)
+    WHERE thru_date IS NULL;
+CREATE INDEX IF NOT EXISTS idx_party_name_open
+    ON party_name (party_id, name_type_id)
+    INCLUDE (from_date)
+    WHERE thru_date IS NULL;
@@ -0,0 +1,8 @@
+-- Support paging through all relationships of a party in a single query
+-- The partyRelationships query matches either side of the relationship (from_party_id OR to_party_id)
+-- and orders by from_date, so each side gets its own index that the planner can combine with a BitmapOr
+
+CREATE INDEX IF NOT EXISTS idx_party_relationship_from_party_id
+    ON party_relationship (from_party_id, from_date DESC);
+CREATE INDEX IF NOT EXISTS idx_party_relationship_to_party_id
+    ON party_relationship (to_party_id, from_date DESC);
@@ -0,0 +1,80 @@
+-- Ranked full-text search across person, organization and party names
+-- party.search_text holds the searchable names of a party and party.search_vector its weighted
+-- tsvector (person / organization names weight A, party_name rows weight B). Both are maintained
+-- incrementally by triggers on the tables that contribute names, so a write only recomputes the
+-- document of the party it touches. The 'simple' configuration is used because names must not be
+-- stemmed or stripped of stop words.
+
+ALTER TABLE party ADD COLUMN IF NOT EXISTS search_text TEXT;
+ALTER TABLE party ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+
+CREATE OR REPLACE FUNCTION refresh_party_search_document(p_party_id UUID) RETURNS VOID AS $$
+DECLARE
+    v_primary TEXT;
+    v_names   TEXT;
+BEGIN
+    SELECT concat_ws(' ', pe.first_name, pe.middle_name, pe.last_name)
+      INTO v_primary
+      FROM person pe
+     WHERE pe.id = p_party_id;
+
+    IF v_primary IS NULL THEN
+        SELECT concat_ws(' ', o.organization_name, o.trading_name)
+          INTO v_primary
+          FROM organization o
+         WHERE o.id = p_party_id;
+    END IF;
+
+    SELECT string_agg(pn.name, ' ' ORDER BY pn.from_date)
+      INTO v_names
+      FROM party_name pn
+     WHERE pn.party_id = p_party_id
+       AND (pn.thru_date IS NULL OR pn.thru_date >= CURRENT_DATE);
+
+    UPDATE party
+       SET search_text   = nullif(concat_ws(' ', v_primary, v_names), ''),
+           search_vector = setweight(to_tsvector('simple', coalesce(v_primary, '')), 'A')
+                        || setweight(to_tsvector('simple', coalesce(v_names, '')), 'B')
+     WHERE id = p_party_id;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION party_search_document_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_TABLE_NAME = 'party_name' THEN
+        IF TG_OP = 'INSERT' THEN
+            PERFORM refresh_party_search_document(NEW.party_id);
+        ELSIF TG_OP = 'DELETE' THEN
+            PERFORM refresh_party_search_document(OLD.party_id);
+        ELSE
+            PERFORM refresh_party_search_document(OLD.party_id);
+            IF NEW.party_id IS DISTINCT FROM OLD.party_id THEN
+                PERFORM refresh_party_search_document(NEW.party_id);
+            END IF;
+        END IF;
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM refresh_party_search_document(OLD.id);
+    ELSE
+        PERFORM refresh_party_search_document(NEW.id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER person_search_document
+    AFTER INSERT OR DELETE OR UPDATE OF first_name, middle_name, last_name ON person
+    FOR EACH ROW EXECUTE FUNCTION party_search_document_trigger();
+
+CREATE TRIGGER organization_search_document
+    AFTER INSERT OR DELETE OR UPDATE OF organization_name, trading_name ON organization
+    FOR EACH ROW EXECUTE FUNCTION party_search_document_trigger();
+
+CREATE TRIGGER party_name_search_document
+    AFTER INSERT OR DELETE OR UPDATE OF name, thru_date, party_id ON party_name
+    FOR EACH ROW EXECUTE FUNCTION party_search_document_trigger();
+
+-- Backfill existing parties
+SELECT refresh_party_search_document(id) FROM party;
+
+CREATE INDEX IF NOT EXISTS idx_party_search_vector
+    ON party USING gin (search_vector);
@@ -0,0 +1,23 @@
+-- Transactional outbox for party change events
+-- Mutations insert one compact row per change in the same transaction as the change itself, so an event
+-- exists exactly when its change committed. The relay claims unpublished rows in id order with
+-- FOR UPDATE SKIP LOCKED, hands them to the configured sink and stamps published_at; the partial index
+-- keeps that scan proportional to the backlog rather than to the retained history.
+
+CREATE TABLE IF NOT EXISTS party_change_event (
+    id              BIGSERIAL PRIMARY KEY,
+    aggregate_type  VARCHAR(40) NOT NULL,
+    aggregate_id    UUID NOT NULL,
+    change_type     VARCHAR(40) NOT NULL,
+    payload         JSONB NOT NULL DEFAULT '{}'::jsonb,
+    occurred_at     TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at    TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_party_change_event_unpublished
+    ON party_change_event (id)
+    WHERE published_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_party_change_event_published_at
+    ON party_change_event (published_at)
+    WHERE published_at IS NOT NULL;